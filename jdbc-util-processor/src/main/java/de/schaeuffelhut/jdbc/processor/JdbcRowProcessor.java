@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code ResultSetMapper} and a parameter binder for every record annotated
+ * with {@code de.schaeuffelhut.jdbc.JdbcRow}.
+ *
+ * <p>The generated class references the library by name only, so this processor has no
+ * dependency on it.  See {@code JdbcRow} for the generated API.</p>
+ */
+@SupportedAnnotationTypes(JdbcRowProcessor.JDBC_ROW)
+public class JdbcRowProcessor extends AbstractProcessor
+{
+    static final String JDBC_ROW = "de.schaeuffelhut.jdbc.JdbcRow";
+    private static final String ENUM_INT_KEY = "de.schaeuffelhut.jdbc.EnumIntKey";
+    private static final String SUFFIX = "JdbcRow";
+
+    /**
+     * How a component type is read and bound.
+     *
+     * @param read      expression reading the value from {@code resultSet} and {@code columnIndex}
+     * @param parameter name of the {@code StatementParameters} factory method
+     */
+    private record Binding(String read, String parameter)
+    {
+    }
+
+    private static final Map<String, Binding> BINDINGS = new HashMap<>();
+
+    static
+    {
+        BINDINGS.put( "int", new Binding( "ResultTypes.PrimitiveInt.getInt( resultSet, columnIndex )", "Integer" ) );
+        BINDINGS.put( "long", new Binding( "ResultTypes.PrimitiveLong.getLong( resultSet, columnIndex )", "Long" ) );
+        BINDINGS.put( "double", new Binding( "ResultTypes.PrimitiveDouble.getDouble( resultSet, columnIndex )", "Double" ) );
+        BINDINGS.put( "boolean", new Binding( "ResultTypes.PrimitiveBoolean.getBoolean( resultSet, columnIndex )", "Boolean" ) );
+        BINDINGS.put( "byte", resultType( "Byte", "Byte" ) );
+        BINDINGS.put( "short", resultType( "Short", "Short" ) );
+        BINDINGS.put( "char", resultType( "Character", "Character" ) );
+        BINDINGS.put( "float", resultType( "Float", "Float" ) );
+        BINDINGS.put( "java.lang.Byte", resultType( "Byte", "Byte" ) );
+        BINDINGS.put( "java.lang.Short", resultType( "Short", "Short" ) );
+        BINDINGS.put( "java.lang.Character", resultType( "Character", "Character" ) );
+        BINDINGS.put( "java.lang.Float", resultType( "Float", "Float" ) );
+        BINDINGS.put( "java.lang.Integer", resultType( "Integer", "Integer" ) );
+        BINDINGS.put( "java.lang.Long", resultType( "Long", "Long" ) );
+        BINDINGS.put( "java.lang.Double", resultType( "Double", "Double" ) );
+        BINDINGS.put( "java.lang.Boolean", resultType( "Boolean", "Boolean" ) );
+        BINDINGS.put( "java.lang.String", resultType( "String", "String" ) );
+        BINDINGS.put( "java.math.BigDecimal", resultType( "BigDecimal", "BigDecimal" ) );
+        BINDINGS.put( "java.sql.Date", resultType( "Date", "Date" ) );
+        BINDINGS.put( "java.sql.Timestamp", resultType( "Timestamp", "Timestamp" ) );
+        BINDINGS.put( "java.time.ZonedDateTime", resultType( "ZonedDateTimeAtUtc", "ZonedDateTimeAtUtc" ) );
+        BINDINGS.put( "byte[]", resultType( "Bytes", "Bytes" ) );
+        BINDINGS.put( "org.joda.time.DateTime", resultType( "DateTime", "DateTime" ) );
+        BINDINGS.put( "org.joda.time.DateMidnight", resultType( "DateMidnight", "DateMidnight" ) );
+        BINDINGS.put( "org.joda.time.DateTimeZone", resultType( "DateTimeZone", "DateTimeZone" ) );
+        BINDINGS.put( "org.joda.time.Duration", resultType( "Duration", "DurationAsLong" ) );
+    }
+
+    private static Binding resultType(String resultType, String parameter)
+    {
+        return new Binding( "ResultTypes." + resultType + ".getResult( resultSet, columnIndex )", parameter );
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        for (TypeElement annotation : annotations)
+            for (Element element : roundEnv.getElementsAnnotatedWith( annotation ))
+                if (element.getKind() != ElementKind.RECORD)
+                    error( element, "@JdbcRow is only supported on records" );
+                else if (element.getModifiers().contains( Modifier.PRIVATE ))
+                    error( element, "@JdbcRow records must not be private" );
+                else
+                    generate( (TypeElement) element );
+        return true;
+    }
+
+    private void generate(TypeElement record)
+    {
+        final String packageName = packageOf( record ).getQualifiedName().toString();
+        final String recordName = record.getQualifiedName().toString();
+        final String className = flatName( record ) + SUFFIX;
+
+        // one line per component, and the static fields some components need
+        final List<String> reads = new ArrayList<>();
+        final List<String> parameters = new ArrayList<>();
+        final List<String> fields = new ArrayList<>();
+        for (RecordComponentElement component : record.getRecordComponents())
+        {
+            final TypeMirror type = component.asType();
+            final String accessor = "row." + component.getSimpleName() + "()";
+            final Binding binding = BINDINGS.get( typeName( type ) );
+            if (binding != null)
+            {
+                reads.add( binding.read() );
+                parameters.add( "StatementParameters." + binding.parameter() + "( " + accessor + " )" );
+            }
+            else if (isEnum( type ))
+            {
+                final String enumName = typeName( type );
+                final String field = component.getSimpleName().toString().toUpperCase( Locale.ROOT ) + "_TYPE";
+                final boolean intKey = implementsEnumIntKey( type );
+                fields.add( String.format(
+                        "private static final ResultType<%s> %s = ResultTypes.%s( %s.class );",
+                        enumName, field, intKey ? "enumByIntKey" : "enumByName", enumName ) );
+                reads.add( field + ".getResult( resultSet, columnIndex )" );
+                parameters.add( "StatementParameters." + (intKey ? "EnumByIntKey" : "EnumByName") + "( " + accessor + " )" );
+            }
+            else if (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty())
+            {
+                reads.add( "resultSet.getObject( columnIndex.next(), " + typeName( type ) + ".class )" );
+                parameters.add( "StatementParameters.Object( " + accessor + " )" );
+            }
+            else
+            {
+                error( component, "Unsupported component type " + type + " for @JdbcRow" );
+                return;
+            }
+        }
+
+        try
+        {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                    packageName.isEmpty() ? className : packageName + "." + className,
+                    record
+            );
+            try (PrintWriter out = new PrintWriter( file.openWriter() ))
+            {
+                write( out, packageName, recordName, className, fields, reads, parameters );
+            }
+        }
+        catch (IOException e)
+        {
+            error( record, "Cannot write " + className + ": " + e.getMessage() );
+        }
+    }
+
+    private static void write(
+            PrintWriter out,
+            String packageName,
+            String recordName,
+            String className,
+            List<String> fields,
+            List<String> reads,
+            List<String> parameters
+    )
+    {
+        if (!packageName.isEmpty())
+        {
+            out.println( "package " + packageName + ";" );
+            out.println();
+        }
+        out.println( "import de.schaeuffelhut.jdbc.ColumnIndex;" );
+        out.println( "import de.schaeuffelhut.jdbc.ResultSetMapper;" );
+        out.println( "import de.schaeuffelhut.jdbc.ResultType;" );
+        out.println( "import de.schaeuffelhut.jdbc.ResultTypes;" );
+        out.println( "import de.schaeuffelhut.jdbc.StatementInParameter;" );
+        out.println( "import de.schaeuffelhut.jdbc.StatementParameters;" );
+        out.println();
+        out.println( "import java.sql.ResultSet;" );
+        out.println( "import java.sql.SQLException;" );
+        out.println();
+        out.println( "/**" );
+        out.println( " * Maps and binds {@link " + recordName + "} in component order." );
+        out.println( " */" );
+        out.println( "@javax.annotation.processing.Generated(\"" + JdbcRowProcessor.class.getName() + "\")" );
+        out.println( "public final class " + className + " implements ResultSetMapper<" + recordName + ">" );
+        out.println( "{" );
+        out.println( "    public static final " + className + " MAPPER = new " + className + "();" );
+        for (String field : fields)
+            out.println( "    " + field );
+        out.println();
+        out.println( "    private " + className + "()" );
+        out.println( "    {" );
+        out.println( "    }" );
+        out.println();
+        out.println( "    @Override" );
+        out.println( "    public " + recordName + " map(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException" );
+        out.println( "    {" );
+        out.println( "        return new " + recordName + "(" );
+        printList( out, reads );
+        out.println( "        );" );
+        out.println( "    }" );
+        out.println();
+        out.println( "    public static StatementInParameter[] parameters(" + recordName + " row)" );
+        out.println( "    {" );
+        out.println( "        return new StatementInParameter[]{" );
+        printList( out, parameters );
+        out.println( "        };" );
+        out.println( "    }" );
+        out.println( "}" );
+    }
+
+    private static void printList(PrintWriter out, List<String> expressions)
+    {
+        for (int i = 0; i < expressions.size(); i++)
+            out.println( "                " + expressions.get( i ) + (i + 1 < expressions.size() ? "," : "") );
+    }
+
+    /**
+     * Returns the name of {@code type} without type annotations, {@code null} for unsupported kinds.
+     */
+    private static String typeName(TypeMirror type)
+    {
+        if (type.getKind().isPrimitive())
+            return type.getKind().name().toLowerCase( Locale.ROOT );
+        else if (type.getKind() == TypeKind.ARRAY && ((ArrayType) type).getComponentType().getKind() == TypeKind.BYTE)
+            return "byte[]";
+        else if (type.getKind() == TypeKind.DECLARED)
+            return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        else
+            return null;
+    }
+
+    private boolean isEnum(TypeMirror type)
+    {
+        return type.getKind() == TypeKind.DECLARED
+               && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM;
+    }
+
+    private boolean implementsEnumIntKey(TypeMirror type)
+    {
+        TypeElement enumIntKey = processingEnv.getElementUtils().getTypeElement( ENUM_INT_KEY );
+        return enumIntKey != null && processingEnv.getTypeUtils().isAssignable( type, enumIntKey.asType() );
+    }
+
+    private static PackageElement packageOf(Element element)
+    {
+        while (element.getKind() != ElementKind.PACKAGE)
+            element = element.getEnclosingElement();
+        return (PackageElement) element;
+    }
+
+    private static String flatName(TypeElement type)
+    {
+        String name = type.getSimpleName().toString();
+        for (Element e = type.getEnclosingElement(); e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement())
+            name = e.getSimpleName() + "_" + name;
+        return name;
+    }
+
+    private void error(Element element, String message)
+    {
+        processingEnv.getMessager().printMessage( Diagnostic.Kind.ERROR, message, element );
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory H2 database shared by the benchmarks.
+ *
+ * <p>Uses the same kind of database as {@code H2StatementUtil} in the tests, but keeps a
+ * single connection open for the whole trial, so the numbers reflect the library and the
+ * driver rather than connection setup.</p>
+ *
+ * <p>The table {@code bench_row} has an {@code id} and eight payload columns
+ * {@code c1 .. c8} of alternating type ({@code BIGINT, VARCHAR, INT, DOUBLE}).
+ * Column names are quoted lower case so they match the field names of {@link RowBean}.</p>
+ */
+final class BenchmarkDatabase implements AutoCloseable
+{
+    static final int MAX_COLUMNS = 8;
+
+    static final ResultType<?>[] COLUMN_TYPES = {
+            ResultTypes.Long, ResultTypes.String, ResultTypes.Integer, ResultTypes.Double,
+            ResultTypes.Long, ResultTypes.String, ResultTypes.Integer, ResultTypes.Double
+    };
+
+    final Connection connection;
+    final StatementUtil statementUtil;
+
+    BenchmarkDatabase(String name) throws SQLException
+    {
+        this.connection = DriverManager.getConnection( "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "" );
+        this.statementUtil = AbstractStatementUtil.createStatementUtilFor( () -> connection );
+    }
+
+    void createRowTable(int rowCount)
+    {
+        statementUtil.execute( "DROP TABLE IF EXISTS bench_row" );
+        statementUtil.execute(
+                """
+                CREATE TABLE bench_row (
+                    id   INT PRIMARY KEY,
+                    "c1" BIGINT,
+                    "c2" VARCHAR(64),
+                    "c3" INT,
+                    "c4" DOUBLE,
+                    "c5" BIGINT,
+                    "c6" VARCHAR(64),
+                    "c7" INT,
+                    "c8" DOUBLE
+                )
+                """
+        );
+
+        List<StatementInParameter[]> rows = new ArrayList<>( rowCount );
+        for (int i = 1; i <= rowCount; i++)
+            rows.add( row( i ) );
+        statementUtil.executeBatch(
+                """
+                INSERT INTO bench_row (id, "c1", "c2", "c3", "c4", "c5", "c6", "c7", "c8")
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+                rows
+        );
+    }
+
+    static StatementInParameter[] row(int id)
+    {
+        return new StatementInParameter[]{
+                StatementParameters.Integer( id ),
+                StatementParameters.Long( id * 31L ),
+                StatementParameters.String( "name-" + id ),
+                StatementParameters.Integer( id % 1000 ),
+                StatementParameters.Double( id / 7d ),
+                StatementParameters.Long( id * 17L ),
+                StatementParameters.String( "value-" + id ),
+                StatementParameters.Integer( id % 10 ),
+                StatementParameters.Double( id / 3d )
+        };
+    }
+
+    /**
+     * Returns {@code SELECT "c1", ..., "cN" FROM bench_row WHERE id <= ?}.
+     */
+    static String selectColumns(int columnCount)
+    {
+        StringBuilder sql = new StringBuilder( "SELECT " );
+        for (int i = 1; i <= columnCount; i++)
+        {
+            if (i > 1)
+                sql.append( ", " );
+            sql.append( "\"c" ).append( i ).append( '"' );
+        }
+        return sql.append( " FROM bench_row WHERE id <= ?" ).toString();
+    }
+
+    static ResultType<?>[] columnTypes(int columnCount)
+    {
+        ResultType<?>[] resultTypes = new ResultType<?>[columnCount];
+        System.arraycopy( COLUMN_TYPES, 0, resultTypes, 0, columnCount );
+        return resultTypes;
+    }
+
+    @Override
+    public void close() throws SQLException
+    {
+        connection.close();
+    }
+
+    public record Row3(Long c1, String c2, Integer c3)
+    {
+    }
+
+    public record Row8(Long c1, String c2, Integer c3, Double c4, Long c5, String c6, Integer c7, Double c8)
+    {
+    }
+
+    record PrimitiveRow3(long c1, String c2, int c3)
+    {
+    }
+
+    record PrimitiveRow8(long c1, String c2, int c3, double c4, long c5, String c6, int c7, double c8)
+    {
+    }
+
+    public static class RowBean
+    {
+        Long c1;
+        String c2;
+        Integer c3;
+        Double c4;
+        Long c5;
+        String c6;
+        Integer c7;
+        Double c8;
+    }
+}
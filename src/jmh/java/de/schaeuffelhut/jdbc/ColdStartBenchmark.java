@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first use of {@link ResultSetMappers} in a fresh JVM, i.e. class loading,
+ * verification and initialization, which serverless functions pay on every cold start.
+ *
+ * <p>Every measurement runs in its own fork, so the result is the distribution over forks.
+ * {@link ResultTypes} is touched first, so that its initialization is not attributed to the mappers.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class ColdStartBenchmark
+{
+    private ResultType<Long> resultType;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        resultType = ResultTypes.Long;
+    }
+
+    @Benchmark
+    public ResultSetMapper<Long> firstScalar()
+    {
+        return ResultSetMappers.scalar( resultType );
+    }
+
+    @Benchmark
+    public ResultSetMapper<Long> firstObject()
+    {
+        return ResultSetMappers.object( (a, b, c) -> a, resultType, resultType, resultType );
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link StatementUtil#execute(String, StatementInParameter...)} and
+ * {@link StatementUtil#executeBatch(String, Iterable)}.
+ *
+ * <p>Both statements are {@code MERGE}s keyed by {@code id}, so repeated invocations
+ * overwrite the same rows and the table does not grow during a trial.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecuteBenchmark
+{
+    private static final String MERGE_SQL = """
+            MERGE INTO bench_row (id, "c1", "c2", "c3", "c4", "c5", "c6", "c7", "c8")
+            KEY (id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    @Param({"1", "100", "10000"})
+    int batchSize;
+
+    private BenchmarkDatabase database;
+    private List<StatementInParameter[]> batch;
+    private int id;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException
+    {
+        database = new BenchmarkDatabase( "execute" );
+        database.createRowTable( batchSize );
+
+        batch = new ArrayList<>( batchSize );
+        for (int i = 1; i <= batchSize; i++)
+            batch.add( BenchmarkDatabase.row( i ) );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException
+    {
+        database.close();
+    }
+
+    /**
+     * A single row statement; independent of {@code batchSize}.
+     */
+    @Benchmark
+    public int execute()
+    {
+        id = id % batchSize + 1;
+        return database.statementUtil.execute( MERGE_SQL, BenchmarkDatabase.row( id ) );
+    }
+
+    @Benchmark
+    public int[] executeBatch()
+    {
+        return database.statementUtil.executeBatch( MERGE_SQL, batch );
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link StatementUtil#process} with a hand written {@link ResultSetProcessor}.
+ *
+ * <p>This is the plain JDBC baseline for {@link SelectIntoBenchmark}: the same query,
+ * but every column is read with {@code getObject} and no mapper is involved.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessBenchmark
+{
+    @Param({"1", "100", "10000"})
+    int rowCount;
+
+    @Param({"3", "8"})
+    int columnCount;
+
+    private BenchmarkDatabase database;
+    private String sql;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException
+    {
+        database = new BenchmarkDatabase( "process" );
+        database.createRowTable( rowCount );
+        sql = BenchmarkDatabase.selectColumns( columnCount );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException
+    {
+        database.close();
+    }
+
+    @Benchmark
+    public int process(Blackhole blackhole)
+    {
+        return database.statementUtil.process(
+                sql,
+                resultSet -> {
+                    int rows = 0;
+                    while (resultSet.next())
+                    {
+                        for (int i = 1; i <= columnCount; i++)
+                            blackhole.consume( resultSet.getObject( i ) );
+                        rows++;
+                    }
+                    return rows;
+                },
+                StatementParameters.Integer( rowCount )
+        );
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures what the row loops of the readers allocate per row.
+ *
+ * <p>Every benchmark reads {@value #ROWS} rows and reports per row, so {@code gc.alloc.rate.norm}
+ * of the {@code gc} profiler is in bytes/row.  The mapper reads a {@code BIGINT} without boxing and
+ * returns a constant, so it allocates nothing itself; any difference to {@code process}, which reads
+ * the same column with plain JDBC, is allocated by the row loop.</p>
+ *
+ * <pre>
+ *   ./gradlew jmh -PjmhIncludes=RowLoopAllocationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+@OperationsPerInvocation(RowLoopAllocationBenchmark.ROWS)
+public class RowLoopAllocationBenchmark
+{
+    static final int ROWS = 10_000;
+
+    private static final Object ROW = new Object();
+
+    private BenchmarkDatabase database;
+    private String sql;
+    private ResultSetMapper<Object> mapper;
+    private Consumer<Object> consumer;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) throws SQLException
+    {
+        database = new BenchmarkDatabase( "rowLoopAllocation" );
+        database.createRowTable( ROWS );
+        sql = BenchmarkDatabase.selectColumns( 1 );
+        mapper = (resultSet, columnIndex) -> {
+            blackhole.consume( ResultTypes.PrimitiveLong.getLong( resultSet, columnIndex ) );
+            return ROW;
+        };
+        consumer = blackhole::consume;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException
+    {
+        database.close();
+    }
+
+    @Benchmark
+    public int process(Blackhole blackhole)
+    {
+        return database.statementUtil.process(
+                sql,
+                resultSet -> {
+                    int rows = 0;
+                    while (resultSet.next())
+                    {
+                        blackhole.consume( resultSet.getLong( 1 ) );
+                        rows++;
+                    }
+                    return rows;
+                },
+                StatementParameters.Integer( ROWS )
+        );
+    }
+
+    @Benchmark
+    public Object readManyIntoConsumer()
+    {
+        return database.statementUtil.selectInto(
+                sql,
+                ResultSetReaders.readMany( consumer ),
+                mapper,
+                StatementParameters.Integer( ROWS )
+        );
+    }
+
+    @Benchmark
+    public long readManyIntoCollector()
+    {
+        return database.statementUtil.selectInto(
+                sql,
+                ResultSetReaders.readMany( Collectors.counting() ),
+                mapper,
+                StatementParameters.Integer( ROWS )
+        );
+    }
+
+    @Benchmark
+    public long stream()
+    {
+        try (Stream<Object> rows = database.statementUtil.stream( sql, mapper, StatementParameters.Integer( ROWS ) ))
+        {
+            return rows.count();
+        }
+    }
+}
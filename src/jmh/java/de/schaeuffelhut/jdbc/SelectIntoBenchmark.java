@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import de.schaeuffelhut.jdbc.BenchmarkDatabase.PrimitiveRow3;
+import de.schaeuffelhut.jdbc.BenchmarkDatabase.PrimitiveRow8;
+import de.schaeuffelhut.jdbc.BenchmarkDatabase.Row3;
+import de.schaeuffelhut.jdbc.BenchmarkDatabase.Row8;
+import de.schaeuffelhut.jdbc.BenchmarkDatabase.RowBean;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link StatementUtil#selectInto} per query, varying the number of rows,
+ * the number of columns and the {@link ResultSetMappers} style.
+ *
+ * <p>{@code scalar} always reads a single column, whatever {@code columnCount} says.
+ * {@code row} reads the numeric columns as primitives, compare with {@code object}.
+ * Compare against {@link ProcessBenchmark} for the cost of plain JDBC access.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SelectIntoBenchmark
+{
+    @Param({"1", "100", "10000"})
+    int rowCount;
+
+    @Param({"3", "8"})
+    int columnCount;
+
+    @Param({"scalar", "tuple", "map", "object", "row", "objectViaReflection", "objectViaConstructor", "record"})
+    String mapperStyle;
+
+    private BenchmarkDatabase database;
+    private String sql;
+    private ResultSetMapper<?> mapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException
+    {
+        database = new BenchmarkDatabase( "selectInto" );
+        database.createRowTable( rowCount );
+
+        int columns = mapperStyle.equals( "scalar" ) ? 1 : columnCount;
+        sql = BenchmarkDatabase.selectColumns( columns );
+        mapper = createMapper( mapperStyle, columns );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException
+    {
+        database.close();
+    }
+
+    static ResultSetMapper<?> createMapper(String mapperStyle, int columnCount)
+    {
+        ResultType<?>[] resultTypes = BenchmarkDatabase.columnTypes( columnCount );
+        return switch (mapperStyle)
+        {
+            case "scalar" -> ResultSetMappers.scalar( ResultTypes.Long );
+            case "tuple" -> ResultSetMappers.tuple( resultTypes );
+            case "map" -> ResultSetMappers.map( resultTypes );
+            case "object" -> columnCount == 3 ? objectMapper3() : objectMapper8();
+            case "row" -> columnCount == 3 ? rowMapper3() : rowMapper8();
+            case "objectViaReflection" -> ResultSetMappers.objectViaReflection( RowBean.class, resultTypes );
+            case "objectViaConstructor" -> columnCount == 3
+                    ? ResultSetMappers.objectViaConstructor( Row3.class, resultTypes )
+                    : ResultSetMappers.objectViaConstructor( Row8.class, resultTypes );
+            case "record" -> columnCount == 3
+                    ? ResultSetMappers.record( PrimitiveRow3.class )
+                    : ResultSetMappers.record( PrimitiveRow8.class );
+            default -> throw new IllegalArgumentException( mapperStyle );
+        };
+    }
+
+    private static ResultSetMapper<Row3> objectMapper3()
+    {
+        return ResultSetMappers.object( Row3::new, ResultTypes.Long, ResultTypes.String, ResultTypes.Integer );
+    }
+
+    private static ResultSetMapper<Row8> objectMapper8()
+    {
+        return ResultSetMappers.object(
+                Row8::new,
+                ResultTypes.Long, ResultTypes.String, ResultTypes.Integer, ResultTypes.Double,
+                ResultTypes.Long, ResultTypes.String, ResultTypes.Integer, ResultTypes.Double
+        );
+    }
+
+    private static ResultSetMapper<PrimitiveRow3> rowMapper3()
+    {
+        return ResultSetMappers.row( row -> new PrimitiveRow3(
+                row.getLong( ResultTypes.PrimitiveLong ),
+                row.get( ResultTypes.String ),
+                row.getInt( ResultTypes.PrimitiveInt )
+        ) );
+    }
+
+    private static ResultSetMapper<PrimitiveRow8> rowMapper8()
+    {
+        return ResultSetMappers.row( row -> new PrimitiveRow8(
+                row.getLong( ResultTypes.PrimitiveLong ),
+                row.get( ResultTypes.String ),
+                row.getInt( ResultTypes.PrimitiveInt ),
+                row.getDouble( ResultTypes.PrimitiveDouble ),
+                row.getLong( ResultTypes.PrimitiveLong ),
+                row.get( ResultTypes.String ),
+                row.getInt( ResultTypes.PrimitiveInt ),
+                row.getDouble( ResultTypes.PrimitiveDouble )
+        ) );
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<?> selectInto()
+    {
+        return database.statementUtil.selectInto(
+                sql,
+                ResultSetReaders.readMany(),
+                (ResultSetMapper<Object>) mapper,
+                StatementParameters.Integer( rowCount )
+        );
+    }
+}
@@ -15,6 +15,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static de.schaeuffelhut.jdbc.Utils.asIterable;
 
@@ -74,6 +75,125 @@ public abstract class AbstractStatementUtil implements StatementUtil
 {
     private static final Logger LOGGER = LoggerFactory.getLogger( AbstractStatementUtil.class );
 
+    private final StatementCache statementCache;
+    private final ResultColumnsCache resultColumnsCache;
+
+    /**
+     * Creates an instance which prepares a new statement for each operation.
+     */
+    protected AbstractStatementUtil()
+    {
+        this( 0 );
+    }
+
+    /**
+     * Creates an instance which keeps up to {@code statementCacheSize} idle
+     * {@link PreparedStatement}s per {@link Connection} for reuse.
+     *
+     * <p>Statements are keyed by their final SQL (after parameter expansion) and
+     * {@link GeneratedKeys} mode.  The cache only pays off if {@link #execute(Transactional, String, String)}
+     * hands out the same physical connection repeatedly, e.g. a long-lived or a pooled connection
+     * whose pool does not cache statements itself.  The cache holds the connections it has statements
+     * for until {@link #closeCachedStatements(Connection)} is called, which subclasses must do before
+     * closing a connection or returning it to a pool.  Statements of connections closed without it are
+     * dropped once statements are cached for another connection.</p>
+     *
+     * @param statementCacheSize maximum number of cached statements per connection, {@code 0} disables caching
+     * @throws IllegalArgumentException if {@code statementCacheSize} is negative
+     */
+    protected AbstractStatementUtil(int statementCacheSize)
+    {
+        this( statementCacheSize, 0 );
+    }
+
+    /**
+     * Creates an instance which caches statements as described for {@link #AbstractStatementUtil(int)}
+     * and the result set metadata of up to {@code metaDataCacheSize} queries.
+     *
+     * <p>The column labels, names and types of a query are read once and reused by the mappers
+     * for later executions of the same final SQL, which saves the {@link java.sql.ResultSetMetaData}
+     * calls that are expensive with some drivers.  The cached metadata becomes stale if the schema
+     * changes, e.g. if a column selected by {@code SELECT *} is added; call
+     * {@link #invalidateResultSetMetaData()} after such changes.</p>
+     *
+     * @param statementCacheSize maximum number of cached statements per connection, {@code 0} disables caching
+     * @param metaDataCacheSize  maximum number of queries whose metadata is cached, {@code 0} disables caching
+     * @throws IllegalArgumentException if {@code statementCacheSize} or {@code metaDataCacheSize} is negative
+     */
+    protected AbstractStatementUtil(int statementCacheSize, int metaDataCacheSize)
+    {
+        if (statementCacheSize < 0)
+            throw new IllegalArgumentException( "statementCacheSize must not be negative: " + statementCacheSize );
+        if (metaDataCacheSize < 0)
+            throw new IllegalArgumentException( "metaDataCacheSize must not be negative: " + metaDataCacheSize );
+        this.statementCache = statementCacheSize == 0 ? null : new StatementCache( statementCacheSize );
+        this.resultColumnsCache = metaDataCacheSize == 0 ? null : new ResultColumnsCache( metaDataCacheSize );
+    }
+
+    /**
+     * Hit, miss and eviction counts of the statement cache.
+     *
+     * @param hits      number of statements reused from the cache
+     * @param misses    number of statements prepared because none was cached
+     * @param evictions number of statements closed because the cache was full
+     * @see #getStatementCacheStatistics()
+     */
+    public record StatementCacheStatistics(long hits, long misses, long evictions)
+    {
+    }
+
+    /**
+     * Returns the statistics of the statement cache, all zero if caching is disabled.
+     *
+     * @return the current statistics
+     * @see #AbstractStatementUtil(int)
+     */
+    public StatementCacheStatistics getStatementCacheStatistics()
+    {
+        if (statementCache == null)
+            return new StatementCacheStatistics( 0, 0, 0 );
+        return new StatementCacheStatistics( statementCache.hits(), statementCache.misses(), statementCache.evictions() );
+    }
+
+    /**
+     * Closes all cached statements of the connection.
+     *
+     * <p>Call before closing a connection or returning it to a pool.  Does nothing if
+     * caching is disabled.</p>
+     *
+     * @param connection the connection
+     */
+    protected void closeCachedStatements(Connection connection)
+    {
+        if (statementCache != null)
+            statementCache.invalidate( connection );
+    }
+
+    /**
+     * Drops the cached result set metadata, so it is read again on the next execution of each query.
+     *
+     * <p>Call after schema changes.  Does nothing if caching is disabled.</p>
+     *
+     * @see #AbstractStatementUtil(int, int)
+     */
+    public void invalidateResultSetMetaData()
+    {
+        if (resultColumnsCache != null)
+            resultColumnsCache.invalidate();
+    }
+
+    /**
+     * Binds {@code resultSetMapper} to the result of the final {@code sql},
+     * passing the cached metadata to the mappers which can use it.
+     */
+    final <T> ResultSetMapper<T> bind(ResultSetMapper<T> resultSetMapper, String sql, ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+    {
+        if (resultSetMapper instanceof ResultColumnsMapper<T> columnsMapper)
+            return columnsMapper.bind( resultSet, ResultColumnsCache.columnsOf( resultColumnsCache, sql, resultSet ), columnIndex );
+        else
+            return resultSetMapper.bind( resultSet, columnIndex );
+    }
+
     /**
      * Functional interface for executing JDBC logic within a {@link Connection}.
      *
@@ -162,12 +282,57 @@ public abstract class AbstractStatementUtil implements StatementUtil
      */
     protected abstract RuntimeException translate(String task, String sql, SQLException e);
 
+    /**
+     * Translates a {@link SQLException} with {@link #translate(String, String, SQLException)},
+     * wrapping it in a {@link RuntimeException} if not translated.
+     */
+    final RuntimeException translateOrWrap(String task, String sql, SQLException e)
+    {
+        final RuntimeException translated = translate( task, sql, e );
+        return translated != null ? translated : new RuntimeException( e );
+    }
+
+    /**
+     * Obtains a {@link Connection} for an operation which outlives a single call,
+     * like {@link #stream(String, ResultSetMapper, StatementInParameter...) stream}.
+     *
+     * <p>The connection is handed back with {@link #releaseConnection(Connection, String, String)}
+     * when the operation completes.  The default implementation returns {@code null}, in which case
+     * {@code stream} throws {@link UnsupportedOperationException}; subclasses supporting streams
+     * override both methods.</p>
+     *
+     * @param task short description of the operation (e.g., "stream")
+     * @param sql  the SQL string
+     * @return an open connection, or {@code null} if connections cannot outlive a single call
+     * @throws SQLException if no connection can be obtained
+     */
+    protected Connection openConnection(String task, String sql) throws SQLException
+    {
+        return null;
+    }
+
+    /**
+     * Releases a connection obtained from {@link #openConnection(String, String)}.
+     *
+     * <p>The default implementation closes the cached statements and the connection.</p>
+     *
+     * @param connection the connection
+     * @param task       short description of the operation
+     * @param sql        the SQL string
+     * @throws SQLException if closing fails
+     */
+    protected void releaseConnection(Connection connection, String task, String sql) throws SQLException
+    {
+        closeCachedStatements( connection );
+        connection.close();
+    }
+
     /**
      * Creates a minimal {@link StatementUtil} that uses the supplied connection provider.
      *
      * <p>The returned instance: </p>
      * <ul>
-     *   <li>Calls {@code connectionSupplier.get()} for each operation</li>
+     *   <li>Calls {@code connectionSupplier.get()} for each operation, including {@link #openConnection(String, String)}</li>
      *   <li>Does <strong>not</strong> manage transactions or close connections</li>
      *   <li>Does <strong>not</strong> translate SQLExceptions (returns {@code null})</li>
      * </ul>
@@ -179,7 +344,23 @@ public abstract class AbstractStatementUtil implements StatementUtil
      */
     public static StatementUtil createStatementUtilFor(Supplier<Connection> connectionSupplier)
     {
-        return new AbstractStatementUtil()
+        return createStatementUtilFor( connectionSupplier, 0 );
+    }
+
+    /**
+     * Creates a minimal {@link StatementUtil} like {@link #createStatementUtilFor(Supplier)},
+     * caching up to {@code statementCacheSize} prepared statements per connection.
+     * The statements stay cached across calls; call {@link #closeCachedStatements(Connection)}
+     * before closing a connection, or rely on statements of closed connections being dropped.
+     *
+     * @param connectionSupplier provides a {@link Connection} per call
+     * @param statementCacheSize maximum number of cached statements per connection, {@code 0} disables caching
+     * @return a basic {@link StatementUtil} instance
+     * @see #AbstractStatementUtil(int)
+     */
+    public static AbstractStatementUtil createStatementUtilFor(Supplier<Connection> connectionSupplier, int statementCacheSize)
+    {
+        return new AbstractStatementUtil( statementCacheSize )
         {
             @Override
             protected <R, E extends Exception> R execute(Transactional<R, E> transactional, String task, String sql)
@@ -203,6 +384,18 @@ public abstract class AbstractStatementUtil implements StatementUtil
             {
                 return null;
             }
+
+            @Override
+            protected Connection openConnection(String task, String sql)
+            {
+                return connectionSupplier.get();
+            }
+
+            @Override
+            protected void releaseConnection(Connection connection, String task, String sql)
+            {
+                // connection lifecycle is managed externally
+            }
         };
     }
 
@@ -233,16 +426,38 @@ public abstract class AbstractStatementUtil implements StatementUtil
     {
         return execute(
                 sql,
-                resultSet -> {
+                (lease, resultSet) -> {
                     ColumnIndex idx = ColumnIndex.create( 1 );
-                    resultSetMapper.initialize( resultSet, idx );
-                    return resultSetReader.readResult( resultSet, idx, resultSetMapper );
+                    return resultSetReader.readResult( resultSet, idx, bind( resultSetMapper, lease.sql(), resultSet, idx ) );
                 },
                 parameters,
                 "selectInto"
         );
     }
 
+    @Override
+    public final <T> Stream<T> stream(
+            String sql,
+            ResultSetMapper<T> resultSetMapper,
+            StatementInParameter... parameters
+    )
+    {
+        return stream( sql, resultSetMapper, asIterable( parameters ) );
+    }
+
+    @Override
+    public final <T> Stream<T> stream(
+            String sql,
+            ResultSetMapper<T> resultSetMapper,
+            Iterable<StatementInParameter> parameters
+    )
+    {
+        if (LOGGER.isTraceEnabled())
+            LOGGER.trace( "{}: {}", "stream", sql );
+
+        return ResultSetStream.open( this, statementCache, sql, resultSetMapper, parameters );
+    }
+
     @Override
     public final <T> T process(
             String sql,
@@ -260,21 +475,30 @@ public abstract class AbstractStatementUtil implements StatementUtil
             Iterable<StatementInParameter> parameters
     )
     {
-        return execute( sql, resultSetProcessor, parameters, "process" );
+        return execute( sql, (lease, resultSet) -> resultSetProcessor.process( resultSet ), parameters, "process" );
+    }
+
+    /**
+     * Processes the result of a query, knowing the statement it was produced by.
+     */
+    @FunctionalInterface
+    private interface QueryProcessor<V>
+    {
+        V process(StatementCache.Lease lease, ResultSet resultSet) throws SQLException;
     }
 
-    private <V> V execute(String sql, ResultSetProcessor<V> resultSetProcessor, Iterable<StatementInParameter> parameters, String task)
+    private <V> V execute(String sql, QueryProcessor<V> queryProcessor, Iterable<StatementInParameter> parameters, String task)
     {
         if (LOGGER.isTraceEnabled())
             LOGGER.trace( "{}: {}", task, sql );
 
         return execute(
                 connection -> {
-                    try (PreparedStatement stmt = PreparedStatementUtil.prepareStatement( connection, sql, parameters );
-                         ResultSet resultSet = stmt.executeQuery()
+                    try (StatementCache.Lease lease = PreparedStatementUtil.prepareStatement( statementCache, connection, sql, null, parameters );
+                         ResultSet resultSet = lease.statement().executeQuery()
                     )
                     {
-                        return resultSetProcessor.process( resultSet );
+                        return queryProcessor.process( lease, resultSet );
                     }
                 },
                 task,
@@ -282,6 +506,16 @@ public abstract class AbstractStatementUtil implements StatementUtil
         );
     }
 
+    /*
+     * prepared queries
+     */
+
+    @Override
+    public final PreparedQuery prepare(String sql, StatementInParameterType<?>... types)
+    {
+        return new PreparedQuery( this, statementCache, sql, types );
+    }
+
     /*
      * inserts / updates
      */
@@ -295,7 +529,7 @@ public abstract class AbstractStatementUtil implements StatementUtil
     @Override
     public final int execute(String sql, Iterable<StatementInParameter> parameters)
     {
-        return execute( connection -> PreparedStatementUtil.execute( connection, sql, parameters ), "execute", sql );
+        return execute( connection -> PreparedStatementUtil.execute( statementCache, connection, sql, parameters ), "execute", sql );
     }
 
     @Override
@@ -307,7 +541,7 @@ public abstract class AbstractStatementUtil implements StatementUtil
     @Override
     public final <T> T execute(GeneratedKeys generatedKeys, StatementProperty<T> statementProperty, String sql, Iterable<StatementInParameter> parameters)
     {
-        return execute( connection -> PreparedStatementUtil.execute( connection, generatedKeys, statementProperty, sql, parameters ), "execute", sql );
+        return execute( connection -> PreparedStatementUtil.execute( statementCache, connection, generatedKeys, statementProperty, sql, parameters ), "execute", sql );
     }
 
     @Override
@@ -319,7 +553,7 @@ public abstract class AbstractStatementUtil implements StatementUtil
     @Override
     public final Object[] execute(GeneratedKeys generatedKeys, StatementProperty<?>[] properties, String sql, Iterable<StatementInParameter> parameters)
     {
-        return execute( connection -> PreparedStatementUtil.execute( connection, generatedKeys, properties, sql, parameters ), "execute", sql );
+        return execute( connection -> PreparedStatementUtil.execute( statementCache, connection, generatedKeys, properties, sql, parameters ), "execute", sql );
     }
 
     /*
@@ -329,16 +563,29 @@ public abstract class AbstractStatementUtil implements StatementUtil
     @Override
     public final int[] executeBatch(String sql, Iterable<StatementInParameter[]> parameters)
     {
-        return execute( connection -> PreparedStatementUtil.executeBatch( connection, sql, parameters ), "executeBatch", sql );
+        return execute( connection -> PreparedStatementUtil.executeBatch( statementCache, connection, sql, parameters ), "executeBatch", sql );
     }
 
     @Override
     public final <T> T executeBatch(GeneratedKeys generatedKeys, StatementProperty<T> statementProperty, String sql, Iterable<StatementInParameter[]> parameters)
     {
-        return execute( connection -> PreparedStatementUtil.executeBatch( connection, generatedKeys, statementProperty, sql, parameters ), "executeBatch", sql );
+        return execute( connection -> PreparedStatementUtil.executeBatch( statementCache, connection, generatedKeys, statementProperty, sql, parameters ), "executeBatch", sql );
     }
 
 
+    @Override
+    public final BatchResult<Void> executeBatch(String sql, Iterable<StatementInParameter[]> parameters, BatchOptions options)
+    {
+        return execute( connection -> PreparedStatementUtil.executeBatch( statementCache, connection, sql, parameters, options, (ResultType<Void>) null ), "executeBatch", sql );
+    }
+
+    @Override
+    public final <K> BatchResult<K> executeBatch(ResultType<K> generatedKeyType, String sql, Iterable<StatementInParameter[]> parameters, BatchOptions options)
+    {
+        Objects.requireNonNull( generatedKeyType, "generatedKeyType" );
+        return execute( connection -> PreparedStatementUtil.executeBatch( statementCache, connection, sql, parameters, options, generatedKeyType ), "executeBatch", sql );
+    }
+
     // untested
     @Override
     public final Object[] executeCall(String sql, StatementParameter... parameters)
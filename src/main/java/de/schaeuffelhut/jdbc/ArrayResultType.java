@@ -32,9 +32,11 @@ class ArrayResultType<T> implements ResultType<T[]>
         Array array = resultSet.getArray( index.next() );
         try (ResultSet arrayResultSet = array.getResultSet())
         {
+            // column 1 of the array result set is the index, column 2 the value
+            RowColumnIndex valueIndex = new RowColumnIndex( 2 );
             while (arrayResultSet.next())
             {
-                T t = resultType.getResult( arrayResultSet, ColumnIndex.create( 2 ) );
+                T t = resultType.getResult( arrayResultSet, valueIndex.rewind() );
                 result.add( t );
             }
         }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+/**
+ * Controls how {@link StatementUtil#executeBatch(String, Iterable, BatchOptions)} sends
+ * parameter sets to the database.
+ *
+ * <p>Parameter sets are added to the JDBC batch as they are read from the {@link Iterable}
+ * and the batch is executed every {@code flushSize} rows.  Memory use is therefore bounded
+ * by {@code flushSize}, not by the number of rows.</p>
+ *
+ * <pre>{@code
+ * BatchResult<Void> result = statementUtil.executeBatch(
+ *     "INSERT INTO users (id, name) VALUES (?, ?)",
+ *     rows::iterator,                       // e.g. a Stream read from a file
+ *     BatchOptions.flushEvery( 5000 )
+ * );
+ * }</pre>
+ *
+ * <p>Many drivers send each parameter set of a batch in its own round trip.  For
+ * {@code INSERT ... VALUES (...)} statements, {@link #withRowsPerStatement(int)} opts into
+ * rewriting the statement to insert several rows at once,
+ * {@code INSERT ... VALUES (...), (...), ...}.  Statements which cannot be rewritten
+ * (e.g. {@code INSERT ... SELECT}) are executed as a regular batch.</p>
+ *
+ * @param flushSize        the number of parameter sets per JDBC batch, must be positive
+ * @param rowsPerStatement the number of rows inserted by each rewritten statement, {@code 1} disables rewriting
+ * @see BatchResult
+ */
+public record BatchOptions(int flushSize, int rowsPerStatement)
+{
+    /**
+     * Flushes every 1000 rows.
+     */
+    public static final BatchOptions DEFAULT = new BatchOptions( 1000 );
+
+    public BatchOptions
+    {
+        if (flushSize <= 0)
+            throw new IllegalArgumentException( "flushSize must be positive: " + flushSize );
+        if (rowsPerStatement <= 0)
+            throw new IllegalArgumentException( "rowsPerStatement must be positive: " + rowsPerStatement );
+    }
+
+    public BatchOptions(int flushSize)
+    {
+        this( flushSize, 1 );
+    }
+
+    /**
+     * Creates options which execute the batch every {@code flushSize} rows.
+     *
+     * @param flushSize the number of parameter sets per JDBC batch, must be positive
+     * @return the options
+     */
+    public static BatchOptions flushEvery(int flushSize)
+    {
+        return new BatchOptions( flushSize );
+    }
+
+    /**
+     * Returns a copy of these options which rewrites {@code INSERT ... VALUES} statements
+     * to insert {@code rowsPerStatement} rows per statement.
+     *
+     * <p>The update count of a rewritten statement covers all of its rows;
+     * {@link BatchResult#rows()} still counts parameter sets.</p>
+     *
+     * @param rowsPerStatement the number of rows per statement, {@code 1} disables rewriting
+     * @return the options
+     */
+    public BatchOptions withRowsPerStatement(int rowsPerStatement)
+    {
+        return new BatchOptions( flushSize, rowsPerStatement );
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregated outcome of a batch executed in several flushes,
+ * see {@link StatementUtil#executeBatch(String, Iterable, BatchOptions)}.
+ *
+ * @param rows          the number of parameter sets executed
+ * @param updateCount   the sum of all update counts reported by the driver; rows reported as
+ *                      {@link Statement#SUCCESS_NO_INFO} do not contribute
+ * @param flushes       the number of JDBC batches executed
+ * @param generatedKeys the generated keys of all flushes in order, empty unless requested
+ * @param <K>           the type of a generated key
+ */
+public record BatchResult<K>(long rows, long updateCount, int flushes, List<K> generatedKeys)
+{
+    public BatchResult
+    {
+        generatedKeys = Collections.unmodifiableList( generatedKeys );
+    }
+}
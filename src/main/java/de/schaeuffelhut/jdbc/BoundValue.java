@@ -8,6 +8,7 @@ package de.schaeuffelhut.jdbc;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -61,6 +62,33 @@ public record BoundValue<T>(
         return parameter.modify( sql, value );
     }
 
+    /**
+     * Delegates to the parameter template.
+     */
+    @Override
+    public Object sqlShape()
+    {
+        return parameter.sqlShape( value );
+    }
+
+    /**
+     * Delegates to the parameter template.
+     */
+    @Override
+    public void prepareConnection(Connection connection) throws SQLException
+    {
+        parameter.prepareConnection( connection, value );
+    }
+
+    /**
+     * Delegates to the parameter template.
+     */
+    @Override
+    public void restoreConnection(Connection connection) throws SQLException
+    {
+        parameter.restoreConnection( connection, value );
+    }
+
     /**
      * Delegates parameter binding to the template with trace logging.
      */
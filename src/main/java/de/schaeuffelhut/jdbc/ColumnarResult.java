@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A query result stored column by column, as read by {@link ResultSetReaders#readColumnar(ResultType...)}.
+ *
+ * <p>Columns read with a {@link PrimitiveResultType}, which includes {@link ResultTypes#Integer},
+ * {@link ResultTypes#Long}, {@link ResultTypes#Double} and {@link ResultTypes#Boolean}, are stored in
+ * primitive arrays, with {@code NULL}s recorded in a bitmap.  For those rows the array holds what the
+ * result type reads for {@code NULL}: {@code 0} / {@code false} for the boxed types, the substitute
+ * of e.g. {@link ResultTypes#PrimitiveInt(int)}.  All other columns are stored in an {@code Object[]}.</p>
+ *
+ * <p>Columns are addressed by their 0-based position in the list of result types.</p>
+ *
+ * <pre>{@code
+ * ColumnarResult result = statementUtil.selectInto(
+ *     "SELECT id, amount FROM orders",
+ *     ResultSetReaders.readColumnar( ResultTypes.Long, ResultTypes.Double ),
+ *     ResultSetMappers.none()
+ * );
+ * double[] amounts = result.doubles( 1 );
+ * }</pre>
+ */
+public final class ColumnarResult
+{
+    private final int rowCount;
+    private final Column[] columns;
+
+    private ColumnarResult(int rowCount, Column[] columns)
+    {
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    public int rowCount()
+    {
+        return rowCount;
+    }
+
+    public int columnCount()
+    {
+        return columns.length;
+    }
+
+    public Column column(int column)
+    {
+        return columns[column];
+    }
+
+    /**
+     * Returns whether the value in the given column and row is {@code NULL}.
+     */
+    public boolean isNull(int column, int row)
+    {
+        return columns[column].isNull( row );
+    }
+
+    /**
+     * Returns the values of an {@code int} column, without copying.
+     *
+     * @throws ClassCastException if the column is not an {@code int} column
+     */
+    public int[] ints(int column)
+    {
+        return ((IntColumn) columns[column]).values;
+    }
+
+    /**
+     * Returns the values of a {@code long} column, without copying.
+     *
+     * @throws ClassCastException if the column is not a {@code long} column
+     */
+    public long[] longs(int column)
+    {
+        return ((LongColumn) columns[column]).values;
+    }
+
+    /**
+     * Returns the values of a {@code double} column, without copying.
+     *
+     * @throws ClassCastException if the column is not a {@code double} column
+     */
+    public double[] doubles(int column)
+    {
+        return ((DoubleColumn) columns[column]).values;
+    }
+
+    /**
+     * Returns the values of a {@code boolean} column, without copying.
+     *
+     * @throws ClassCastException if the column is not a {@code boolean} column
+     */
+    public boolean[] booleans(int column)
+    {
+        return ((BooleanColumn) columns[column]).values;
+    }
+
+    /**
+     * Returns the values of an object column, without copying.
+     *
+     * @throws ClassCastException if the column is a primitive column
+     */
+    public Object[] objects(int column)
+    {
+        return ((ObjectColumn) columns[column]).values;
+    }
+
+    /**
+     * A column of values; subclasses hold the values in an array of length {@link #rowCount()}.
+     */
+    public abstract static sealed class Column permits IntColumn, LongColumn, DoubleColumn, BooleanColumn, ObjectColumn
+    {
+        final BitSet nulls;
+
+        Column(BitSet nulls)
+        {
+            this.nulls = nulls;
+        }
+
+        public boolean isNull(int row)
+        {
+            return nulls.get( row );
+        }
+    }
+
+    public static final class IntColumn extends Column
+    {
+        private final int[] values;
+
+        IntColumn(int[] values, BitSet nulls)
+        {
+            super( nulls );
+            this.values = values;
+        }
+
+        public int get(int row)
+        {
+            return values[row];
+        }
+    }
+
+    public static final class LongColumn extends Column
+    {
+        private final long[] values;
+
+        LongColumn(long[] values, BitSet nulls)
+        {
+            super( nulls );
+            this.values = values;
+        }
+
+        public long get(int row)
+        {
+            return values[row];
+        }
+    }
+
+    public static final class DoubleColumn extends Column
+    {
+        private final double[] values;
+
+        DoubleColumn(double[] values, BitSet nulls)
+        {
+            super( nulls );
+            this.values = values;
+        }
+
+        public double get(int row)
+        {
+            return values[row];
+        }
+    }
+
+    public static final class BooleanColumn extends Column
+    {
+        private final boolean[] values;
+
+        BooleanColumn(boolean[] values, BitSet nulls)
+        {
+            super( nulls );
+            this.values = values;
+        }
+
+        public boolean get(int row)
+        {
+            return values[row];
+        }
+    }
+
+    public static final class ObjectColumn extends Column
+    {
+        private final Object[] values;
+
+        ObjectColumn(Object[] values, BitSet nulls)
+        {
+            super( nulls );
+            this.values = values;
+        }
+
+        public Object get(int row)
+        {
+            return values[row];
+        }
+    }
+
+    /*
+     * Builders
+     */
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    static int grow(int capacity)
+    {
+        return capacity + (capacity >> 1);
+    }
+
+    /**
+     * Accumulates the rows of a result set into columns.
+     */
+    static final class Builder
+    {
+        private final ColumnBuilder[] columns;
+        private int rowCount;
+
+        Builder(ResultType<?>[] resultTypes)
+        {
+            columns = new ColumnBuilder[resultTypes.length];
+            for (int i = 0; i < resultTypes.length; i++)
+                columns[i] = ColumnBuilder.of( resultTypes[i] );
+        }
+
+        void initialize(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+        {
+            final ColumnIndex index = columnIndex.copy();
+            for (ColumnBuilder column : columns)
+                column.resultType.initialize( resultSet, index );
+        }
+
+        void addRow(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+        {
+            for (ColumnBuilder column : columns)
+                column.read( resultSet, columnIndex, rowCount );
+            rowCount++;
+        }
+
+        ColumnarResult build()
+        {
+            final Column[] result = new Column[columns.length];
+            for (int i = 0; i < columns.length; i++)
+                result[i] = columns[i].build( rowCount );
+            return new ColumnarResult( rowCount, result );
+        }
+    }
+
+    private abstract static class ColumnBuilder
+    {
+        final ResultType<?> resultType;
+        final BitSet nulls = new BitSet();
+
+        ColumnBuilder(ResultType<?> resultType)
+        {
+            this.resultType = resultType;
+        }
+
+        static ColumnBuilder of(ResultType<?> resultType)
+        {
+            if (resultType instanceof PrimitiveResultType.OfInt primitive)
+                return new IntColumnBuilder( primitive );
+            else if (resultType instanceof PrimitiveResultType.OfLong primitive)
+                return new LongColumnBuilder( primitive );
+            else if (resultType instanceof PrimitiveResultType.OfDouble primitive)
+                return new DoubleColumnBuilder( primitive );
+            else if (resultType instanceof PrimitiveResultType.OfBoolean primitive)
+                return new BooleanColumnBuilder( primitive );
+            else
+                return new ObjectColumnBuilder( resultType );
+        }
+
+        abstract void read(ResultSet resultSet, ColumnIndex columnIndex, int row) throws SQLException;
+
+        /**
+         * Returns the column, with its values trimmed to {@code rowCount}.
+         */
+        abstract Column build(int rowCount);
+    }
+
+    private static final class IntColumnBuilder extends ColumnBuilder
+    {
+        private final PrimitiveResultType.OfInt primitive;
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        IntColumnBuilder(PrimitiveResultType.OfInt resultType)
+        {
+            super( resultType );
+            this.primitive = resultType;
+        }
+
+        @Override
+        void read(ResultSet resultSet, ColumnIndex columnIndex, int row) throws SQLException
+        {
+            if (row == values.length)
+                values = Arrays.copyOf( values, grow( values.length ) );
+            values[row] = primitive.getInt( resultSet, columnIndex );
+            if (resultSet.wasNull())
+                nulls.set( row );
+        }
+
+        @Override
+        Column build(int rowCount)
+        {
+            return new IntColumn( values.length == rowCount ? values : Arrays.copyOf( values, rowCount ), nulls );
+        }
+    }
+
+    private static final class LongColumnBuilder extends ColumnBuilder
+    {
+        private final PrimitiveResultType.OfLong primitive;
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        LongColumnBuilder(PrimitiveResultType.OfLong resultType)
+        {
+            super( resultType );
+            this.primitive = resultType;
+        }
+
+        @Override
+        void read(ResultSet resultSet, ColumnIndex columnIndex, int row) throws SQLException
+        {
+            if (row == values.length)
+                values = Arrays.copyOf( values, grow( values.length ) );
+            values[row] = primitive.getLong( resultSet, columnIndex );
+            if (resultSet.wasNull())
+                nulls.set( row );
+        }
+
+        @Override
+        Column build(int rowCount)
+        {
+            return new LongColumn( values.length == rowCount ? values : Arrays.copyOf( values, rowCount ), nulls );
+        }
+    }
+
+    private static final class DoubleColumnBuilder extends ColumnBuilder
+    {
+        private final PrimitiveResultType.OfDouble primitive;
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        DoubleColumnBuilder(PrimitiveResultType.OfDouble resultType)
+        {
+            super( resultType );
+            this.primitive = resultType;
+        }
+
+        @Override
+        void read(ResultSet resultSet, ColumnIndex columnIndex, int row) throws SQLException
+        {
+            if (row == values.length)
+                values = Arrays.copyOf( values, grow( values.length ) );
+            values[row] = primitive.getDouble( resultSet, columnIndex );
+            if (resultSet.wasNull())
+                nulls.set( row );
+        }
+
+        @Override
+        Column build(int rowCount)
+        {
+            return new DoubleColumn( values.length == rowCount ? values : Arrays.copyOf( values, rowCount ), nulls );
+        }
+    }
+
+    private static final class BooleanColumnBuilder extends ColumnBuilder
+    {
+        private final PrimitiveResultType.OfBoolean primitive;
+        private boolean[] values = new boolean[INITIAL_CAPACITY];
+
+        BooleanColumnBuilder(PrimitiveResultType.OfBoolean resultType)
+        {
+            super( resultType );
+            this.primitive = resultType;
+        }
+
+        @Override
+        void read(ResultSet resultSet, ColumnIndex columnIndex, int row) throws SQLException
+        {
+            if (row == values.length)
+                values = Arrays.copyOf( values, grow( values.length ) );
+            values[row] = primitive.getBoolean( resultSet, columnIndex );
+            if (resultSet.wasNull())
+                nulls.set( row );
+        }
+
+        @Override
+        Column build(int rowCount)
+        {
+            return new BooleanColumn( values.length == rowCount ? values : Arrays.copyOf( values, rowCount ), nulls );
+        }
+    }
+
+    private static final class ObjectColumnBuilder extends ColumnBuilder
+    {
+        private Object[] values = new Object[INITIAL_CAPACITY];
+
+        ObjectColumnBuilder(ResultType<?> resultType)
+        {
+            super( resultType );
+        }
+
+        @Override
+        void read(ResultSet resultSet, ColumnIndex columnIndex, int row) throws SQLException
+        {
+            if (row == values.length)
+                values = Arrays.copyOf( values, grow( values.length ) );
+            values[row] = resultType.getResult( resultSet, columnIndex );
+            if (values[row] == null)
+                nulls.set( row );
+        }
+
+        @Override
+        Column build(int rowCount)
+        {
+            return new ObjectColumn( values.length == rowCount ? values : Arrays.copyOf( values, rowCount ), nulls );
+        }
+    }
+}
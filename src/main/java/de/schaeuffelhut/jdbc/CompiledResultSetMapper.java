@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base class of mappers which depend on the {@link java.sql.ResultSetMetaData} of a query.
+ *
+ * <p>From the {@link ResultColumns} a <em>shape</em> is read, e.g. the column labels, and compiled into an
+ * immutable plan {@code P}.  Plans are cached per shape, so the compilation is done once per
+ * shape and mapper rather than once per query.  {@link #bind(ResultSet, ColumnIndex)} returns a
+ * cursor holding the plan for one execution, so a single instance can serve concurrent queries,
+ * even if they have different shapes.</p>
+ *
+ * <p>{@link #initialize(ResultSet, ColumnIndex)} and {@link #map(ResultSet, ColumnIndex)} are kept
+ * for callers driving the mapper directly; they share the plan of the last initialization and are
+ * therefore not safe for concurrent queries of different shapes.</p>
+ *
+ * @param <T> the type of the mapped rows
+ * @param <P> the type of the plan
+ */
+abstract class CompiledResultSetMapper<T, P> implements ResultColumnsMapper<T>
+{
+    /**
+     * Caching more shapes than this per mapper indicates that the mapper is used for ad-hoc
+     * queries; the cache is then cleared rather than grown.
+     */
+    static final int MAX_PLANS = 64;
+
+    private final Map<List<String>, P> plans = new ConcurrentHashMap<>();
+    private volatile P plan;
+
+    /**
+     * Reads the shape of the result set, starting at {@code columnIndex}, without advancing it.
+     */
+    abstract String[] shape(ResultColumns columns, ColumnIndex columnIndex) throws SQLException;
+
+    /**
+     * Compiles the plan for a shape returned by {@link #shape(ResultColumns, ColumnIndex)}.
+     */
+    abstract P compile(String[] shape);
+
+    /**
+     * Maps the current row with {@code plan}.
+     */
+    abstract T map(P plan, ResultSet resultSet, ColumnIndex columnIndex) throws SQLException;
+
+    final P plan(ResultColumns columns, ColumnIndex columnIndex) throws SQLException
+    {
+        final String[] shape = shape( columns, columnIndex );
+        final List<String> key = Arrays.asList( shape );
+        final P cached = plans.get( key );
+        if (cached != null)
+            return cached;
+
+        if (plans.size() >= MAX_PLANS)
+            plans.clear();
+        return plans.computeIfAbsent( key, k -> compile( shape ) );
+    }
+
+    @Override
+    public final ResultSetMapper<T> bind(ResultSet resultSet, ResultColumns columns, ColumnIndex columnIndex) throws SQLException
+    {
+        final P plan = plan( columns, columnIndex );
+        return (rs, index) -> map( plan, rs, index );
+    }
+
+    @Override
+    public final void initialize(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+    {
+        initialize( ResultColumns.of( resultSet.getMetaData() ), columnIndex );
+    }
+
+    /**
+     * Like {@link #initialize(ResultSet, ColumnIndex)}, but with the columns already at hand.
+     */
+    final void initialize(ResultColumns columns, ColumnIndex columnIndex) throws SQLException
+    {
+        plan = plan( columns, columnIndex );
+    }
+
+    @Override
+    public final T map(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+    {
+        final P plan = this.plan;
+        if (plan == null)
+            throw new IllegalStateException( "Mapper has not been initialized" );
+        return map( plan, resultSet, columnIndex );
+    }
+}
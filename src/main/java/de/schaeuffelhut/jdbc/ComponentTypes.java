@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link ResultType} and {@link StatementInParameterType} of record components whose type has a
+ * matching constant in {@link ResultTypes} and {@link StatementParameters}, shared by
+ * {@link RecordMapper} and {@link NamedSql}.
+ */
+final class ComponentTypes
+{
+    private record Types(ResultType<?> resultType, StatementInParameterType<?> parameterType)
+    {
+    }
+
+    private static final Map<Class<?>, Types> TYPES = new HashMap<>();
+
+    static
+    {
+        put( int.class, ResultTypes.PrimitiveInt, StatementParameters.Integer );
+        put( long.class, ResultTypes.PrimitiveLong, StatementParameters.Long );
+        put( double.class, ResultTypes.PrimitiveDouble, StatementParameters.Double );
+        put( boolean.class, ResultTypes.PrimitiveBoolean, StatementParameters.Boolean );
+        put( byte.class, ResultTypes.Byte, StatementParameters.Byte );
+        put( short.class, ResultTypes.Short, StatementParameters.Short );
+        put( char.class, ResultTypes.Character, StatementParameters.Character );
+        put( float.class, ResultTypes.Float, StatementParameters.Float );
+        put( Integer.class, ResultTypes.Integer, StatementParameters.Integer );
+        put( Long.class, ResultTypes.Long, StatementParameters.Long );
+        put( Double.class, ResultTypes.Double, StatementParameters.Double );
+        put( Boolean.class, ResultTypes.Boolean, StatementParameters.Boolean );
+        put( Byte.class, ResultTypes.Byte, StatementParameters.Byte );
+        put( Short.class, ResultTypes.Short, StatementParameters.Short );
+        put( Character.class, ResultTypes.Character, StatementParameters.Character );
+        put( Float.class, ResultTypes.Float, StatementParameters.Float );
+        put( BigDecimal.class, ResultTypes.BigDecimal, StatementParameters.BigDecimal );
+        put( String.class, ResultTypes.String, StatementParameters.String );
+        put( Date.class, ResultTypes.Date, StatementParameters.Date );
+        put( Timestamp.class, ResultTypes.Timestamp, StatementParameters.Timestamp );
+        put( ZonedDateTime.class, ResultTypes.ZonedDateTimeAtUtc, StatementParameters.ZonedDateTimeAtUTC );
+        put( byte[].class, ResultTypes.Bytes, StatementParameters.Bytes );
+        put( DateTime.class, ResultTypes.DateTime, StatementParameters.DateTime );
+        put( DateMidnight.class, ResultTypes.DateMidnight, StatementParameters.DateMidnight );
+        put( DateTimeZone.class, ResultTypes.DateTimeZone, StatementParameters.DateTimeZone );
+        put( Duration.class, ResultTypes.Duration, StatementParameters.DurationAsLong );
+    }
+
+    private ComponentTypes()
+    {
+    }
+
+    private static void put(Class<?> type, ResultType<?> resultType, StatementInParameterType<?> parameterType)
+    {
+        TYPES.put( type, new Types( resultType, parameterType ) );
+    }
+
+    /**
+     * Returns the {@link ResultType} reading a component of {@code type}, or {@code null} if there is no constant.
+     */
+    static ResultType<?> resultType(Class<?> type)
+    {
+        final Types types = TYPES.get( type );
+        return types == null ? null : types.resultType();
+    }
+
+    /**
+     * Returns the {@link StatementInParameterType} binding a component of {@code type}, or {@code null} if there is no constant.
+     */
+    static StatementInParameterType<?> parameterType(Class<?> type)
+    {
+        final Types types = TYPES.get( type );
+        return types == null ? null : types.parameterType();
+    }
+}
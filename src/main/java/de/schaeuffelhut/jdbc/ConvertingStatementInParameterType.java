@@ -6,6 +6,7 @@
 
 package de.schaeuffelhut.jdbc;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Objects;
@@ -80,6 +81,33 @@ public abstract class ConvertingStatementInParameterType<Tout, Tin>
         return delegate.modify( sql, convert( value ) );
     }
 
+    /**
+     * Delegates to the target template after converting the value.
+     */
+    @Override
+    public final Object sqlShape(Tin value)
+    {
+        return delegate.sqlShape( convert( value ) );
+    }
+
+    /**
+     * Delegates to the target template after converting the value.
+     */
+    @Override
+    public final void prepareConnection(Connection connection, Tin value) throws SQLException
+    {
+        delegate.prepareConnection( connection, convert( value ) );
+    }
+
+    /**
+     * Delegates to the target template after converting the value.
+     */
+    @Override
+    public final void restoreConnection(Connection connection, Tin value) throws SQLException
+    {
+        delegate.restoreConnection( connection, convert( value ) );
+    }
+
     /**
      * Delegates parameter binding after converting the value.
      */
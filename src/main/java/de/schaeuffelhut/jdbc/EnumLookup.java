@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lookup tables from names and keys to enum constants, computed once per enum class.
+ *
+ * <p>Used by the enum {@link ResultType}s instead of scanning {@link Class#getEnumConstants()},
+ * which clones the constants on every call.  If several constants share a key, the first one
+ * in declaration order wins, as with a linear scan.</p>
+ */
+final class EnumLookup
+{
+    private EnumLookup()
+    {
+    }
+
+    private static final ClassValue<ByName<?>> BY_NAME = new ClassValue<>()
+    {
+        @Override
+        protected ByName<?> computeValue(Class<?> type)
+        {
+            return new ByName<>( type.getEnumConstants() );
+        }
+    };
+
+    private static final ClassValue<ByIntKey<?>> BY_INT_KEY = new ClassValue<>()
+    {
+        @Override
+        protected ByIntKey<?> computeValue(Class<?> type)
+        {
+            return new ByIntKey<>( (Enum<?>[]) type.getEnumConstants() );
+        }
+    };
+
+    private static final ClassValue<ByKey<?>> BY_KEY = new ClassValue<>()
+    {
+        @Override
+        protected ByKey<?> computeValue(Class<?> type)
+        {
+            return new ByKey<>( (Enum<?>[]) type.getEnumConstants() );
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<E>> ByName<E> byName(Class<E> type)
+    {
+        return (ByName<E>) BY_NAME.get( type );
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<E> & EnumIntKey> ByIntKey<E> byIntKey(Class<E> type)
+    {
+        return (ByIntKey<E>) BY_INT_KEY.get( type );
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, E extends Enum<E> & EnumKey<K>> ByKey<E> byKey(Class<E> type)
+    {
+        return (ByKey<E>) BY_KEY.get( type );
+    }
+
+    static final class ByName<E>
+    {
+        private final Map<String, E> constants = new HashMap<>();
+
+        private ByName(E[] constants)
+        {
+            for (E constant : constants)
+                this.constants.put( ((Enum<?>) constant).name(), constant );
+        }
+
+        /**
+         * Returns the constant named {@code name}, ignoring leading and trailing whitespace,
+         * or {@code null} if there is none.
+         */
+        E get(String name)
+        {
+            final E constant = constants.get( name );
+            if (constant != null)
+                return constant;
+            // only allocate a trimmed copy if the name did not match as is
+            return constants.get( name.trim() );
+        }
+    }
+
+    static final class ByIntKey<E>
+    {
+        /**
+         * Keys spanning at most this many slots per constant are stored in an array.
+         */
+        private static final int MAX_DENSITY = 4;
+
+        private final int offset;
+        private final Object[] dense;
+        private final Map<Integer, E> sparse;
+
+        private ByIntKey(Enum<?>[] constants)
+        {
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (Enum<?> constant : constants)
+            {
+                final int key = ((EnumIntKey) constant).getKey();
+                min = Math.min( min, key );
+                max = Math.max( max, key );
+            }
+
+            final long range = constants.length == 0 ? 0 : max - min + 1;
+            if (range <= Math.max( 64, (long) constants.length * MAX_DENSITY ))
+            {
+                this.offset = constants.length == 0 ? 0 : (int) min;
+                this.dense = new Object[(int) range];
+                this.sparse = null;
+                for (Enum<?> constant : constants)
+                {
+                    final int slot = ((EnumIntKey) constant).getKey() - offset;
+                    if (dense[slot] == null)
+                        dense[slot] = constant;
+                }
+            }
+            else
+            {
+                this.offset = 0;
+                this.dense = null;
+                this.sparse = new HashMap<>();
+                for (Enum<?> constant : constants)
+                {
+                    @SuppressWarnings("unchecked")
+                    final E e = (E) constant;
+                    sparse.putIfAbsent( ((EnumIntKey) constant).getKey(), e );
+                }
+            }
+        }
+
+        /**
+         * Returns the first constant with the key, or {@code null} if there is none.
+         */
+        @SuppressWarnings("unchecked")
+        E get(int key)
+        {
+            if (dense == null)
+                return sparse.get( key );
+            final long slot = (long) key - offset;
+            return slot >= 0 && slot < dense.length ? (E) dense[(int) slot] : null;
+        }
+    }
+
+    static final class ByKey<E>
+    {
+        private final Map<Object, E> constants = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        private ByKey(Enum<?>[] constants)
+        {
+            for (Enum<?> constant : constants)
+                this.constants.putIfAbsent( ((EnumKey<?>) constant).getKey(), (E) constant );
+        }
+
+        /**
+         * Returns the first constant with a key equal to {@code key}, or {@code null} if there is none.
+         */
+        E get(Object key)
+        {
+            return constants.get( key );
+        }
+    }
+}
@@ -53,6 +53,12 @@ public class ExtraStatementParameters
             return sql;
         }
 
+        @Override
+        public Object sqlShape(DateTime value)
+        {
+            return StatementParameter.SqlShape.UNCHANGED;
+        }
+
         @Override
         public int configure(PreparedStatement stmt, int pos, DateTime value) throws SQLException
         {
@@ -94,6 +100,12 @@ public class ExtraStatementParameters
             return sql;
         }
 
+        @Override
+        public Object sqlShape(UUID uuid)
+        {
+            return StatementParameter.SqlShape.UNCHANGED;
+        }
+
         public int configure(PreparedStatement stmt, int pos, UUID value) throws SQLException
         {
             stmt.setString( pos, value == null ? null : value.toString() );
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.util.Arrays;
+
+/**
+ * Rounds the size of an expanded {@code IN} list up to one of a few buckets.
+ *
+ * <p>{@link StatementParameters#Collection(StatementInParameterType, String, java.util.Collection) Collection} and
+ * {@link StatementParameters#Array(StatementInParameterType, String, Object[]) Array} parameters expand
+ * a placeholder into one bind marker per element, so every list size produces a different SQL string,
+ * each with its own entry in the statement cache and the plan cache of the database.  With padding,
+ * the list is expanded to the bucket size instead and the last element is bound again in the
+ * remaining slots, which does not change the result of an {@code IN} predicate.  The number of
+ * distinct statements is then bounded by the number of buckets.</p>
+ *
+ * <pre>{@code
+ * StatementInParameterType<? extends Collection<Long>> ids = StatementParameters.Collection(
+ *         StatementParameters.Long, "@ids", InListPadding.powersOfTwo() );
+ *
+ * statementUtil.selectInto(
+ *         "SELECT * FROM users WHERE id IN (@ids)",
+ *         ResultSetReaders.readMany(),
+ *         userMapper,
+ *         StatementParameters.bindValue( ids, List.of( 1L, 2L, 3L ) ) );   // IN (?,?,?,?)
+ * }</pre>
+ *
+ * <p>Padding must not be used where repeated elements change the result, e.g. in {@code VALUES} lists.
+ * Empty lists are not padded.</p>
+ */
+public final class InListPadding
+{
+    /**
+     * Does not pad, every list is expanded to its size.
+     */
+    public static final InListPadding NONE = new InListPadding( new int[0], false );
+
+    private static final InListPadding POWERS_OF_TWO = new InListPadding( new int[0], true );
+
+    private final int[] sizes;
+    private final boolean powersOfTwo;
+
+    private InListPadding(int[] sizes, boolean powersOfTwo)
+    {
+        this.sizes = sizes;
+        this.powersOfTwo = powersOfTwo;
+    }
+
+    /**
+     * Pads lists to the next power of two: 1, 2, 4, 8, ...
+     *
+     * @return the padding
+     */
+    public static InListPadding powersOfTwo()
+    {
+        return POWERS_OF_TWO;
+    }
+
+    /**
+     * Pads lists to the next of the given sizes.  Lists longer than the largest size are
+     * padded to a multiple of the largest size.
+     *
+     * @param sizes the bucket sizes, positive and in ascending order, e.g. {@code 1, 10, 50, 100}
+     * @return the padding
+     */
+    public static InListPadding ladder(int... sizes)
+    {
+        if (sizes.length == 0)
+            throw new IllegalArgumentException( "sizes must not be empty" );
+        for (int i = 0; i < sizes.length; i++)
+            if (sizes[i] <= 0 || i > 0 && sizes[i] <= sizes[i - 1])
+                throw new IllegalArgumentException( "sizes must be positive and ascending: " + Arrays.toString( sizes ) );
+        return new InListPadding( sizes.clone(), false );
+    }
+
+    /**
+     * Returns the number of bind markers a list of {@code size} elements is expanded to.
+     *
+     * @param size the number of elements
+     * @return the padded size, at least {@code size}
+     */
+    public int pad(int size)
+    {
+        if (size == 0)
+            return 0;
+        if (powersOfTwo)
+        {
+            final int padded = Integer.highestOneBit( size - 1 ) << 1;
+            return size == 1 || padded < 0 ? size : padded;
+        }
+        for (int bucket : sizes)
+            if (size <= bucket)
+                return bucket;
+        if (sizes.length == 0)
+            return size;
+        final int largest = sizes[sizes.length - 1];
+        final long padded = ((size + (long) largest - 1) / largest) * largest;
+        return padded > Integer.MAX_VALUE ? size : (int) padded;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        return o instanceof InListPadding other
+               && powersOfTwo == other.powersOfTwo
+               && Arrays.equals( sizes, other.sizes );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 31 * Boolean.hashCode( powersOfTwo ) + Arrays.hashCode( sizes );
+    }
+
+    @Override
+    public String toString()
+    {
+        if (powersOfTwo)
+            return "InListPadding.powersOfTwo()";
+        if (sizes.length == 0)
+            return "InListPadding.NONE";
+        return "InListPadding.ladder" + Arrays.toString( sizes );
+    }
+}
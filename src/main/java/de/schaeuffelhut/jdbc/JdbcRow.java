@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record for which the {@code jdbc-util-processor} annotation processor generates a
+ * {@link ResultSetMapper} and a parameter binder at compile time.
+ *
+ * <p>For a record {@code Employee} the processor generates {@code EmployeeJdbcRow} in the same package
+ * (nested records are flattened to {@code Outer_InnerJdbcRow}):</p>
+ * <ul>
+ *     <li>{@code EmployeeJdbcRow.MAPPER} maps the columns of a row, in component order, by calling the
+ *     {@link ResultTypes} constant for each component type and the canonical constructor directly.</li>
+ *     <li>{@code EmployeeJdbcRow.parameters(employee)} returns the components as {@link StatementInParameter}s,
+ *     in component order.</li>
+ * </ul>
+ * <p>Component types are resolved as for {@link ResultSetMappers#record(Class)}: {@code int}, {@code long},
+ * {@code double} and {@code boolean} are read without boxing and reject {@code NULL}, enums are bound by
+ * name or by {@link EnumIntKey}, unknown types use {@link java.sql.ResultSet#getObject(int, Class)} and
+ * {@link StatementParameters#Object(Object)}.</p>
+ *
+ * <pre>{@code
+ * @JdbcRow
+ * record Employee(long id, String name) {}
+ *
+ * List<Employee> employees = statementUtil.selectInto(
+ *     "SELECT id, name FROM employees",
+ *     ResultSetReaders.readMany(),
+ *     EmployeeJdbcRow.MAPPER
+ * );
+ * statementUtil.execute(
+ *     "INSERT INTO employees (id, name) VALUES (?, ?)",
+ *     EmployeeJdbcRow.parameters( employee )
+ * );
+ * }</pre>
+ *
+ * <p>The generated code uses neither reflection nor method handles, so it needs no reflection
+ * configuration for native images.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JdbcRow
+{
+}
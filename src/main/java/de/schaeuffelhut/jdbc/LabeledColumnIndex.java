@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+/**
+ * A {@link ColumnIndex} returning a fixed sequence of columns, resolved from their labels
+ * by {@link ResultSetMappers#byLabel(ResultSetMapper, String...)}.
+ */
+final class LabeledColumnIndex implements ColumnIndex {
+    private final int[] columns;
+    private int position;
+
+    LabeledColumnIndex(int[] columns) {
+        this( columns, 0 );
+    }
+
+    private LabeledColumnIndex(int[] columns, int position) {
+        this.columns = columns;
+        this.position = position;
+    }
+
+    /**
+     * Moves back to the first labeled column.
+     *
+     * @return this index
+     */
+    ColumnIndex rewind() {
+        position = 0;
+        return this;
+    }
+
+    @Override
+    public int next() {
+        final int column = peek();
+        position++;
+        return column;
+    }
+
+    @Override
+    public int peek() {
+        if (position >= columns.length)
+            throw new IllegalStateException( "Mapper reads more than the " + columns.length + " labeled columns" );
+        return columns[position];
+    }
+
+    @Override
+    public ColumnIndex copy() {
+        return new LabeledColumnIndex( columns, position );
+    }
+}
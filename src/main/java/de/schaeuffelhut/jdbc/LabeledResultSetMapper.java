@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Passes the columns with the given labels to a positional mapper, in the order of the labels.
+ *
+ * <p>The labels are resolved to column indexes once per result set, ignoring case, through the
+ * label table of {@link ResultColumns}.  The rows are then read by index, as the mapper reads its
+ * columns with {@link ColumnIndex#next()} from a {@link LabeledColumnIndex}.  A {@link CompiledResultSetMapper},
+ * like {@link ResultSetMappers#map(ResultType...)} or {@link ResultSetMappers#record(Class)}, reads its shape
+ * from the labeled columns only, as if the query selected just those.</p>
+ *
+ * @param <T> the type of the mapped rows
+ * @see ResultSetMappers#byLabel(ResultSetMapper, String...)
+ */
+final class LabeledResultSetMapper<T> implements ResultColumnsMapper<T>
+{
+    private final ResultSetMapper<T> mapper;
+    private final String[] labels;
+    // the index of the last initialization, rewound for every row; not for concurrent queries
+    private volatile LabeledColumnIndex index;
+
+    LabeledResultSetMapper(ResultSetMapper<T> mapper, String[] labels)
+    {
+        this.mapper = mapper;
+        this.labels = labels.clone();
+    }
+
+    private int[] resolve(ResultColumns columns) throws SQLException
+    {
+        final int[] resolved = new int[labels.length];
+        for (int i = 0; i < labels.length; i++)
+        {
+            resolved[i] = columns.columnOf( labels[i] );
+            if (resolved[i] == 0)
+                throw new IllegalArgumentException( String.format(
+                        "no column labeled %s, labels: %s", labels[i], Arrays.toString( labels( columns ) ) ) );
+        }
+        return resolved;
+    }
+
+    private static String[] labels(ResultColumns columns) throws SQLException
+    {
+        final String[] labels = new String[columns.count()];
+        for (int i = 0; i < labels.length; i++)
+            labels[i] = columns.label( i + 1 );
+        return labels;
+    }
+
+    @Override
+    public ResultSetMapper<T> bind(ResultSet resultSet, ResultColumns columns, ColumnIndex columnIndex) throws SQLException
+    {
+        final int[] resolved = resolve( columns );
+        final LabeledColumnIndex labeledIndex = new LabeledColumnIndex( resolved );
+        final ResultSetMapper<T> bound = mapper instanceof CompiledResultSetMapper<T, ?> compiled
+                ? compiled.bind( resultSet, columns.select( resolved ), ColumnIndex.create( 1 ) )
+                : ResultColumnsMapper.bind( mapper, resultSet, columns, labeledIndex );
+        return (rs, index) -> bound.map( rs, labeledIndex.rewind() );
+    }
+
+    @Override
+    public void initialize(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+    {
+        final ResultColumns columns = ResultColumns.of( resultSet.getMetaData() );
+        final int[] resolved = resolve( columns );
+        final LabeledColumnIndex labeledIndex = new LabeledColumnIndex( resolved );
+        if (mapper instanceof CompiledResultSetMapper<T, ?> compiled)
+            compiled.initialize( columns.select( resolved ), ColumnIndex.create( 1 ) );
+        else
+            mapper.initialize( resultSet, labeledIndex );
+        index = labeledIndex;
+    }
+
+    @Override
+    public T map(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+    {
+        final LabeledColumnIndex index = this.index;
+        if (index == null)
+            throw new IllegalStateException( "Mapper has not been initialized" );
+        return mapper.map( resultSet, index.rewind() );
+    }
+}
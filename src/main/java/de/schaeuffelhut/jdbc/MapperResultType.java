@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Adapts a {@link ResultSetMapper} into a {@link ResultType}, see {@link ResultTypes#mapper(Class, ResultSetMapper)}.
+ *
+ * <p>The mapper is {@linkplain ResultSetMapper#bind(ResultSet, ColumnIndex) bound} once per result set,
+ * either by {@link #initialize(ResultSet, ColumnIndex)} or on the first row read from the result set,
+ * so result sets of different shapes read concurrently with the same instance do not share a plan.
+ * The bound mappers are held weakly by result set.</p>
+ *
+ * @param <T> the result type
+ */
+final class MapperResultType<T> implements ResultType<T>
+{
+    private final Class<T> type;
+    private final ResultSetMapper<T> mapper;
+    private final Map<ResultSet, ResultSetMapper<T>> bound = new WeakHashMap<>();
+    // the binding used last, saves the lookup in bound for consecutive rows of the same result set
+    private volatile Binding<T> last;
+
+    MapperResultType(Class<T> type, ResultSetMapper<T> mapper)
+    {
+        this.type = type;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void initialize(ResultSet resultSet, ColumnIndex index) throws SQLException
+    {
+        final ResultSetMapper<T> cursor = mapper.bind( resultSet, index );
+        synchronized (bound)
+        {
+            bound.put( resultSet, cursor );
+        }
+        last = new Binding<>( resultSet, cursor );
+    }
+
+    @Override
+    public T getResult(ResultSet resultSet, ColumnIndex index) throws SQLException
+    {
+        final Binding<T> last = this.last;
+        if (last != null && last.resultSet.get() == resultSet)
+            return last.cursor.map( resultSet, index );
+        return cursorOf( resultSet, index ).map( resultSet, index );
+    }
+
+    private ResultSetMapper<T> cursorOf(ResultSet resultSet, ColumnIndex index) throws SQLException
+    {
+        ResultSetMapper<T> cursor;
+        synchronized (bound)
+        {
+            cursor = bound.get( resultSet );
+        }
+        if (cursor == null)
+        {
+            cursor = mapper.bind( resultSet, index );
+            synchronized (bound)
+            {
+                bound.put( resultSet, cursor );
+            }
+        }
+        last = new Binding<>( resultSet, cursor );
+        return cursor;
+    }
+
+    @Override
+    public Class<T> getResultType()
+    {
+        return type;
+    }
+
+    private static final class Binding<T>
+    {
+        final WeakReference<ResultSet> resultSet;
+        final ResultSetMapper<T> cursor;
+
+        Binding(ResultSet resultSet, ResultSetMapper<T> cursor)
+        {
+            this.resultSet = new WeakReference<>( resultSet );
+            this.cursor = cursor;
+        }
+    }
+}
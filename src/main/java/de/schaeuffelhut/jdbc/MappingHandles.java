@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Compiles the reflective mappers into {@link MethodHandle}s.
+ *
+ * <p>Constructors, factory methods and field setters are looked up once per class and signature
+ * and cached.  They are then combined with the {@link ResultType}s of a mapper into a single
+ * handle which reads a whole row, so mapping a row is one {@code invokeExact} call without
+ * reflective access checks and without an argument array.  Columns are read strictly in order,
+ * as each {@link ResultType} advances the shared {@link ColumnIndex}.</p>
+ */
+final class MappingHandles
+{
+    private MappingHandles()
+    {
+    }
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle GET_RESULT;
+    private static final MethodHandle GET_INT;
+    private static final MethodHandle GET_LONG;
+    private static final MethodHandle GET_DOUBLE;
+    private static final MethodHandle GET_BOOLEAN;
+
+    static
+    {
+        try
+        {
+            GET_RESULT = LOOKUP.findVirtual( ResultType.class, "getResult", readerType( Object.class ) );
+            GET_INT = LOOKUP.findVirtual( PrimitiveResultType.OfInt.class, "getInt", readerType( int.class ) );
+            GET_LONG = LOOKUP.findVirtual( PrimitiveResultType.OfLong.class, "getLong", readerType( long.class ) );
+            GET_DOUBLE = LOOKUP.findVirtual( PrimitiveResultType.OfDouble.class, "getDouble", readerType( double.class ) );
+            GET_BOOLEAN = LOOKUP.findVirtual( PrimitiveResultType.OfBoolean.class, "getBoolean", readerType( boolean.class ) );
+        }
+        catch (NoSuchMethodException | IllegalAccessException e)
+        {
+            throw new ExceptionInInitializerError( e );
+        }
+    }
+
+    private static MethodType readerType(Class<?> returnType)
+    {
+        return methodType( returnType, ResultSet.class, ColumnIndex.class );
+    }
+
+    /*
+     * Per class caches
+     */
+
+    private static final ClassValue<Map<List<Object>, MethodHandle>> FACTORIES = new ClassValue<>()
+    {
+        @Override
+        protected Map<List<Object>, MethodHandle> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Map<String, MethodHandle>> FIELD_SETTERS = new ClassValue<>()
+    {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns a handle for the first public constructor of {@code type} accepting {@code argTypes},
+     * as found by {@link Utils#findConstructor(Class, Class[])}.
+     */
+    static MethodHandle constructor(Class<?> type, Class<?>[] argTypes)
+    {
+        return FACTORIES.get( type ).computeIfAbsent(
+                key( "<init>", argTypes ),
+                k -> {
+                    Constructor<?> constructor = Utils.findConstructor( type, argTypes );
+                    try
+                    {
+                        return LOOKUP.unreflectConstructor( accessible( constructor ) ).asFixedArity();
+                    }
+                    catch (IllegalAccessException e)
+                    {
+                        throw new RuntimeException( e );
+                    }
+                }
+        );
+    }
+
+    /**
+     * Returns a handle for the public static method {@code methodName} of {@code type} with
+     * the parameter types {@code argTypes}.
+     */
+    static MethodHandle staticMethod(Class<?> type, String methodName, Class<?>[] argTypes)
+    {
+        return FACTORIES.get( type ).computeIfAbsent(
+                key( methodName, argTypes ),
+                k -> {
+                    try
+                    {
+                        Method method = type.getMethod( methodName, argTypes );
+                        return LOOKUP.unreflect( accessible( method ) ).asFixedArity();
+                    }
+                    catch (NoSuchMethodException | IllegalAccessException e)
+                    {
+                        throw new RuntimeException( e );
+                    }
+                }
+        );
+    }
+
+    /**
+     * Returns a handle of type {@code ()Object} invoking the no-arg constructor of {@code type},
+     * which may be private.
+     */
+    static MethodHandle noArgConstructor(Class<?> type)
+    {
+        return FACTORIES.get( type ).computeIfAbsent(
+                key( "<declared-init>", new Class<?>[0] ),
+                k -> {
+                    try
+                    {
+                        Constructor<?> constructor = type.getDeclaredConstructor();
+                        constructor.setAccessible( true );
+                        return LOOKUP.unreflectConstructor( constructor );
+                    }
+                    catch (SecurityException | NoSuchMethodException | IllegalAccessException e)
+                    {
+                        throw new RuntimeException( e );
+                    }
+                }
+        ).asType( methodType( Object.class ) );
+    }
+
+    /**
+     * Returns a handle for the canonical constructor of the record class {@code type},
+     * which may be private.
+     */
+    static MethodHandle canonicalConstructor(Class<? extends Record> type)
+    {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] componentTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++)
+            componentTypes[i] = components[i].getType();
+        return FACTORIES.get( type ).computeIfAbsent(
+                key( "<canonical-init>", componentTypes ),
+                k -> {
+                    try
+                    {
+                        Constructor<?> constructor = type.getDeclaredConstructor( componentTypes );
+                        constructor.setAccessible( true );
+                        return LOOKUP.unreflectConstructor( constructor ).asFixedArity();
+                    }
+                    catch (SecurityException | NoSuchMethodException | IllegalAccessException e)
+                    {
+                        throw new RuntimeException( e );
+                    }
+                }
+        );
+    }
+
+    /**
+     * Returns a handle of type {@code (Object,V)void} setting the field named {@code fieldName},
+     * searching {@code type} and its superclasses.  The field may be private.
+     */
+    static MethodHandle fieldSetter(Class<?> type, String fieldName)
+    {
+        return FIELD_SETTERS.get( type ).computeIfAbsent(
+                fieldName,
+                name -> {
+                    try
+                    {
+                        Field field = searchField( type, name );
+                        field.setAccessible( true );
+                        MethodHandle setter = LOOKUP.unreflectSetter( field );
+                        return Modifier.isStatic( field.getModifiers() )
+                                ? MethodHandles.dropArguments( setter, 0, Object.class )
+                                : setter.asType( methodType( void.class, Object.class, field.getType() ) );
+                    }
+                    catch (SecurityException | IllegalAccessException e)
+                    {
+                        throw new RuntimeException( e );
+                    }
+                    catch (NoSuchFieldException e)
+                    {
+                        throw new RuntimeException( String.format( "class=%s, columnName=%s", type.getName(), name ), e );
+                    }
+                }
+        );
+    }
+
+    private static Field searchField(Class<?> clazz, String columnName) throws NoSuchFieldException
+    {
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass())
+            for (Field f : c.getDeclaredFields())
+                if (f.getName().equals( columnName ))
+                    return f;
+        throw new NoSuchFieldException( columnName );
+    }
+
+    private static <A extends AccessibleObject> A accessible(A member)
+    {
+        try
+        {
+            // the class declaring a public member may itself not be accessible
+            member.setAccessible( true );
+        }
+        catch (RuntimeException e)
+        {
+            // fall back to the regular access check
+        }
+        return member;
+    }
+
+    private static List<Object> key(String name, Class<?>[] argTypes)
+    {
+        Object[] key = new Object[argTypes.length + 1];
+        key[0] = name;
+        System.arraycopy( argTypes, 0, key, 1, argTypes.length );
+        return Arrays.asList( key );
+    }
+
+    /*
+     * Composition
+     */
+
+    /**
+     * Returns a handle of type {@code (ResultSet,ColumnIndex)V} reading the next value with
+     * {@code resultType}.  Primitive parameters are read without boxing if the result type is
+     * a matching {@link PrimitiveResultType}.
+     */
+    static MethodHandle reader(ResultType<?> resultType, Class<?> parameterType)
+    {
+        final MethodHandle reader;
+        if (ResultTypes.isBoxed( resultType ))
+            // unboxing rejects NULL, reading without boxing would pass 0 instead
+            reader = GET_RESULT.bindTo( resultType );
+        else if (parameterType == int.class && resultType instanceof PrimitiveResultType.OfInt)
+            reader = GET_INT.bindTo( resultType );
+        else if (parameterType == long.class && resultType instanceof PrimitiveResultType.OfLong)
+            reader = GET_LONG.bindTo( resultType );
+        else if (parameterType == double.class && resultType instanceof PrimitiveResultType.OfDouble)
+            reader = GET_DOUBLE.bindTo( resultType );
+        else if (parameterType == boolean.class && resultType instanceof PrimitiveResultType.OfBoolean)
+            reader = GET_BOOLEAN.bindTo( resultType );
+        else
+            reader = GET_RESULT.bindTo( resultType );
+        return reader.asType( readerType( parameterType ) );
+    }
+
+    /**
+     * Combines {@code factory}, a constructor or static method, with one reader per parameter
+     * into a handle of type {@code (ResultSet,ColumnIndex)Object}.
+     */
+    static MethodHandle rowFactory(MethodHandle factory, ResultType<?>[] resultTypes)
+    {
+        final MethodType type = factory.type();
+        final int n = type.parameterCount();
+        if (n != resultTypes.length)
+            throw new IllegalArgumentException( String.format(
+                    "%s expects %d arguments but got %d result types", type, n, resultTypes.length ) );
+
+        // (P1..Pn, ResultSet, ColumnIndex)Object
+        MethodHandle handle = MethodHandles.dropArguments(
+                factory.asType( type.changeReturnType( Object.class ) ),
+                n,
+                ResultSet.class, ColumnIndex.class
+        );
+        // fold from the last parameter to the first, so the first reader runs first
+        for (int i = n - 1; i >= 0; i--)
+            handle = MethodHandles.foldArguments( handle, i, reader( resultTypes[i], type.parameterType( i ) ) );
+        return handle;
+    }
+
+    /**
+     * Combines a field setter per column into a handle of type {@code (Object,ResultSet,ColumnIndex)void}
+     * which sets the fields in column order.
+     */
+    static MethodHandle fieldsInitializer(Class<?> type, String[] columnNames, ResultType<?>[] resultTypes)
+    {
+        MethodHandle handle = MethodHandles.empty( methodType( void.class, Object.class, ResultSet.class, ColumnIndex.class ) );
+        for (int i = columnNames.length - 1; i >= 0; i--)
+        {
+            MethodHandle setter = fieldSetter( type, columnNames[i] );
+            // (Object,ResultSet,ColumnIndex)void
+            MethodHandle setColumn = MethodHandles.collectArguments(
+                    setter,
+                    1,
+                    reader( resultTypes[i], setter.type().parameterType( 1 ) )
+            );
+            handle = MethodHandles.foldArguments( handle, setColumn );
+        }
+        return handle;
+    }
+
+    /**
+     * Rethrows {@code throwable} if it is unchecked or an {@link SQLException},
+     * otherwise returns it wrapped in a {@link RuntimeException} for the caller to throw.
+     */
+    static RuntimeException rethrow(Throwable throwable) throws SQLException
+    {
+        if (throwable instanceof SQLException e)
+            throw e;
+        if (throwable instanceof RuntimeException e)
+            throw e;
+        if (throwable instanceof Error e)
+            throw e;
+        return new RuntimeException( throwable );
+    }
+}
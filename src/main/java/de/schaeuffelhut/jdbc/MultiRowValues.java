@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+/**
+ * An {@code INSERT ... VALUES (...)} statement split around its single row constructor,
+ * so it can be rewritten to insert several rows per statement:
+ * {@code INSERT ... VALUES (...), (...), ...}.
+ *
+ * @param prefix the SQL up to and including {@code VALUES}
+ * @param row    the row constructor, including parentheses
+ * @param suffix the SQL following the row constructor, e.g. {@code ON CONFLICT ...}
+ * @see BatchOptions#rowsPerStatement()
+ */
+record MultiRowValues(String prefix, String row, String suffix)
+{
+    /**
+     * Splits {@code sql}, or returns {@code null} if it is not an {@code INSERT} with
+     * exactly one {@code VALUES} row constructor.
+     */
+    static MultiRowValues parse(String sql)
+    {
+        int i = SqlScanner.skipWhitespace( sql, 0 );
+        if (!SqlScanner.isKeywordAt( sql, i, "INSERT" ))
+            return null;
+
+        int values = -1;
+        int depth = 0;
+        while (i < sql.length())
+        {
+            final int next = SqlScanner.skipLiteralOrComment( sql, i );
+            if (next != i)
+            {
+                i = next;
+                continue;
+            }
+            final char c = sql.charAt( i );
+            if (c == '(')
+            {
+                depth++;
+            }
+            else if (c == ')')
+            {
+                depth--;
+            }
+            else if (depth == 0 && SqlScanner.isKeywordAt( sql, i, "VALUES" ))
+            {
+                if (values >= 0)
+                    return null;
+                values = i + "VALUES".length();
+            }
+            else if (depth == 0 && (SqlScanner.isKeywordAt( sql, i, "SELECT" ) || c == ';'))
+            {
+                return null;
+            }
+            i++;
+        }
+        if (values < 0)
+            return null;
+
+        final int rowStart = SqlScanner.skipWhitespace( sql, values );
+        if (rowStart >= sql.length() || sql.charAt( rowStart ) != '(')
+            return null;
+
+        final int rowEnd = matchingParenthesis( sql, rowStart );
+        if (rowEnd < 0)
+            return null;
+
+        final int afterRow = SqlScanner.skipWhitespace( sql, rowEnd + 1 );
+        if (afterRow < sql.length() && sql.charAt( afterRow ) == ',')
+            return null; // already a multi-row insert
+
+        return new MultiRowValues(
+                sql.substring( 0, values ),
+                sql.substring( rowStart, rowEnd + 1 ),
+                sql.substring( rowEnd + 1 )
+        );
+    }
+
+    private static int matchingParenthesis(String sql, int open)
+    {
+        int depth = 0;
+        int i = open;
+        while (i < sql.length())
+        {
+            final int next = SqlScanner.skipLiteralOrComment( sql, i );
+            if (next != i)
+            {
+                i = next;
+                continue;
+            }
+            final char c = sql.charAt( i );
+            if (c == '(')
+                depth++;
+            else if (c == ')' && --depth == 0)
+                return i;
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the statement inserting {@code rows} rows.
+     */
+    String sql(int rows)
+    {
+        final StringBuilder sql = new StringBuilder( prefix.length() + suffix.length() + rows * (row.length() + 2) );
+        sql.append( prefix ).append( ' ' );
+        for (int i = 0; i < rows; i++)
+        {
+            if (i > 0)
+                sql.append( ", " );
+            sql.append( row );
+        }
+        return sql.append( suffix ).toString();
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL with named parameters like {@code :id}, compiled to positional SQL.
+ *
+ * <p>The SQL is parsed once per text: {@link #of(String)} caches the positional SQL, with a {@code ?}
+ * for every {@code :name}, and the bind marker positions of each name.  Names inside string literals,
+ * quoted identifiers and comments are ignored, as are casts like {@code ::text}.  A name may occur
+ * several times.</p>
+ *
+ * <pre>{@code
+ * NamedSql sql = NamedSql.of( "SELECT * FROM users WHERE name = :name OR alias = :name AND age >= :minAge" );
+ *
+ * statementUtil.selectInto(
+ *         sql.sql(),
+ *         ResultSetReaders.readMany(),
+ *         userMapper,
+ *         sql.parameters( Map.of(
+ *                 "name", StatementParameters.String( "alice" ),
+ *                 "minAge", StatementParameters.Integer( 18 ) ) ) );
+ *
+ * record UserQuery(String name, int minAge) {}
+ * statementUtil.selectInto( sql.sql(), ResultSetReaders.readMany(), userMapper,
+ *         sql.parameters( new UserQuery( "alice", 18 ) ) );
+ * }</pre>
+ *
+ * <p>Each name binds exactly one bind marker, so only parameters leaving the SQL
+ * {@linkplain StatementParameter#sqlShape() unchanged} can be bound by name, not for example
+ * {@link StatementParameters#Collection(StatementInParameterType, String, java.util.Collection) Collection}.</p>
+ */
+public final class NamedSql
+{
+    private static final int MAX_SIZE = 4096;
+    private static final ConcurrentHashMap<String, NamedSql> CACHE = new ConcurrentHashMap<>();
+
+    private final String namedSql;
+    private final String sql;
+    private final String[] nameOfMarker;
+    private final Map<String, int[]> markersOfName;
+    private final ClassValue<RecordBinding> recordBindings = new ClassValue<>()
+    {
+        @Override
+        protected RecordBinding computeValue(Class<?> type)
+        {
+            return bindRecord( type );
+        }
+    };
+
+    private NamedSql(String namedSql, String sql, String[] nameOfMarker, Map<String, int[]> markersOfName)
+    {
+        this.namedSql = namedSql;
+        this.sql = sql;
+        this.nameOfMarker = nameOfMarker;
+        this.markersOfName = markersOfName;
+    }
+
+    /**
+     * Returns the compiled form of {@code namedSql}, parsing it on first use.
+     *
+     * @param namedSql SQL with {@code :name} parameters and no {@code ?} bind markers
+     * @return the compiled SQL
+     * @throws IllegalArgumentException if {@code namedSql} contains {@code ?} bind markers
+     */
+    public static NamedSql of(String namedSql)
+    {
+        NamedSql compiled = CACHE.get( namedSql );
+        if (compiled == null)
+        {
+            compiled = parse( namedSql );
+            if (CACHE.size() >= MAX_SIZE)
+                CACHE.clear();
+            CACHE.put( namedSql, compiled );
+        }
+        return compiled;
+    }
+
+    static NamedSql parse(String namedSql)
+    {
+        final StringBuilder sql = new StringBuilder( namedSql.length() );
+        final List<String> nameOfMarker = new ArrayList<>();
+        final int length = namedSql.length();
+        int i = 0;
+        while (i < length)
+        {
+            final int next = SqlScanner.skipLiteralOrComment( namedSql, i );
+            if (next != i)
+            {
+                sql.append( namedSql, i, next );
+                i = next;
+                continue;
+            }
+
+            final char c = namedSql.charAt( i );
+            if (c == '?')
+                throw new IllegalArgumentException( "positional bind marker at " + i + " in named SQL: " + namedSql );
+            if (c == ':' && i + 1 < length && namedSql.charAt( i + 1 ) == ':')
+            {
+                sql.append( "::" );
+                i += 2;
+            }
+            else if (c == ':' && i + 1 < length && isNameStart( namedSql.charAt( i + 1 ) ))
+            {
+                int end = i + 2;
+                while (end < length && SqlScanner.isIdentifierPart( namedSql.charAt( end ) ))
+                    end++;
+                nameOfMarker.add( namedSql.substring( i + 1, end ) );
+                sql.append( '?' );
+                i = end;
+            }
+            else
+            {
+                sql.append( c );
+                i++;
+            }
+        }
+
+        final Map<String, List<Integer>> markers = new LinkedHashMap<>();
+        for (int marker = 0; marker < nameOfMarker.size(); marker++)
+            markers.computeIfAbsent( nameOfMarker.get( marker ), name -> new ArrayList<>() ).add( marker + 1 );
+        final Map<String, int[]> markersOfName = new LinkedHashMap<>();
+        markers.forEach( (name, list) -> markersOfName.put( name, list.stream().mapToInt( Integer::intValue ).toArray() ) );
+
+        return new NamedSql( namedSql, sql.toString(), nameOfMarker.toArray( new String[0] ), Collections.unmodifiableMap( markersOfName ) );
+    }
+
+    private static boolean isNameStart(char c)
+    {
+        return Character.isLetter( c ) || c == '_';
+    }
+
+    /**
+     * Returns the SQL as passed to {@link #of(String)}.
+     */
+    public String namedSql()
+    {
+        return namedSql;
+    }
+
+    /**
+     * Returns the positional SQL, to be executed with {@link #parameters(Map)} or {@link #parameters(Record)}.
+     */
+    public String sql()
+    {
+        return sql;
+    }
+
+    /**
+     * Returns the parameter names, in order of their first occurrence.
+     */
+    public Set<String> names()
+    {
+        return markersOfName.keySet();
+    }
+
+    /**
+     * Returns the 1-based positions of the bind markers of {@code name}.
+     *
+     * @throws IllegalArgumentException if there is no parameter {@code name}
+     */
+    public int[] markersOf(String name)
+    {
+        final int[] markers = markersOfName.get( name );
+        if (markers == null)
+            throw new IllegalArgumentException( String.format( "no parameter :%s in %s", name, namedSql ) );
+        return markers.clone();
+    }
+
+    /**
+     * Returns the positional parameters, taking the parameter of each name from {@code parameters}.
+     * Entries not used by the SQL are ignored.
+     *
+     * @param parameters the parameter of each name, e.g. {@code StatementParameters.Long( 42L )}
+     * @return the parameters in bind marker order
+     * @throws IllegalArgumentException if a name has no parameter, or a parameter does not declare
+     *                                  {@link StatementParameter.SqlShape#UNCHANGED unchanged} SQL
+     */
+    public StatementInParameter[] parameters(Map<String, ? extends StatementInParameter> parameters)
+    {
+        final StatementInParameter[] positional = new StatementInParameter[nameOfMarker.length];
+        for (int marker = 0; marker < positional.length; marker++)
+        {
+            final String name = nameOfMarker[marker];
+            final StatementInParameter parameter = parameters.get( name );
+            if (parameter == null)
+                throw new IllegalArgumentException( String.format( "no value for parameter :%s in %s", name, namedSql ) );
+            if (parameter.sqlShape() != StatementParameter.SqlShape.UNCHANGED)
+                throw new IllegalArgumentException( String.format( "parameter :%s modifies the SQL, which named parameters do not support", name ) );
+            positional[marker] = parameter;
+        }
+        return positional;
+    }
+
+    /**
+     * Returns the positional parameters, taking the value of each name from the record component of the
+     * same name.  Names match components ignoring case and underscores, so {@code :first_name} binds the
+     * component {@code firstName}.  The {@link StatementInParameterType} is chosen by the component type,
+     * like {@link ResultSetMappers#record(Class)} chooses the {@link ResultType}.
+     *
+     * @param record the values
+     * @return the parameters in bind marker order
+     * @throws IllegalArgumentException if a name has no component
+     */
+    public StatementInParameter[] parameters(Record record)
+    {
+        return recordBindings.get( record.getClass() ).parameters( record );
+    }
+
+    /**
+     * The accessor and parameter type of the component bound to each name.
+     */
+    private record RecordBinding(MethodHandle[] accessors, StatementInParameterType<Object>[] types, int[] nameOfMarker)
+    {
+        StatementInParameter[] parameters(Record record)
+        {
+            final StatementInParameter[] byName = new StatementInParameter[accessors.length];
+            try
+            {
+                for (int i = 0; i < accessors.length; i++)
+                    byName[i] = new BoundValue<>( types[i], (Object) accessors[i].invokeExact( (Object) record ) );
+            }
+            catch (RuntimeException | Error e)
+            {
+                throw e;
+            }
+            catch (Throwable e)
+            {
+                throw new RuntimeException( e );
+            }
+
+            final StatementInParameter[] positional = new StatementInParameter[nameOfMarker.length];
+            for (int marker = 0; marker < positional.length; marker++)
+                positional[marker] = byName[nameOfMarker[marker]];
+            return positional;
+        }
+    }
+
+    private RecordBinding bindRecord(Class<?> type)
+    {
+        final RecordComponent[] components = type.getRecordComponents();
+        final List<String> names = new ArrayList<>( markersOfName.keySet() );
+        final MethodHandle[] accessors = new MethodHandle[names.size()];
+        final StatementInParameterType<Object>[] types = newParameterTypes( names.size() );
+        for (int i = 0; i < names.size(); i++)
+        {
+            final RecordComponent component = findComponent( components, names.get( i ) );
+            if (component == null)
+                throw new IllegalArgumentException( String.format(
+                        "class=%s, no component for parameter :%s in %s", type.getName(), names.get( i ), namedSql ) );
+            accessors[i] = accessor( component );
+            types[i] = objectParameterTypeFor( component.getType() );
+        }
+
+        final int[] nameOfMarker = new int[this.nameOfMarker.length];
+        for (int marker = 0; marker < nameOfMarker.length; marker++)
+            nameOfMarker[marker] = names.indexOf( this.nameOfMarker[marker] );
+        return new RecordBinding( accessors, types, nameOfMarker );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StatementInParameterType<Object>[] newParameterTypes(int size)
+    {
+        return (StatementInParameterType<Object>[]) new StatementInParameterType<?>[size];
+    }
+
+    /**
+     * Returns {@link #parameterTypeFor(Class)} as a type accepting the values returned by the accessor,
+     * which are of the component type.
+     */
+    @SuppressWarnings("unchecked")
+    private static StatementInParameterType<Object> objectParameterTypeFor(Class<?> type)
+    {
+        return (StatementInParameterType<Object>) parameterTypeFor( type );
+    }
+
+    private static RecordComponent findComponent(RecordComponent[] components, String name)
+    {
+        for (RecordComponent component : components)
+            if (component.getName().equalsIgnoreCase( name ))
+                return component;
+        final String stripped = name.replace( "_", "" );
+        for (RecordComponent component : components)
+            if (component.getName().equalsIgnoreCase( stripped ))
+                return component;
+        return null;
+    }
+
+    /**
+     * Returns a handle of type {@code (Object)Object} invoking the accessor of {@code component}.
+     */
+    private static MethodHandle accessor(RecordComponent component)
+    {
+        try
+        {
+            final Method method = component.getAccessor();
+            method.setAccessible( true );
+            return MethodHandles.lookup().unreflect( method ).asType( MethodType.methodType( Object.class, Object.class ) );
+        }
+        catch (SecurityException | IllegalAccessException e)
+        {
+            throw new RuntimeException( e );
+        }
+    }
+
+    /**
+     * Returns the {@link StatementInParameterType} for a component of the given type:
+     * <ul>
+     *     <li>primitives, wrappers, {@link String}, {@link BigDecimal}, JDBC and Joda date types use the
+     *     matching constant of {@link StatementParameters}</li>
+     *     <li>enums are bound by key if they implement {@link EnumIntKey}, otherwise by name</li>
+     *     <li>any other type is bound with {@link java.sql.PreparedStatement#setObject(int, Object)}</li>
+     * </ul>
+     */
+    static StatementInParameterType<?> parameterTypeFor(Class<?> type)
+    {
+        final StatementInParameterType<?> parameterType = ComponentTypes.parameterType( type );
+        if (parameterType != null)
+            return parameterType;
+        else if (type.isEnum() && EnumIntKey.class.isAssignableFrom( type ))
+            return StatementParameters.EnumByIntKey;
+        else if (type.isEnum())
+            return StatementParameters.EnumByName;
+        else
+            return StatementParameters.Object;
+    }
+
+    @Override
+    public String toString()
+    {
+        return namedSql;
+    }
+}
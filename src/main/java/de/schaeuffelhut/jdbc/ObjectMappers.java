@@ -0,0 +1,702 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import de.schaeuffelhut.jdbc.ResultSetMappers.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The mappers returned by the {@code ResultSetMappers.object(F1, ResultType)} family, one class per arity.
+ *
+ * <p>Kept out of {@link ResultSetMappers} so that only the arities actually used are loaded and
+ * verified, and so that creating a mapper does not bootstrap a lambda.  Each class reads its
+ * columns in order and passes them to the mapping function.</p>
+ */
+final class ObjectMappers
+{
+    private ObjectMappers()
+    {
+    }
+
+    // @formatter:off
+
+    static final class ObjectMapper1<R, T1> implements ResultSetMapper<R>
+    {
+        private final F1<R, T1> f; private final ResultType<T1> t1;
+        ObjectMapper1(F1<R, T1> f, ResultType<T1> t1) { this.f = f; this.t1 = t1; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper2<R, T1, T2> implements ResultSetMapper<R>
+    {
+        private final F2<R, T1, T2> f; private final ResultType<T1> t1; private final ResultType<T2> t2;
+        ObjectMapper2(F2<R, T1, T2> f, ResultType<T1> t1, ResultType<T2> t2) { this.f = f; this.t1 = t1; this.t2 = t2; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper3<R, T1, T2, T3> implements ResultSetMapper<R>
+    {
+        private final F3<R, T1, T2, T3> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3;
+        ObjectMapper3(F3<R, T1, T2, T3> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper4<R, T1, T2, T3, T4> implements ResultSetMapper<R>
+    {
+        private final F4<R, T1, T2, T3, T4> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4;
+        ObjectMapper4(F4<R, T1, T2, T3, T4> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper5<R, T1, T2, T3, T4, T5> implements ResultSetMapper<R>
+    {
+        private final F5<R, T1, T2, T3, T4, T5> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5;
+        ObjectMapper5(F5<R, T1, T2, T3, T4, T5> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper6<R, T1, T2, T3, T4, T5, T6> implements ResultSetMapper<R>
+    {
+        private final F6<R, T1, T2, T3, T4, T5, T6> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6;
+        ObjectMapper6(F6<R, T1, T2, T3, T4, T5, T6> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper7<R, T1, T2, T3, T4, T5, T6, T7> implements ResultSetMapper<R>
+    {
+        private final F7<R, T1, T2, T3, T4, T5, T6, T7> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7;
+        ObjectMapper7(F7<R, T1, T2, T3, T4, T5, T6, T7> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper8<R, T1, T2, T3, T4, T5, T6, T7, T8> implements ResultSetMapper<R>
+    {
+        private final F8<R, T1, T2, T3, T4, T5, T6, T7, T8> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8;
+        ObjectMapper8(F8<R, T1, T2, T3, T4, T5, T6, T7, T8> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper9<R, T1, T2, T3, T4, T5, T6, T7, T8, T9> implements ResultSetMapper<R>
+    {
+        private final F9<R, T1, T2, T3, T4, T5, T6, T7, T8, T9> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9;
+        ObjectMapper9(F9<R, T1, T2, T3, T4, T5, T6, T7, T8, T9> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper10<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> implements ResultSetMapper<R>
+    {
+        private final F10<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10;
+        ObjectMapper10(F10<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper11<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> implements ResultSetMapper<R>
+    {
+        private final F11<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11;
+        ObjectMapper11(F11<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper12<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> implements ResultSetMapper<R>
+    {
+        private final F12<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12;
+        ObjectMapper12(F12<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper13<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> implements ResultSetMapper<R>
+    {
+        private final F13<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13;
+        ObjectMapper13(F13<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper14<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> implements ResultSetMapper<R>
+    {
+        private final F14<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14;
+        ObjectMapper14(F14<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper15<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> implements ResultSetMapper<R>
+    {
+        private final F15<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15;
+        ObjectMapper15(F15<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper16<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> implements ResultSetMapper<R>
+    {
+        private final F16<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16;
+        ObjectMapper16(F16<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper17<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> implements ResultSetMapper<R>
+    {
+        private final F17<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17;
+        ObjectMapper17(F17<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper18<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> implements ResultSetMapper<R>
+    {
+        private final F18<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18;
+        ObjectMapper18(F18<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper19<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> implements ResultSetMapper<R>
+    {
+        private final F19<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19;
+        ObjectMapper19(F19<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper20<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> implements ResultSetMapper<R>
+    {
+        private final F20<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20;
+        ObjectMapper20(F20<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper21<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> implements ResultSetMapper<R>
+    {
+        private final F21<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21;
+        ObjectMapper21(F21<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper22<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> implements ResultSetMapper<R>
+    {
+        private final F22<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22;
+        ObjectMapper22(F22<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper23<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23> implements ResultSetMapper<R>
+    {
+        private final F23<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23;
+        ObjectMapper23(F23<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper24<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24> implements ResultSetMapper<R>
+    {
+        private final F24<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24;
+        ObjectMapper24(F24<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper25<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25> implements ResultSetMapper<R>
+    {
+        private final F25<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25;
+        ObjectMapper25(F25<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper26<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26> implements ResultSetMapper<R>
+    {
+        private final F26<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26;
+        ObjectMapper26(F26<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper27<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27> implements ResultSetMapper<R>
+    {
+        private final F27<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27;
+        ObjectMapper27(F27<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper28<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28> implements ResultSetMapper<R>
+    {
+        private final F28<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28;
+        ObjectMapper28(F28<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper29<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29> implements ResultSetMapper<R>
+    {
+        private final F29<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29;
+        ObjectMapper29(F29<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper30<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30> implements ResultSetMapper<R>
+    {
+        private final F30<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30;
+        ObjectMapper30(F30<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper31<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31> implements ResultSetMapper<R>
+    {
+        private final F31<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31;
+        ObjectMapper31(F31<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper32<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32> implements ResultSetMapper<R>
+    {
+        private final F32<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32;
+        ObjectMapper32(F32<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper33<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33> implements ResultSetMapper<R>
+    {
+        private final F33<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33;
+        ObjectMapper33(F33<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper34<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34> implements ResultSetMapper<R>
+    {
+        private final F34<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34;
+        ObjectMapper34(F34<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper35<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35> implements ResultSetMapper<R>
+    {
+        private final F35<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35;
+        ObjectMapper35(F35<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper36<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36> implements ResultSetMapper<R>
+    {
+        private final F36<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36;
+        ObjectMapper36(F36<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper37<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37> implements ResultSetMapper<R>
+    {
+        private final F37<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37;
+        ObjectMapper37(F37<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper38<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38> implements ResultSetMapper<R>
+    {
+        private final F38<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38;
+        ObjectMapper38(F38<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper39<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39> implements ResultSetMapper<R>
+    {
+        private final F39<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39;
+        ObjectMapper39(F39<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper40<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40> implements ResultSetMapper<R>
+    {
+        private final F40<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40;
+        ObjectMapper40(F40<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper41<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41> implements ResultSetMapper<R>
+    {
+        private final F41<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41;
+        ObjectMapper41(F41<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper42<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42> implements ResultSetMapper<R>
+    {
+        private final F42<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42;
+        ObjectMapper42(F42<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper43<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43> implements ResultSetMapper<R>
+    {
+        private final F43<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43;
+        ObjectMapper43(F43<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper44<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44> implements ResultSetMapper<R>
+    {
+        private final F44<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44;
+        ObjectMapper44(F44<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper45<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45> implements ResultSetMapper<R>
+    {
+        private final F45<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45;
+        ObjectMapper45(F45<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper46<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46> implements ResultSetMapper<R>
+    {
+        private final F46<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46;
+        ObjectMapper46(F46<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper47<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47> implements ResultSetMapper<R>
+    {
+        private final F47<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47;
+        ObjectMapper47(F47<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper48<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48> implements ResultSetMapper<R>
+    {
+        private final F48<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48;
+        ObjectMapper48(F48<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper49<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49> implements ResultSetMapper<R>
+    {
+        private final F49<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49;
+        ObjectMapper49(F49<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper50<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50> implements ResultSetMapper<R>
+    {
+        private final F50<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50;
+        ObjectMapper50(F50<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper51<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51> implements ResultSetMapper<R>
+    {
+        private final F51<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51;
+        ObjectMapper51(F51<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper52<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52> implements ResultSetMapper<R>
+    {
+        private final F52<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52;
+        ObjectMapper52(F52<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper53<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53> implements ResultSetMapper<R>
+    {
+        private final F53<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53;
+        ObjectMapper53(F53<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper54<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54> implements ResultSetMapper<R>
+    {
+        private final F54<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54;
+        ObjectMapper54(F54<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper55<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55> implements ResultSetMapper<R>
+    {
+        private final F55<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55;
+        ObjectMapper55(F55<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper56<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56> implements ResultSetMapper<R>
+    {
+        private final F56<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56;
+        ObjectMapper56(F56<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper57<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57> implements ResultSetMapper<R>
+    {
+        private final F57<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57;
+        ObjectMapper57(F57<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper58<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58> implements ResultSetMapper<R>
+    {
+        private final F58<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58;
+        ObjectMapper58(F58<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper59<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59> implements ResultSetMapper<R>
+    {
+        private final F59<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59;
+        ObjectMapper59(F59<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper60<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60> implements ResultSetMapper<R>
+    {
+        private final F60<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60;
+        ObjectMapper60(F60<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper61<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61> implements ResultSetMapper<R>
+    {
+        private final F61<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61;
+        ObjectMapper61(F61<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper62<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62> implements ResultSetMapper<R>
+    {
+        private final F62<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62;
+        ObjectMapper62(F62<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper63<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63> implements ResultSetMapper<R>
+    {
+        private final F63<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63;
+        ObjectMapper63(F63<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper64<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64> implements ResultSetMapper<R>
+    {
+        private final F64<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64;
+        ObjectMapper64(F64<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper65<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65> implements ResultSetMapper<R>
+    {
+        private final F65<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65;
+        ObjectMapper65(F65<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper66<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66> implements ResultSetMapper<R>
+    {
+        private final F66<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66;
+        ObjectMapper66(F66<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper67<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67> implements ResultSetMapper<R>
+    {
+        private final F67<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67;
+        ObjectMapper67(F67<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper68<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68> implements ResultSetMapper<R>
+    {
+        private final F68<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68;
+        ObjectMapper68(F68<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper69<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69> implements ResultSetMapper<R>
+    {
+        private final F69<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69;
+        ObjectMapper69(F69<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper70<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70> implements ResultSetMapper<R>
+    {
+        private final F70<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70;
+        ObjectMapper70(F70<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper71<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71> implements ResultSetMapper<R>
+    {
+        private final F71<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71;
+        ObjectMapper71(F71<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper72<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72> implements ResultSetMapper<R>
+    {
+        private final F72<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72;
+        ObjectMapper72(F72<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper73<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73> implements ResultSetMapper<R>
+    {
+        private final F73<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73;
+        ObjectMapper73(F73<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper74<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74> implements ResultSetMapper<R>
+    {
+        private final F74<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74;
+        ObjectMapper74(F74<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper75<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75> implements ResultSetMapper<R>
+    {
+        private final F75<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75;
+        ObjectMapper75(F75<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper76<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76> implements ResultSetMapper<R>
+    {
+        private final F76<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76;
+        ObjectMapper76(F76<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper77<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77> implements ResultSetMapper<R>
+    {
+        private final F77<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77;
+        ObjectMapper77(F77<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper78<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78> implements ResultSetMapper<R>
+    {
+        private final F78<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78;
+        ObjectMapper78(F78<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper79<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79> implements ResultSetMapper<R>
+    {
+        private final F79<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79;
+        ObjectMapper79(F79<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper80<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80> implements ResultSetMapper<R>
+    {
+        private final F80<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80;
+        ObjectMapper80(F80<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper81<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81> implements ResultSetMapper<R>
+    {
+        private final F81<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81;
+        ObjectMapper81(F81<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper82<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82> implements ResultSetMapper<R>
+    {
+        private final F82<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82;
+        ObjectMapper82(F82<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper83<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83> implements ResultSetMapper<R>
+    {
+        private final F83<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83;
+        ObjectMapper83(F83<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper84<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84> implements ResultSetMapper<R>
+    {
+        private final F84<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84;
+        ObjectMapper84(F84<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper85<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85> implements ResultSetMapper<R>
+    {
+        private final F85<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85;
+        ObjectMapper85(F85<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper86<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86> implements ResultSetMapper<R>
+    {
+        private final F86<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85; private final ResultType<T86> t86;
+        ObjectMapper86(F86<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; this.t86 = t86; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ), t86.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper87<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87> implements ResultSetMapper<R>
+    {
+        private final F87<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85; private final ResultType<T86> t86; private final ResultType<T87> t87;
+        ObjectMapper87(F87<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; this.t86 = t86; this.t87 = t87; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ), t86.getResult( resultSet, idx ), t87.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper88<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88> implements ResultSetMapper<R>
+    {
+        private final F88<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85; private final ResultType<T86> t86; private final ResultType<T87> t87; private final ResultType<T88> t88;
+        ObjectMapper88(F88<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; this.t86 = t86; this.t87 = t87; this.t88 = t88; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ), t86.getResult( resultSet, idx ), t87.getResult( resultSet, idx ), t88.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper89<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89> implements ResultSetMapper<R>
+    {
+        private final F89<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85; private final ResultType<T86> t86; private final ResultType<T87> t87; private final ResultType<T88> t88; private final ResultType<T89> t89;
+        ObjectMapper89(F89<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; this.t86 = t86; this.t87 = t87; this.t88 = t88; this.t89 = t89; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ), t86.getResult( resultSet, idx ), t87.getResult( resultSet, idx ), t88.getResult( resultSet, idx ), t89.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper90<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90> implements ResultSetMapper<R>
+    {
+        private final F90<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85; private final ResultType<T86> t86; private final ResultType<T87> t87; private final ResultType<T88> t88; private final ResultType<T89> t89; private final ResultType<T90> t90;
+        ObjectMapper90(F90<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; this.t86 = t86; this.t87 = t87; this.t88 = t88; this.t89 = t89; this.t90 = t90; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ), t86.getResult( resultSet, idx ), t87.getResult( resultSet, idx ), t88.getResult( resultSet, idx ), t89.getResult( resultSet, idx ), t90.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper91<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91> implements ResultSetMapper<R>
+    {
+        private final F91<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85; private final ResultType<T86> t86; private final ResultType<T87> t87; private final ResultType<T88> t88; private final ResultType<T89> t89; private final ResultType<T90> t90; private final ResultType<T91> t91;
+        ObjectMapper91(F91<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; this.t86 = t86; this.t87 = t87; this.t88 = t88; this.t89 = t89; this.t90 = t90; this.t91 = t91; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ), t86.getResult( resultSet, idx ), t87.getResult( resultSet, idx ), t88.getResult( resultSet, idx ), t89.getResult( resultSet, idx ), t90.getResult( resultSet, idx ), t91.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper92<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92> implements ResultSetMapper<R>
+    {
+        private final F92<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85; private final ResultType<T86> t86; private final ResultType<T87> t87; private final ResultType<T88> t88; private final ResultType<T89> t89; private final ResultType<T90> t90; private final ResultType<T91> t91; private final ResultType<T92> t92;
+        ObjectMapper92(F92<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; this.t86 = t86; this.t87 = t87; this.t88 = t88; this.t89 = t89; this.t90 = t90; this.t91 = t91; this.t92 = t92; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ), t86.getResult( resultSet, idx ), t87.getResult( resultSet, idx ), t88.getResult( resultSet, idx ), t89.getResult( resultSet, idx ), t90.getResult( resultSet, idx ), t91.getResult( resultSet, idx ), t92.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper93<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93> implements ResultSetMapper<R>
+    {
+        private final F93<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85; private final ResultType<T86> t86; private final ResultType<T87> t87; private final ResultType<T88> t88; private final ResultType<T89> t89; private final ResultType<T90> t90; private final ResultType<T91> t91; private final ResultType<T92> t92; private final ResultType<T93> t93;
+        ObjectMapper93(F93<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; this.t86 = t86; this.t87 = t87; this.t88 = t88; this.t89 = t89; this.t90 = t90; this.t91 = t91; this.t92 = t92; this.t93 = t93; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ), t86.getResult( resultSet, idx ), t87.getResult( resultSet, idx ), t88.getResult( resultSet, idx ), t89.getResult( resultSet, idx ), t90.getResult( resultSet, idx ), t91.getResult( resultSet, idx ), t92.getResult( resultSet, idx ), t93.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper94<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94> implements ResultSetMapper<R>
+    {
+        private final F94<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85; private final ResultType<T86> t86; private final ResultType<T87> t87; private final ResultType<T88> t88; private final ResultType<T89> t89; private final ResultType<T90> t90; private final ResultType<T91> t91; private final ResultType<T92> t92; private final ResultType<T93> t93; private final ResultType<T94> t94;
+        ObjectMapper94(F94<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93, ResultType<T94> t94) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; this.t86 = t86; this.t87 = t87; this.t88 = t88; this.t89 = t89; this.t90 = t90; this.t91 = t91; this.t92 = t92; this.t93 = t93; this.t94 = t94; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ), t86.getResult( resultSet, idx ), t87.getResult( resultSet, idx ), t88.getResult( resultSet, idx ), t89.getResult( resultSet, idx ), t90.getResult( resultSet, idx ), t91.getResult( resultSet, idx ), t92.getResult( resultSet, idx ), t93.getResult( resultSet, idx ), t94.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper95<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95> implements ResultSetMapper<R>
+    {
+        private final F95<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85; private final ResultType<T86> t86; private final ResultType<T87> t87; private final ResultType<T88> t88; private final ResultType<T89> t89; private final ResultType<T90> t90; private final ResultType<T91> t91; private final ResultType<T92> t92; private final ResultType<T93> t93; private final ResultType<T94> t94; private final ResultType<T95> t95;
+        ObjectMapper95(F95<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93, ResultType<T94> t94, ResultType<T95> t95) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; this.t86 = t86; this.t87 = t87; this.t88 = t88; this.t89 = t89; this.t90 = t90; this.t91 = t91; this.t92 = t92; this.t93 = t93; this.t94 = t94; this.t95 = t95; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ), t86.getResult( resultSet, idx ), t87.getResult( resultSet, idx ), t88.getResult( resultSet, idx ), t89.getResult( resultSet, idx ), t90.getResult( resultSet, idx ), t91.getResult( resultSet, idx ), t92.getResult( resultSet, idx ), t93.getResult( resultSet, idx ), t94.getResult( resultSet, idx ), t95.getResult( resultSet, idx ) ); }
+    }
+
+    static final class ObjectMapper96<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95, T96> implements ResultSetMapper<R>
+    {
+        private final F96<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95, T96> f; private final ResultType<T1> t1; private final ResultType<T2> t2; private final ResultType<T3> t3; private final ResultType<T4> t4; private final ResultType<T5> t5; private final ResultType<T6> t6; private final ResultType<T7> t7; private final ResultType<T8> t8; private final ResultType<T9> t9; private final ResultType<T10> t10; private final ResultType<T11> t11; private final ResultType<T12> t12; private final ResultType<T13> t13; private final ResultType<T14> t14; private final ResultType<T15> t15; private final ResultType<T16> t16; private final ResultType<T17> t17; private final ResultType<T18> t18; private final ResultType<T19> t19; private final ResultType<T20> t20; private final ResultType<T21> t21; private final ResultType<T22> t22; private final ResultType<T23> t23; private final ResultType<T24> t24; private final ResultType<T25> t25; private final ResultType<T26> t26; private final ResultType<T27> t27; private final ResultType<T28> t28; private final ResultType<T29> t29; private final ResultType<T30> t30; private final ResultType<T31> t31; private final ResultType<T32> t32; private final ResultType<T33> t33; private final ResultType<T34> t34; private final ResultType<T35> t35; private final ResultType<T36> t36; private final ResultType<T37> t37; private final ResultType<T38> t38; private final ResultType<T39> t39; private final ResultType<T40> t40; private final ResultType<T41> t41; private final ResultType<T42> t42; private final ResultType<T43> t43; private final ResultType<T44> t44; private final ResultType<T45> t45; private final ResultType<T46> t46; private final ResultType<T47> t47; private final ResultType<T48> t48; private final ResultType<T49> t49; private final ResultType<T50> t50; private final ResultType<T51> t51; private final ResultType<T52> t52; private final ResultType<T53> t53; private final ResultType<T54> t54; private final ResultType<T55> t55; private final ResultType<T56> t56; private final ResultType<T57> t57; private final ResultType<T58> t58; private final ResultType<T59> t59; private final ResultType<T60> t60; private final ResultType<T61> t61; private final ResultType<T62> t62; private final ResultType<T63> t63; private final ResultType<T64> t64; private final ResultType<T65> t65; private final ResultType<T66> t66; private final ResultType<T67> t67; private final ResultType<T68> t68; private final ResultType<T69> t69; private final ResultType<T70> t70; private final ResultType<T71> t71; private final ResultType<T72> t72; private final ResultType<T73> t73; private final ResultType<T74> t74; private final ResultType<T75> t75; private final ResultType<T76> t76; private final ResultType<T77> t77; private final ResultType<T78> t78; private final ResultType<T79> t79; private final ResultType<T80> t80; private final ResultType<T81> t81; private final ResultType<T82> t82; private final ResultType<T83> t83; private final ResultType<T84> t84; private final ResultType<T85> t85; private final ResultType<T86> t86; private final ResultType<T87> t87; private final ResultType<T88> t88; private final ResultType<T89> t89; private final ResultType<T90> t90; private final ResultType<T91> t91; private final ResultType<T92> t92; private final ResultType<T93> t93; private final ResultType<T94> t94; private final ResultType<T95> t95; private final ResultType<T96> t96;
+        ObjectMapper96(F96<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95, T96> f, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93, ResultType<T94> t94, ResultType<T95> t95, ResultType<T96> t96) { this.f = f; this.t1 = t1; this.t2 = t2; this.t3 = t3; this.t4 = t4; this.t5 = t5; this.t6 = t6; this.t7 = t7; this.t8 = t8; this.t9 = t9; this.t10 = t10; this.t11 = t11; this.t12 = t12; this.t13 = t13; this.t14 = t14; this.t15 = t15; this.t16 = t16; this.t17 = t17; this.t18 = t18; this.t19 = t19; this.t20 = t20; this.t21 = t21; this.t22 = t22; this.t23 = t23; this.t24 = t24; this.t25 = t25; this.t26 = t26; this.t27 = t27; this.t28 = t28; this.t29 = t29; this.t30 = t30; this.t31 = t31; this.t32 = t32; this.t33 = t33; this.t34 = t34; this.t35 = t35; this.t36 = t36; this.t37 = t37; this.t38 = t38; this.t39 = t39; this.t40 = t40; this.t41 = t41; this.t42 = t42; this.t43 = t43; this.t44 = t44; this.t45 = t45; this.t46 = t46; this.t47 = t47; this.t48 = t48; this.t49 = t49; this.t50 = t50; this.t51 = t51; this.t52 = t52; this.t53 = t53; this.t54 = t54; this.t55 = t55; this.t56 = t56; this.t57 = t57; this.t58 = t58; this.t59 = t59; this.t60 = t60; this.t61 = t61; this.t62 = t62; this.t63 = t63; this.t64 = t64; this.t65 = t65; this.t66 = t66; this.t67 = t67; this.t68 = t68; this.t69 = t69; this.t70 = t70; this.t71 = t71; this.t72 = t72; this.t73 = t73; this.t74 = t74; this.t75 = t75; this.t76 = t76; this.t77 = t77; this.t78 = t78; this.t79 = t79; this.t80 = t80; this.t81 = t81; this.t82 = t82; this.t83 = t83; this.t84 = t84; this.t85 = t85; this.t86 = t86; this.t87 = t87; this.t88 = t88; this.t89 = t89; this.t90 = t90; this.t91 = t91; this.t92 = t92; this.t93 = t93; this.t94 = t94; this.t95 = t95; this.t96 = t96; }
+        @Override public R map(ResultSet resultSet, ColumnIndex idx) throws SQLException { return f.map( t1.getResult( resultSet, idx ), t2.getResult( resultSet, idx ), t3.getResult( resultSet, idx ), t4.getResult( resultSet, idx ), t5.getResult( resultSet, idx ), t6.getResult( resultSet, idx ), t7.getResult( resultSet, idx ), t8.getResult( resultSet, idx ), t9.getResult( resultSet, idx ), t10.getResult( resultSet, idx ), t11.getResult( resultSet, idx ), t12.getResult( resultSet, idx ), t13.getResult( resultSet, idx ), t14.getResult( resultSet, idx ), t15.getResult( resultSet, idx ), t16.getResult( resultSet, idx ), t17.getResult( resultSet, idx ), t18.getResult( resultSet, idx ), t19.getResult( resultSet, idx ), t20.getResult( resultSet, idx ), t21.getResult( resultSet, idx ), t22.getResult( resultSet, idx ), t23.getResult( resultSet, idx ), t24.getResult( resultSet, idx ), t25.getResult( resultSet, idx ), t26.getResult( resultSet, idx ), t27.getResult( resultSet, idx ), t28.getResult( resultSet, idx ), t29.getResult( resultSet, idx ), t30.getResult( resultSet, idx ), t31.getResult( resultSet, idx ), t32.getResult( resultSet, idx ), t33.getResult( resultSet, idx ), t34.getResult( resultSet, idx ), t35.getResult( resultSet, idx ), t36.getResult( resultSet, idx ), t37.getResult( resultSet, idx ), t38.getResult( resultSet, idx ), t39.getResult( resultSet, idx ), t40.getResult( resultSet, idx ), t41.getResult( resultSet, idx ), t42.getResult( resultSet, idx ), t43.getResult( resultSet, idx ), t44.getResult( resultSet, idx ), t45.getResult( resultSet, idx ), t46.getResult( resultSet, idx ), t47.getResult( resultSet, idx ), t48.getResult( resultSet, idx ), t49.getResult( resultSet, idx ), t50.getResult( resultSet, idx ), t51.getResult( resultSet, idx ), t52.getResult( resultSet, idx ), t53.getResult( resultSet, idx ), t54.getResult( resultSet, idx ), t55.getResult( resultSet, idx ), t56.getResult( resultSet, idx ), t57.getResult( resultSet, idx ), t58.getResult( resultSet, idx ), t59.getResult( resultSet, idx ), t60.getResult( resultSet, idx ), t61.getResult( resultSet, idx ), t62.getResult( resultSet, idx ), t63.getResult( resultSet, idx ), t64.getResult( resultSet, idx ), t65.getResult( resultSet, idx ), t66.getResult( resultSet, idx ), t67.getResult( resultSet, idx ), t68.getResult( resultSet, idx ), t69.getResult( resultSet, idx ), t70.getResult( resultSet, idx ), t71.getResult( resultSet, idx ), t72.getResult( resultSet, idx ), t73.getResult( resultSet, idx ), t74.getResult( resultSet, idx ), t75.getResult( resultSet, idx ), t76.getResult( resultSet, idx ), t77.getResult( resultSet, idx ), t78.getResult( resultSet, idx ), t79.getResult( resultSet, idx ), t80.getResult( resultSet, idx ), t81.getResult( resultSet, idx ), t82.getResult( resultSet, idx ), t83.getResult( resultSet, idx ), t84.getResult( resultSet, idx ), t85.getResult( resultSet, idx ), t86.getResult( resultSet, idx ), t87.getResult( resultSet, idx ), t88.getResult( resultSet, idx ), t89.getResult( resultSet, idx ), t90.getResult( resultSet, idx ), t91.getResult( resultSet, idx ), t92.getResult( resultSet, idx ), t93.getResult( resultSet, idx ), t94.getResult( resultSet, idx ), t95.getResult( resultSet, idx ), t96.getResult( resultSet, idx ) ); }
+    }
+
+    // @formatter:on
+}
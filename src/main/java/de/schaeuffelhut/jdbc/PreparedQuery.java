@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import de.schaeuffelhut.jdbc.StatementParameter.SqlShape;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A statement prepared once by {@link StatementUtil#prepare(String, StatementInParameterType...)}
+ * and executed many times with different values.
+ *
+ * <p>The parameter types are fixed up front, so an execution binds the values straight into the
+ * {@link PreparedStatement}, without creating a {@link BoundValue} per value.  If no type expands
+ * the SQL, the SQL is used as is; otherwise it is expanded per execution, as with
+ * {@link StatementUtil#selectInto(String, ResultSetReader, ResultSetMapper, StatementInParameter...) selectInto}.
+ * The statement and the result set metadata are cached by the {@link AbstractStatementUtil} if enabled.
+ * Other implementations of {@link StatementUtil} execute the handle with
+ * {@link StatementUtil#selectInto(String, ResultSetReader, ResultSetMapper, Iterable) selectInto} and
+ * {@link StatementUtil#execute(String, Iterable) execute}, as are handles with a type binding differently
+ * depending on the connection, like {@link StatementParameters#InArray(StatementInParameterType, String) InArray}.</p>
+ *
+ * <pre>{@code
+ * PreparedQuery.Select<User, Optional<User>> findUser = statementUtil
+ *         .prepare( "SELECT id, name FROM users WHERE id = ?", StatementParameters.Long )
+ *         .select( ResultSetReaders.readOptional(), userMapper );
+ *
+ * Optional<User> user = findUser.query( 42L );
+ * }</pre>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ */
+public final class PreparedQuery
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger( PreparedQuery.class );
+
+    private final StatementUtil statementUtil;
+    /**
+     * The {@link #statementUtil} if its connections are used directly, otherwise {@code null}.
+     */
+    private final AbstractStatementUtil direct;
+    private final StatementCache statementCache;
+    private final String sql;
+    private final StatementInParameterType<Object>[] types;
+    /**
+     * Whether a type binds differently depending on the connection, in which case the values are
+     * bound like other implementations of {@link StatementUtil} do.
+     */
+    private final boolean dependsOnConnection;
+
+    @SuppressWarnings("unchecked")
+    PreparedQuery(StatementUtil statementUtil, StatementCache statementCache, String sql, StatementInParameterType<?>[] types)
+    {
+        for (StatementInParameterType<?> type : types)
+            if (type == null)
+                throw new IllegalArgumentException( "types must not contain null" );
+        this.statementUtil = statementUtil;
+        this.direct = statementUtil instanceof AbstractStatementUtil abstractStatementUtil ? abstractStatementUtil : null;
+        this.statementCache = statementCache;
+        this.sql = sql;
+        this.types = (StatementInParameterType<Object>[]) types.clone();
+        this.dependsOnConnection = Arrays.stream( types )
+                .anyMatch( type -> type instanceof InArrayInParameterType<?> inArray && inArray.dependsOnConnection() );
+    }
+
+    /**
+     * Returns the SQL as passed to {@link StatementUtil#prepare(String, StatementInParameterType...)}.
+     */
+    public String sql()
+    {
+        return sql;
+    }
+
+    /**
+     * Returns a query reading its result with {@code resultSetReader}, mapping each row with {@code resultSetMapper}.
+     *
+     * @param resultSetReader accumulates mapped rows
+     * @param resultSetMapper maps a row to an object of type {@code T}
+     * @param <T>             type of a mapped row
+     * @param <R>             type of the accumulated result
+     */
+    public <T, R> Select<T, R> select(ResultSetReader<T, R> resultSetReader, ResultSetMapper<T> resultSetMapper)
+    {
+        return new Select<>( resultSetReader, resultSetMapper );
+    }
+
+    /**
+     * Executes the statement as an update.
+     *
+     * @param values one value per parameter type
+     * @return number of affected rows
+     */
+    public int update(Object... values)
+    {
+        if (direct == null || dependsOnConnection)
+            return statementUtil.execute( sql, boundValues( values ) );
+        return update( expand( values ), values, statement -> bind( statement, values ) );
+    }
+
+    /**
+     * Executes the statement as an update, binding a single {@code int} value.
+     *
+     * @see #update(Object...)
+     */
+    public int update(int value)
+    {
+        if (isSingle( StatementParameters.Integer ))
+            return update( sql, null, statement -> statement.setInt( 1, value ) );
+        return update( new Object[]{value} );
+    }
+
+    /**
+     * Executes the statement as an update, binding a single {@code long} value.
+     *
+     * @see #update(Object...)
+     */
+    public int update(long value)
+    {
+        if (isSingle( StatementParameters.Long ))
+            return update( sql, null, statement -> statement.setLong( 1, value ) );
+        return update( new Object[]{value} );
+    }
+
+    private int update(String finalSql, Object[] values, Binder binder)
+    {
+        return execute( "update", finalSql, values, binder, statement -> {
+            int count = statement.executeUpdate();
+            if (LOGGER.isTraceEnabled())
+                LOGGER.trace( String.format( "updated %d records", count ) );
+            return count;
+        } );
+    }
+
+    /**
+     * A {@link PreparedQuery} combined with the reader and mapper of its result.
+     *
+     * <p>Instances are immutable and thread-safe, provided the reader and mapper are.</p>
+     *
+     * @param <T> type of a mapped row
+     * @param <R> type of the accumulated result
+     */
+    public final class Select<T, R>
+    {
+        private final ResultSetReader<T, R> resultSetReader;
+        private final ResultSetMapper<T> resultSetMapper;
+
+        private Select(ResultSetReader<T, R> resultSetReader, ResultSetMapper<T> resultSetMapper)
+        {
+            this.resultSetReader = resultSetReader;
+            this.resultSetMapper = resultSetMapper;
+        }
+
+        /**
+         * Executes the query.
+         *
+         * @param values one value per parameter type
+         * @return the accumulated result
+         */
+        public R query(Object... values)
+        {
+            if (direct == null || dependsOnConnection)
+                return statementUtil.selectInto( sql, resultSetReader, resultSetMapper, boundValues( values ) );
+            return query( expand( values ), values, statement -> bind( statement, values ) );
+        }
+
+        /**
+         * Executes the query, binding a single {@code int} value.
+         *
+         * @see #query(Object...)
+         */
+        public R query(int value)
+        {
+            if (isSingle( StatementParameters.Integer ))
+                return query( sql, null, statement -> statement.setInt( 1, value ) );
+            return query( new Object[]{value} );
+        }
+
+        /**
+         * Executes the query, binding a single {@code long} value.
+         *
+         * @see #query(Object...)
+         */
+        public R query(long value)
+        {
+            if (isSingle( StatementParameters.Long ))
+                return query( sql, null, statement -> statement.setLong( 1, value ) );
+            return query( new Object[]{value} );
+        }
+
+        private R query(String finalSql, Object[] values, Binder binder)
+        {
+            return execute( "query", finalSql, values, binder, statement -> {
+                try (ResultSet resultSet = statement.executeQuery())
+                {
+                    ColumnIndex idx = ColumnIndex.create( 1 );
+                    return resultSetReader.readResult( resultSet, idx, direct.bind( resultSetMapper, finalSql, resultSet, idx ) );
+                }
+            } );
+        }
+    }
+
+    /*
+     * execution
+     */
+
+    @FunctionalInterface
+    private interface Binder
+    {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface Execution<V>
+    {
+        V execute(PreparedStatement statement) throws SQLException;
+    }
+
+    /**
+     * @param values the values to {@linkplain StatementInParameterType#prepareConnection prepare the connection} for,
+     *               and to restore it for afterwards, or {@code null} if bound by a primitive overload
+     */
+    private <V> V execute(String task, String finalSql, Object[] values, Binder binder, Execution<V> execution)
+    {
+        if (LOGGER.isTraceEnabled())
+            LOGGER.trace( "{}: {}", task, finalSql );
+
+        return direct.execute(
+                connection -> {
+                    if (values != null)
+                        for (int i = 0; i < types.length; i++)
+                            types[i].prepareConnection( connection, values[i] );
+                    try (StatementCache.Lease lease = StatementCache.prepare( statementCache, connection, finalSql, null ))
+                    {
+                        binder.bind( lease.statement() );
+                        return execution.execute( lease.statement() );
+                    }
+                    finally
+                    {
+                        if (values != null)
+                            for (int i = 0; i < types.length; i++)
+                                types[i].restoreConnection( connection, values[i] );
+                    }
+                },
+                task,
+                finalSql
+        );
+    }
+
+    private boolean isSingle(StatementInParameterType<?> type)
+    {
+        return direct != null && types.length == 1 && types[0] == type;
+    }
+
+    /**
+     * Returns the SQL for {@code values}, which is the prepared SQL unless a type expands it.
+     */
+    private String expand(Object[] values)
+    {
+        checkArity( values );
+        for (int i = 0; i < types.length; i++)
+            if (types[i].sqlShape( values[i] ) != SqlShape.UNCHANGED)
+                return PreparedStatementUtil.modifySql( sql, boundValues( values ) );
+        return sql;
+    }
+
+    private List<StatementInParameter> boundValues(Object[] values)
+    {
+        checkArity( values );
+        List<StatementInParameter> parameters = new ArrayList<>( types.length );
+        for (int i = 0; i < types.length; i++)
+            parameters.add( new BoundValue<>( types[i], values[i] ) );
+        return parameters;
+    }
+
+    private void checkArity(Object[] values)
+    {
+        if (values.length != types.length)
+            throw new IllegalArgumentException( String.format( "expected %d values, got %d", types.length, values.length ) );
+    }
+
+    private void bind(PreparedStatement statement, Object[] values) throws SQLException
+    {
+        int pos = 1;
+        for (int i = 0; i < types.length; i++)
+            pos += types[i].configure( statement, pos, values[i] );
+    }
+}
@@ -10,8 +10,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 
 import static de.schaeuffelhut.jdbc.Utils.asIterable;
 
@@ -26,16 +28,43 @@ class PreparedStatementUtil
 
     public static PreparedStatement prepareStatement(Connection connection, String sql, GeneratedKeys generatedKeys, Iterable<StatementInParameter> parameters) throws SQLException
     {
+        return prepareStatement( null, connection, sql, generatedKeys, parameters ).statement();
+    }
+
+    /**
+     * Prepares and configures a statement, borrowing it from {@code statementCache} if not {@code null}.
+     * The caller must close the returned lease.
+     */
+    static StatementCache.Lease prepareStatement(StatementCache statementCache, Connection connection, String sql, GeneratedKeys generatedKeys, Iterable<StatementInParameter> parameters) throws SQLException
+    {
+        parameters = InArrayInParameterType.forConnection( connection, parameters );
         sql = modifySql( sql, parameters );
+        prepareConnection( connection, parameters );
 
-        PreparedStatement stmt;
-        if (generatedKeys == null)
-            stmt = connection.prepareStatement( sql );
-        else
-            stmt = connection.prepareStatement( sql, generatedKeys.autoGeneratedKey );
+        final StatementCache.Lease lease = StatementCache.prepare( statementCache, connection, sql, generatedKeys );
+        lease.restoreOnClose( parameters );
+        try
+        {
+            configureStatement( lease.statement(), parameters );
+        }
+        catch (SQLException | RuntimeException e)
+        {
+            closeQuietly( lease, e );
+            throw e;
+        }
+        return lease;
+    }
 
-        configureStatement( stmt, parameters );
-        return stmt;
+    private static void closeQuietly(StatementCache.Lease lease, Exception e)
+    {
+        try
+        {
+            lease.close();
+        }
+        catch (SQLException suppressed)
+        {
+            e.addSuppressed( suppressed );
+        }
     }
 
     public final static String modifySql(String sql, Iterable<? extends StatementParameter> parameters)
@@ -43,8 +72,7 @@ class PreparedStatementUtil
         final String unmodifiedSQL = sql;
 
         if (parameters != null)
-            for (StatementParameter param : parameters)
-                sql = param.modify( sql );
+            sql = SqlTemplateCache.modifySql( sql, parameters );
 
         if (unmodifiedSQL != sql && LOGGER.isTraceEnabled())
             LOGGER.trace( "modified sql: {}", sql );
@@ -52,22 +80,57 @@ class PreparedStatementUtil
         return sql;
     }
 
+    /**
+     * Lets the parameters prepare the connection, see {@link StatementInParameter#prepareConnection(Connection)}.
+     */
+    static void prepareConnection(Connection connection, Iterable<StatementInParameter> parameters) throws SQLException
+    {
+        if (parameters != null)
+            for (StatementInParameter param : parameters)
+                param.prepareConnection( connection );
+    }
+
+    /**
+     * Lets the parameters undo {@link #prepareConnection(Connection, Iterable)}, see {@link StatementInParameter#restoreConnection(Connection)}.
+     */
+    static void restoreConnection(Connection connection, Iterable<StatementInParameter> parameters) throws SQLException
+    {
+        if (parameters != null)
+            for (StatementInParameter param : parameters)
+                param.restoreConnection( connection );
+    }
+
     public static void configureStatement(PreparedStatement stmt, Iterable<StatementInParameter> parameters) throws SQLException
     {
-        int index = 1;
+        configureStatement( stmt, parameters, 1 );
+    }
+
+    /**
+     * Binds the parameters starting at {@code index}.
+     *
+     * @return the index following the last bound parameter
+     */
+    static int configureStatement(PreparedStatement stmt, Iterable<StatementInParameter> parameters, int index) throws SQLException
+    {
         if (parameters != null)
             for (StatementInParameter param : parameters)
                 index += param.configure( stmt, index );
+        return index;
     }
 
     public static int execute(Connection connection, String sql, Iterable<StatementInParameter> parameters) throws SQLException
+    {
+        return execute( null, connection, sql, parameters );
+    }
+
+    static int execute(StatementCache statementCache, Connection connection, String sql, Iterable<StatementInParameter> parameters) throws SQLException
     {
         if (LOGGER.isTraceEnabled())
             LOGGER.trace( "execute: {}", sql );
 
-        try (PreparedStatement stmt = prepareStatement( connection, sql, parameters ))
+        try (StatementCache.Lease lease = prepareStatement( statementCache, connection, sql, null, parameters ))
         {
-            int count = stmt.executeUpdate();
+            int count = lease.statement().executeUpdate();
             if (LOGGER.isTraceEnabled())
                 LOGGER.trace( String.format( "updated %d records", count ) );
             return count;
@@ -75,12 +138,18 @@ class PreparedStatementUtil
     }
 
     public static <T> T execute(Connection connection, GeneratedKeys generatedKeys, StatementProperty<T> statementProperty, String sql, Iterable<StatementInParameter> parameters) throws SQLException
+    {
+        return execute( null, connection, generatedKeys, statementProperty, sql, parameters );
+    }
+
+    static <T> T execute(StatementCache statementCache, Connection connection, GeneratedKeys generatedKeys, StatementProperty<T> statementProperty, String sql, Iterable<StatementInParameter> parameters) throws SQLException
     {
         if (LOGGER.isTraceEnabled())
             LOGGER.trace( "execute: {}", sql );
 
-        try (PreparedStatement stmt = prepareStatement( connection, sql, generatedKeys, parameters ))
+        try (StatementCache.Lease lease = prepareStatement( statementCache, connection, sql, generatedKeys, parameters ))
         {
+            PreparedStatement stmt = lease.statement();
             stmt.execute();
 
             if (statementProperty == null)
@@ -91,12 +160,18 @@ class PreparedStatementUtil
     }
 
     public static Object[] execute(Connection connection, GeneratedKeys generatedKeys, StatementProperty<?>[] properties, String sql, Iterable<StatementInParameter> parameters) throws SQLException
+    {
+        return execute( null, connection, generatedKeys, properties, sql, parameters );
+    }
+
+    static Object[] execute(StatementCache statementCache, Connection connection, GeneratedKeys generatedKeys, StatementProperty<?>[] properties, String sql, Iterable<StatementInParameter> parameters) throws SQLException
     {
         if (LOGGER.isTraceEnabled())
             LOGGER.trace( "execute: {}", sql );
 
-        try (PreparedStatement stmt = prepareStatement( connection, sql, generatedKeys, parameters ))
+        try (StatementCache.Lease lease = prepareStatement( statementCache, connection, sql, generatedKeys, parameters ))
         {
+            PreparedStatement stmt = lease.statement();
             stmt.execute();
 
             final Object[] returnValues;
@@ -116,20 +191,25 @@ class PreparedStatementUtil
     }
 
     public static int[] executeBatch(Connection connection, String sql, Iterable<StatementInParameter[]> parameters) throws SQLException
+    {
+        return executeBatch( null, connection, sql, parameters );
+    }
+
+    static int[] executeBatch(StatementCache statementCache, Connection connection, String sql, Iterable<StatementInParameter[]> parameters) throws SQLException
     {
         if (LOGGER.isTraceEnabled())
             LOGGER.trace( "execute: {}", sql );
 
-        try (PreparedStatement stmt = prepareBatchStatement( connection, sql, null, parameters ))
+        try (StatementCache.Lease lease = prepareBatchStatement( statementCache, connection, sql, null, parameters ))
         {
             final int[] count;
-            if (stmt == null) // happens if parameters == null
+            if (lease == null) // happens if parameters == null
             {
                 count = new int[0];
             }
             else
             {
-                count = stmt.executeBatch();
+                count = lease.statement().executeBatch();
                 if (LOGGER.isTraceEnabled())
                     LOGGER.trace( "updated {} records", Arrays.asList( count ) );
             }
@@ -138,12 +218,18 @@ class PreparedStatementUtil
     }
 
     public static <T> T executeBatch(Connection connection, GeneratedKeys generatedKeys, StatementProperty<T> statementProperty, String sql, Iterable<StatementInParameter[]> batchParameters) throws SQLException
+    {
+        return executeBatch( null, connection, generatedKeys, statementProperty, sql, batchParameters );
+    }
+
+    static <T> T executeBatch(StatementCache statementCache, Connection connection, GeneratedKeys generatedKeys, StatementProperty<T> statementProperty, String sql, Iterable<StatementInParameter[]> batchParameters) throws SQLException
     {
         if (LOGGER.isTraceEnabled())
             LOGGER.trace( "execute: {}", sql );
 
-        try (PreparedStatement stmt = prepareBatchStatement( connection, sql, generatedKeys, batchParameters ))
+        try (StatementCache.Lease lease = prepareBatchStatement( statementCache, connection, sql, generatedKeys, batchParameters ))
         {
+            PreparedStatement stmt = lease.statement();
             stmt.executeBatch();
 
             final T returnValue;
@@ -155,7 +241,168 @@ class PreparedStatementUtil
         }
     }
 
+    /**
+     * Executes a batch, flushing every {@link BatchOptions#flushSize()} rows.
+     * Iterates {@code batchParameters} exactly once, so it may be backed by a stream.
+     *
+     * @param generatedKeyType reads the generated keys of each flush, or {@code null} to ignore them
+     */
+    static <K> BatchResult<K> executeBatch(StatementCache statementCache, Connection connection, String sql, Iterable<StatementInParameter[]> batchParameters, BatchOptions options, ResultType<K> generatedKeyType) throws SQLException
+    {
+        if (LOGGER.isTraceEnabled())
+            LOGGER.trace( "execute: {}", sql );
+
+        final BatchAccumulator<K> batch = new BatchAccumulator<>( generatedKeyType );
+        if (batchParameters == null)
+            return batch.result();
+
+        final Iterator<StatementInParameter[]> iterator = batchParameters.iterator();
+        if (!iterator.hasNext())
+            return batch.result();
+
+        final StatementInParameter[] first = iterator.next();
+        sql = modifySql( sql, asIterable( first ) );
+
+        final MultiRowValues multiRowValues = options.rowsPerStatement() > 1 ? MultiRowValues.parse( sql ) : null;
+        if (multiRowValues == null)
+            executeBatch( statementCache, connection, sql, first, iterator, options, batch );
+        else
+            executeMultiRowBatch( statementCache, connection, multiRowValues, first, iterator, options, batch );
+
+        return batch.result();
+    }
+
+    private static void executeBatch(StatementCache statementCache, Connection connection, String sql, StatementInParameter[] parameters, Iterator<StatementInParameter[]> iterator, BatchOptions options, BatchAccumulator<?> batch) throws SQLException
+    {
+        try (StatementCache.Lease lease = StatementCache.prepare( statementCache, connection, sql, batch.generatedKeys() ))
+        {
+            lease.batch();
+            final PreparedStatement stmt = lease.statement();
+            int pending = 0;
+            while (parameters != null)
+            {
+                configureStatement( stmt, asIterable( parameters ) );
+                stmt.addBatch();
+                pending++;
+                parameters = iterator.hasNext() ? iterator.next() : null;
+
+                if (pending == options.flushSize() || parameters == null)
+                {
+                    batch.flush( stmt, 1 );
+                    pending = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Binds {@link BatchOptions#rowsPerStatement()} parameter sets at a time to a multi-row
+     * {@code INSERT}, shifting the parameter indices of each row.  Remaining rows are
+     * inserted by a narrower statement.
+     */
+    private static void executeMultiRowBatch(StatementCache statementCache, Connection connection, MultiRowValues multiRowValues, StatementInParameter[] parameters, Iterator<StatementInParameter[]> iterator, BatchOptions options, BatchAccumulator<?> batch) throws SQLException
+    {
+        final int width = options.rowsPerStatement();
+        final int statementsPerFlush = Math.max( 1, options.flushSize() / width );
+        final List<StatementInParameter[]> rows = new ArrayList<>( width );
+
+        try (StatementCache.Lease lease = StatementCache.prepare( statementCache, connection, multiRowValues.sql( width ), batch.generatedKeys() ))
+        {
+            lease.batch();
+            final PreparedStatement stmt = lease.statement();
+            int pending = 0;
+            while (parameters != null)
+            {
+                rows.add( parameters );
+                parameters = iterator.hasNext() ? iterator.next() : null;
+
+                if (rows.size() == width)
+                {
+                    configureRows( stmt, rows );
+                    stmt.addBatch();
+                    rows.clear();
+                    if (++pending == statementsPerFlush)
+                    {
+                        batch.flush( stmt, width );
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0)
+                batch.flush( stmt, width );
+        }
+
+        if (!rows.isEmpty())
+        {
+            try (StatementCache.Lease lease = StatementCache.prepare( statementCache, connection, multiRowValues.sql( rows.size() ), batch.generatedKeys() ))
+            {
+                lease.batch();
+                final PreparedStatement stmt = lease.statement();
+                configureRows( stmt, rows );
+                stmt.addBatch();
+                batch.flush( stmt, rows.size() );
+            }
+        }
+    }
+
+    private static void configureRows(PreparedStatement stmt, List<StatementInParameter[]> rows) throws SQLException
+    {
+        int index = 1;
+        for (StatementInParameter[] row : rows)
+            index = configureStatement( stmt, asIterable( row ), index );
+    }
+
+    /**
+     * Sums up the outcome of the flushes of a batch.
+     */
+    private static final class BatchAccumulator<K>
+    {
+        private final StatementProperty<List<K>> generatedKeysProperty;
+        private final List<K> keys = new ArrayList<>();
+        private long rows;
+        private long updateCount;
+        private int flushes;
+
+        BatchAccumulator(ResultType<K> generatedKeyType)
+        {
+            this.generatedKeysProperty = generatedKeyType == null ? null : StatementProperties.GENERATED_KEYS( generatedKeyType );
+        }
+
+        GeneratedKeys generatedKeys()
+        {
+            return generatedKeysProperty == null ? null : GeneratedKeys.REPORT;
+        }
+
+        /**
+         * Executes the batch of {@code stmt}, each entry of which inserts {@code rowsPerStatement} rows.
+         */
+        void flush(PreparedStatement stmt, int rowsPerStatement) throws SQLException
+        {
+            final int[] counts = stmt.executeBatch();
+            if (LOGGER.isTraceEnabled())
+                LOGGER.trace( "flushed batch {} of {} statements", flushes, counts.length );
+            rows += (long) counts.length * rowsPerStatement;
+            for (int count : counts)
+                if (count > 0)
+                    updateCount += count;
+            if (generatedKeysProperty != null)
+                keys.addAll( generatedKeysProperty.get( stmt ) );
+            flushes++;
+        }
+
+        BatchResult<K> result()
+        {
+            return new BatchResult<>( rows, updateCount, flushes, keys );
+        }
+    }
+
     public static PreparedStatement prepareBatchStatement(Connection connection, String sql, GeneratedKeys generatedKeys, Iterable<StatementInParameter[]> batchParameters) throws SQLException
+    {
+        final StatementCache.Lease lease = prepareBatchStatement( null, connection, sql, generatedKeys, batchParameters );
+        return lease == null ? null : lease.statement();
+    }
+
+    static StatementCache.Lease prepareBatchStatement(StatementCache statementCache, Connection connection, String sql, GeneratedKeys generatedKeys, Iterable<StatementInParameter[]> batchParameters) throws SQLException
     {
         if (batchParameters == null)
             return null;
@@ -166,23 +413,28 @@ class PreparedStatementUtil
 
         sql = modifySql( sql, asIterable( firstParameterSet.next() ) );
 
-        PreparedStatement stmt;
-        if (generatedKeys == null)
-            stmt = connection.prepareStatement( sql );
-        else
-            stmt = connection.prepareStatement( sql, generatedKeys.autoGeneratedKey );
-
-        int i = 0;
-        for (StatementInParameter[] parameters : batchParameters)
+        final StatementCache.Lease lease = StatementCache.prepare( statementCache, connection, sql, generatedKeys );
+        lease.batch();
+        try
         {
-            configureStatement( stmt, asIterable( parameters ) );
-            if (LOGGER.isTraceEnabled())
-                LOGGER.trace( "add batch {}", i );
-            stmt.addBatch();
-            i++;
+            PreparedStatement stmt = lease.statement();
+            int i = 0;
+            for (StatementInParameter[] parameters : batchParameters)
+            {
+                configureStatement( stmt, asIterable( parameters ) );
+                if (LOGGER.isTraceEnabled())
+                    LOGGER.trace( "add batch {}", i );
+                stmt.addBatch();
+                i++;
+            }
+        }
+        catch (SQLException | RuntimeException e)
+        {
+            closeQuietly( lease, e );
+            throw e;
         }
 
-        return stmt;
+        return lease;
     }
 
     // untested
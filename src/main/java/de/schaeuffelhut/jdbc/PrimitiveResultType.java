@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A {@link ResultType} which can read its value as a Java primitive, without boxing.
+ *
+ * <p>A primitive cannot represent {@code NULL}, so every instance has an explicit null policy:
+ * either it rejects {@code NULL} with a {@link NullPointerException} naming the column, or it
+ * substitutes a fixed value.  {@link #getResult(ResultSet, ColumnIndex)} applies the same policy
+ * and therefore never returns {@code null}.</p>
+ *
+ * <p>{@link ResultTypes#Integer}, {@link ResultTypes#Long}, {@link ResultTypes#Double} and
+ * {@link ResultTypes#Boolean} implement this interface as well, so they can be read without boxing
+ * where {@code NULL} is tracked separately, like {@link ColumnarResult}.  Like {@link ResultSet#getInt(int)},
+ * their primitive accessors return {@code 0} / {@code false} for {@code NULL} and leave it to
+ * {@link ResultSet#wasNull()} to tell; their {@code getResult} returns {@code null}.</p>
+ *
+ * <p>Instances are obtained from {@link ResultTypes}, e.g. {@link ResultTypes#PrimitiveInt} or
+ * {@link ResultTypes#PrimitiveInt(int)}, and are read without boxing by
+ * {@link ResultSetMappers#row(ResultSetMappers.RowFunction)}:</p>
+ * <pre>{@code
+ * record Point(int x, double y) {}
+ *
+ * ResultSetMapper<Point> mapper = ResultSetMappers.row( row -> new Point(
+ *     row.getInt( ResultTypes.PrimitiveInt ),
+ *     row.getDouble( ResultTypes.PrimitiveDouble( 0d ) )
+ * ) );
+ * }</pre>
+ *
+ * @param <T> the wrapper type of the primitive
+ */
+public interface PrimitiveResultType<T> extends ResultType<T>
+{
+    /**
+     * Reads {@code int} values.
+     */
+    interface OfInt extends PrimitiveResultType<Integer>
+    {
+        int getInt(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException;
+
+        @Override
+        default Integer getResult(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+        {
+            return getInt( resultSet, columnIndex );
+        }
+
+        @Override
+        default Class<Integer> getResultType()
+        {
+            return Integer.class;
+        }
+    }
+
+    /**
+     * Reads {@code long} values.
+     */
+    interface OfLong extends PrimitiveResultType<Long>
+    {
+        long getLong(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException;
+
+        @Override
+        default Long getResult(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+        {
+            return getLong( resultSet, columnIndex );
+        }
+
+        @Override
+        default Class<Long> getResultType()
+        {
+            return Long.class;
+        }
+    }
+
+    /**
+     * Reads {@code double} values.
+     */
+    interface OfDouble extends PrimitiveResultType<Double>
+    {
+        double getDouble(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException;
+
+        @Override
+        default Double getResult(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+        {
+            return getDouble( resultSet, columnIndex );
+        }
+
+        @Override
+        default Class<Double> getResultType()
+        {
+            return Double.class;
+        }
+    }
+
+    /**
+     * Reads {@code boolean} values.
+     */
+    interface OfBoolean extends PrimitiveResultType<Boolean>
+    {
+        boolean getBoolean(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException;
+
+        @Override
+        default Boolean getResult(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+        {
+            return getBoolean( resultSet, columnIndex );
+        }
+
+        @Override
+        default Class<Boolean> getResultType()
+        {
+            return Boolean.class;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Maps the remaining columns of a row to a record, binding each record component to the
+ * column with a matching label.
+ *
+ * <p>Labels match a component if they are equal ignoring case, or equal ignoring case and
+ * underscores, so the column {@code first_name} binds the component {@code firstName}.
+ * Columns not matching any component are skipped; a component without a column is an error.
+ * The {@link ResultType} of a component is chosen by its type, see {@link #resultTypeFor(Class)}.</p>
+ *
+ * <p>The columns are bound once per shape of the result set, compiling a single handle reading
+ * the columns in order and invoking the canonical constructor, see {@link CompiledResultSetMapper}.</p>
+ *
+ * @param <R> the record type
+ */
+final class RecordMapper<R extends Record> extends CompiledResultSetMapper<R, MethodHandle>
+{
+    private final Class<R> type;
+    private final RecordComponent[] components;
+
+    RecordMapper(Class<R> type)
+    {
+        if (!type.isRecord())
+            throw new IllegalArgumentException( type.getName() + " is not a record" );
+        this.type = type;
+        this.components = type.getRecordComponents();
+    }
+
+    @Override
+    String[] shape(ResultColumns columns, ColumnIndex columnIndex) throws SQLException
+    {
+        int first = columnIndex.peek();
+        String[] labels = new String[columns.count() - first + 1];
+        for (int i = 0; i < labels.length; i++)
+            labels[i] = columns.label( first + i );
+        return labels;
+    }
+
+    /**
+     * Returns a handle of type {@code (ResultSet,ColumnIndex)Object} reading the columns
+     * labeled {@code labels} in order and invoking the canonical constructor.
+     */
+    @Override
+    MethodHandle compile(String[] labels)
+    {
+        // the column bound to each component, and the component bound to each column
+        int[] columnOfComponent = new int[components.length];
+        Arrays.fill( columnOfComponent, -1 );
+        Class<?>[] columnTypes = new Class<?>[labels.length];
+        ResultType<?>[] resultTypes = new ResultType<?>[labels.length];
+        for (int column = 0; column < labels.length; column++)
+        {
+            int component = findComponent( labels[column], columnOfComponent );
+            if (component < 0)
+            {
+                columnTypes[column] = Object.class;
+                resultTypes[column] = SKIP;
+            }
+            else
+            {
+                columnOfComponent[component] = column;
+                columnTypes[column] = components[component].getType();
+                resultTypes[column] = resultTypeFor( columnTypes[column] );
+            }
+        }
+
+        for (int component = 0; component < components.length; component++)
+            if (columnOfComponent[component] < 0)
+                throw new IllegalArgumentException( String.format(
+                        "class=%s, no column for component %s in %s",
+                        type.getName(), components[component].getName(), Arrays.toString( labels ) ) );
+
+        // (C1..Cn)R -> (columns in result set order)Object, dropping skipped columns
+        MethodHandle constructor = MappingHandles.canonicalConstructor( type );
+        MethodHandle byColumn = MethodHandles.permuteArguments(
+                constructor.asType( constructor.type().changeReturnType( Object.class ) ),
+                MethodType.methodType( Object.class, columnTypes ),
+                columnOfComponent
+        );
+        return MappingHandles.rowFactory( byColumn, resultTypes );
+    }
+
+    private int findComponent(String label, int[] columnOfComponent)
+    {
+        for (int i = 0; i < components.length; i++)
+            if (columnOfComponent[i] < 0 && components[i].getName().equalsIgnoreCase( label ))
+                return i;
+        String withoutUnderscores = label.replace( "_", "" );
+        for (int i = 0; i < components.length; i++)
+            if (columnOfComponent[i] < 0 && components[i].getName().equalsIgnoreCase( withoutUnderscores ))
+                return i;
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    R map(MethodHandle handle, ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+    {
+        try
+        {
+            return (R) (Object) handle.invokeExact( resultSet, columnIndex );
+        }
+        catch (Throwable e)
+        {
+            throw MappingHandles.rethrow( e );
+        }
+    }
+
+    /*
+     * Result types by component type
+     */
+
+    /**
+     * Advances past a column which is not bound to a component.
+     */
+    private static final ResultType<Object> SKIP = new ResultType<>()
+    {
+        @Override
+        public Object getResult(ResultSet resultSet, ColumnIndex index)
+        {
+            index.next();
+            return null;
+        }
+
+        @Override
+        public Class<Object> getResultType()
+        {
+            return Object.class;
+        }
+    };
+
+    /**
+     * Returns the {@link ResultType} for a component of the given type:
+     * <ul>
+     *     <li>{@code int}, {@code long}, {@code double} and {@code boolean} are read without boxing and reject {@code NULL}</li>
+     *     <li>other primitives, wrappers, {@link String}, {@link BigDecimal}, JDBC and Joda date types use the
+     *     matching constant of {@link ResultTypes}</li>
+     *     <li>enums are read by name, or by key if they implement {@link EnumIntKey}</li>
+     *     <li>any other type is read with {@link ResultSet#getObject(int, Class)}</li>
+     * </ul>
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static ResultType<?> resultTypeFor(Class<?> type)
+    {
+        ResultType<?> resultType = ComponentTypes.resultType( type );
+        if (resultType != null)
+            return resultType;
+        else if (type.isEnum() && EnumIntKey.class.isAssignableFrom( type ))
+            return ResultTypes.enumByIntKey( (Class) type );
+        else if (type.isEnum())
+            return ResultTypes.enumByName( (Class) type );
+        else
+            return new TypedObjectResultType<>( type );
+    }
+
+    private record TypedObjectResultType<T>(Class<T> type) implements ResultType<T>
+    {
+        @Override
+        public T getResult(ResultSet resultSet, ColumnIndex index) throws SQLException
+        {
+            return resultSet.getObject( index.next(), type );
+        }
+
+        @Override
+        public Class<T> getResultType()
+        {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The columns of a result set, as far as the mappers need them: labels, names and SQL types.
+ *
+ * <p>Instances created by {@link #of(ResultSetMetaData)} read the metadata on demand and are
+ * only valid while the result set is open.  Instances created by {@link #snapshot(ResultSetMetaData)}
+ * read everything up front, are immutable and can be cached beyond the result set, see
+ * {@link ResultColumnsCache}.</p>
+ *
+ * <p>Columns are 1-based, as in {@link ResultSetMetaData}.</p>
+ */
+final class ResultColumns
+{
+    private final ResultSetMetaData metaData;
+    private final int count;
+    private String[] labels;
+    private String[] names;
+    private int[] types;
+    private Map<String, Integer> columnOfLabel;
+
+    private ResultColumns(ResultSetMetaData metaData, int count)
+    {
+        this.metaData = metaData;
+        this.count = count;
+    }
+
+    /**
+     * Returns the columns of {@code metaData}, reading each kind of information when first asked for.
+     */
+    static ResultColumns of(ResultSetMetaData metaData) throws SQLException
+    {
+        return new ResultColumns( metaData, metaData.getColumnCount() );
+    }
+
+    /**
+     * Returns an immutable copy of the columns of {@code metaData}.
+     */
+    static ResultColumns snapshot(ResultSetMetaData metaData) throws SQLException
+    {
+        final ResultColumns columns = of( metaData );
+        final ResultColumns snapshot = new ResultColumns( null, columns.count );
+        snapshot.labels = columns.labels();
+        snapshot.names = columns.names();
+        snapshot.types = columns.types();
+        snapshot.columnOfLabel = columns.columnOfLabel();
+        return snapshot;
+    }
+
+    /**
+     * Returns an immutable copy of the given columns, in order, as columns {@code 1} to {@code columns.length}.
+     */
+    ResultColumns select(int[] columns) throws SQLException
+    {
+        final ResultColumns selected = new ResultColumns( null, columns.length );
+        selected.labels = new String[columns.length];
+        selected.names = new String[columns.length];
+        selected.types = new int[columns.length];
+        for (int i = 0; i < columns.length; i++)
+        {
+            selected.labels[i] = label( columns[i] );
+            selected.names[i] = name( columns[i] );
+            selected.types[i] = type( columns[i] );
+        }
+        selected.columnOfLabel = selected.columnOfLabel();
+        return selected;
+    }
+
+    int count()
+    {
+        return count;
+    }
+
+    String label(int column) throws SQLException
+    {
+        return labels()[column - 1];
+    }
+
+    String name(int column) throws SQLException
+    {
+        return names()[column - 1];
+    }
+
+    /**
+     * Returns the {@link java.sql.Types SQL type} of the column.
+     */
+    int type(int column) throws SQLException
+    {
+        return types()[column - 1];
+    }
+
+    /**
+     * Returns the first column labeled {@code label}, ignoring case, or {@code 0} if there is none.
+     */
+    int columnOf(String label) throws SQLException
+    {
+        final Integer column = columnOfLabel().get( label.toUpperCase( Locale.ROOT ) );
+        return column == null ? 0 : column;
+    }
+
+    private String[] labels() throws SQLException
+    {
+        if (labels == null)
+        {
+            final String[] labels = new String[count];
+            for (int i = 0; i < count; i++)
+                labels[i] = metaData.getColumnLabel( i + 1 );
+            this.labels = labels;
+        }
+        return labels;
+    }
+
+    private String[] names() throws SQLException
+    {
+        if (names == null)
+        {
+            final String[] names = new String[count];
+            for (int i = 0; i < count; i++)
+                names[i] = metaData.getColumnName( i + 1 );
+            this.names = names;
+        }
+        return names;
+    }
+
+    private int[] types() throws SQLException
+    {
+        if (types == null)
+        {
+            final int[] types = new int[count];
+            for (int i = 0; i < count; i++)
+                types[i] = metaData.getColumnType( i + 1 );
+            this.types = types;
+        }
+        return types;
+    }
+
+    private Map<String, Integer> columnOfLabel() throws SQLException
+    {
+        if (columnOfLabel == null)
+        {
+            final String[] labels = labels();
+            final Map<String, Integer> columnOfLabel = new HashMap<>();
+            for (int i = 0; i < count; i++)
+                columnOfLabel.putIfAbsent( labels[i].toUpperCase( Locale.ROOT ), i + 1 );
+            this.columnOfLabel = columnOfLabel;
+        }
+        return columnOfLabel;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of {@link ResultColumns#snapshot snapshots} of result set metadata, keyed by the final SQL.
+ *
+ * <p>With some drivers every {@link java.sql.ResultSetMetaData} call is expensive or even a round trip.
+ * A query returns the same columns on every execution, as long as the schema does not change, so
+ * the metadata is read once per SQL.  After a schema change, e.g. an {@code ALTER TABLE} affecting
+ * a {@code SELECT *}, the cache must be {@linkplain #invalidate() invalidated}.</p>
+ *
+ * <p>The cache holds at most {@code maxSize} entries; it is cleared when full.</p>
+ *
+ * @see AbstractStatementUtil#AbstractStatementUtil(int, int)
+ */
+final class ResultColumnsCache
+{
+    private final int maxSize;
+    private final ConcurrentHashMap<String, ResultColumns> cache = new ConcurrentHashMap<>();
+
+    ResultColumnsCache(int maxSize)
+    {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException( "maxSize must be positive: " + maxSize );
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the columns of {@code resultSet}, which is the result of {@code sql}.
+     *
+     * @param columnsCache the cache, or {@code null} to read the metadata of {@code resultSet} on demand
+     * @param sql          the final SQL, after parameter expansion
+     */
+    static ResultColumns columnsOf(ResultColumnsCache columnsCache, String sql, ResultSet resultSet) throws SQLException
+    {
+        if (columnsCache == null)
+            return ResultColumns.of( resultSet.getMetaData() );
+        else
+            return columnsCache.get( sql, resultSet );
+    }
+
+    private ResultColumns get(String sql, ResultSet resultSet) throws SQLException
+    {
+        ResultColumns columns = cache.get( sql );
+        if (columns == null)
+        {
+            columns = ResultColumns.snapshot( resultSet.getMetaData() );
+            if (cache.size() >= maxSize)
+                cache.clear();
+            cache.put( sql, columns );
+        }
+        return columns;
+    }
+
+    int size()
+    {
+        return cache.size();
+    }
+
+    void invalidate()
+    {
+        cache.clear();
+    }
+}
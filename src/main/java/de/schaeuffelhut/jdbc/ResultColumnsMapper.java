@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A mapper which binds to the {@link ResultColumns} of a result set, so the execution path
+ * can pass cached metadata instead of the mapper reading it from the result set.
+ *
+ * @param <T> the type of the mapped rows
+ * @see AbstractStatementUtil#bind(ResultSetMapper, String, ResultSet, ColumnIndex)
+ */
+interface ResultColumnsMapper<T> extends ResultSetMapper<T>
+{
+    /**
+     * Like {@link #bind(ResultSet, ColumnIndex)}, but with the columns already at hand, e.g. from a {@link ResultColumnsCache}.
+     */
+    ResultSetMapper<T> bind(ResultSet resultSet, ResultColumns columns, ColumnIndex columnIndex) throws SQLException;
+
+    @Override
+    default ResultSetMapper<T> bind(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+    {
+        return bind( resultSet, ResultColumns.of( resultSet.getMetaData() ), columnIndex );
+    }
+
+    /**
+     * Binds {@code mapper}, passing {@code columns} if it is a {@code ResultColumnsMapper}.
+     */
+    static <T> ResultSetMapper<T> bind(ResultSetMapper<T> mapper, ResultSet resultSet, ResultColumns columns, ColumnIndex columnIndex) throws SQLException
+    {
+        if (mapper instanceof ResultColumnsMapper<T> columnsMapper)
+            return columnsMapper.bind( resultSet, columns, columnIndex );
+        else
+            return mapper.bind( resultSet, columnIndex );
+    }
+}
@@ -48,10 +48,31 @@ public interface ResultSetMapper<T>
         // no-op
     }
 
+    /**
+     * Prepares this mapper for one execution and returns the mapper to use for its rows.
+     *
+     * <p>Called <strong>once</strong> per result set instead of {@link #initialize(ResultSet, ColumnIndex)}.
+     * Mappers which derive state from the metadata return a cursor holding that state, so that the
+     * mapper itself stays immutable and can be shared by concurrent queries.</p>
+     *
+     * <p>The default implementation calls {@link #initialize(ResultSet, ColumnIndex)} and returns {@code this}.</p>
+     *
+     * @param resultSet   the result set to be mapped
+     * @param columnIndex the column index pointer
+     * @return the mapper to call {@link #map(ResultSet, ColumnIndex)} on for the rows of {@code resultSet}
+     * @throws SQLException if metadata access fails
+     */
+    default ResultSetMapper<T> bind(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+    {
+        initialize( resultSet, columnIndex );
+        return this;
+    }
+
     /**
      * Partially maps a row of the result set starting at the given column index to an instance of {@code T}.
      *
-     * <p>Called for <strong>every row</strong>. The cursor is already on a valid row.</p>
+     * <p>Called for <strong>every row</strong>. The cursor is already on a valid row.
+     * The readers reuse {@code columnIndex} for the following rows, so it must not be retained.</p>
      *
      * @param resultSet   the result set positioned on the current row
      * @param columnIndex the column index pointer
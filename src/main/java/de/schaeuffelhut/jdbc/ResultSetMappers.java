@@ -6,20 +6,13 @@
 
 package de.schaeuffelhut.jdbc;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
 
-import static de.schaeuffelhut.jdbc.ResultSetMappers.SetFieldViaReflection.createFieldSetters;
-
 /**
  * Factory class for creating {@link ResultSetMapper} instances.
  *
@@ -57,6 +50,16 @@ import static de.schaeuffelhut.jdbc.ResultSetMappers.SetFieldViaReflection.creat
  *   </tr>
  *   <tr>
  *     <td></td>
+ *     <td>{@link #record(Class) record}</td>
+ *     <td>Record with components bound to columns by label</td>
+ *   </tr>
+ *   <tr>
+ *     <td></td>
+ *     <td>{@link #byLabel(ResultSetMapper, String...) byLabel}</td>
+ *     <td>Any of the above, reading the columns with the given labels</td>
+ *   </tr>
+ *   <tr>
+ *     <td></td>
  *     <td>{@link #objectViaReflection(Class,ResultType...) objectViaReflection(...)}</td>
  *     <td><strong>Legacy:</strong> Auto-map to POJO fields via reflection</td>
  *   </tr>
@@ -122,6 +125,21 @@ public abstract class ResultSetMappers
         };
     }
 
+    /**
+     * Returns a {@link ResultSetMapper} which reads nothing and maps every row to {@code null}.
+     * <p>
+     * For use with readers which read the columns themselves, like
+     * {@link ResultSetReaders#readColumnar(ResultType...)}.
+     * </p>
+     *
+     * @param <T> The nominal type of the mapped rows.
+     * @return An {@link ResultSetMapper} that ignores the {@link ResultSet}.
+     */
+    public static <T> ResultSetMapper<T> none()
+    {
+        return (resultSet, columnIndex) -> null;
+    }
+
     /**
      * Creates an {@link ResultSetMapper} that maps a {@link ResultSet} row to an array of objects,
      * representing a tuple of column values in the specified order.
@@ -163,6 +181,11 @@ public abstract class ResultSetMappers
      * {@link Map} created for each row contains these column labels as keys and the corresponding
      * values as retrieved from the {@code ResultSet}.
      * </p>
+     * <p>
+     * The labels are looked up once per result set and shared by its rows; each row map only holds
+     * an array of its values. The maps are mutable, permit {@code null} values and iterate in column order.
+     * They are {@link java.io.Serializable} and deserialize as a {@link java.util.LinkedHashMap}.
+     * </p>
      *
      * @param resultTypes An array of {@link ResultType} definitions used to convert SQL column
      *                    values to Java types, in the same column order as the executed SQL query.
@@ -171,30 +194,103 @@ public abstract class ResultSetMappers
      */
     public static ResultSetMapper<Map<String, Object>> map(ResultType... resultTypes)
     {
-        return new ResultSetMapper<>()
+        return new CompiledResultSetMapper<Map<String, Object>, RowMap.Keys>()
         {
-            private String[] keys;
-
             @Override
-            public void initialize(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+            String[] shape(ResultColumns columns, ColumnIndex columnIndex) throws SQLException
             {
-                keys = new String[resultTypes.length];
+                String[] labels = new String[resultTypes.length];
                 for (int i = 0; i < resultTypes.length; i++)
-                    keys[i] = resultSet.getMetaData().getColumnLabel( i + 1 );
+                    labels[i] = columns.label( columnIndex.peek() + i );
+                return labels;
+            }
+
+            @Override
+            RowMap.Keys compile(String[] labels)
+            {
+                return new RowMap.Keys( labels );
             }
 
             @Override
-            public Map<String, Object> map(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+            Map<String, Object> map(RowMap.Keys keys, ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
             {
-                HashMap<String, Object> map = new HashMap<>();
+                Object[] values = new Object[keys.size()];
                 for (int i = 0; i < resultTypes.length; i++)
-                    map.put( keys[i], resultTypes[i].getResult( resultSet, columnIndex ) );
-                return map;
+                    values[keys.slot( i )] = resultTypes[i].getResult( resultSet, columnIndex );
+                return new RowMap( keys, values );
             }
         };
     }
 
 
+    /**
+     * Creates an {@link ResultSetMapper} that maps the remaining columns of a {@link ResultSet} row
+     * to a record, passing each column to the record component of the same name.
+     * <p>
+     * Components are bound to columns by {@link ResultSetMetaData#getColumnLabel(int) label} once
+     * per distinct set of labels, ignoring case and underscores,
+     * so {@code first_name} binds {@code firstName}. Columns without a matching component are skipped.
+     * The {@link ResultType} of each component is derived from its type; {@code int}, {@code long},
+     * {@code double} and {@code boolean} components are read without boxing and reject {@code NULL}.
+     * The canonical constructor is invoked directly, without reflection or an argument array.
+     * </p>
+     * <pre>{@code
+     * record Employee(int id, String firstName) {}
+     *
+     * List<Employee> employees = statementUtil.selectInto(
+     *     "SELECT id, first_name FROM employees",
+     *     ResultSetReaders.readMany(),
+     *     ResultSetMappers.record( Employee.class )
+     * );
+     * }</pre>
+     *
+     * @param type The record class, its canonical constructor may be private.
+     * @param <R>  The record type.
+     * @return An {@link ResultSetMapper} creating an instance of {@code R} for each row.
+     * @throws IllegalArgumentException if {@code type} is not a record, or (on initialization)
+     *                                  if a component has no matching column.
+     */
+    public static <R extends Record> ResultSetMapper<R> record(Class<R> type)
+    {
+        return new RecordMapper<>( type );
+    }
+
+
+    /**
+     * Creates an {@link ResultSetMapper} passing the columns with the given labels to {@code mapper},
+     * in the order of {@code labels}, wherever they are in the result set.
+     * <p>
+     * The labels are resolved to column indexes once per result set, ignoring case; the rows are then
+     * read by index, as fast as with positional mapping. So the query may add, remove or reorder
+     * columns without breaking the mapper. {@code mapper} must read its columns with
+     * {@link ColumnIndex#next()}, as the mappers of {@link #scalar(ResultType) scalar},
+     * {@link #tuple(ResultType...) tuple} and {@link #object(F1, ResultType) object} do.
+     * {@link #map(ResultType...) map} and {@link #record(Class) record} see the labels of the
+     * given columns only, as if the query selected just those.
+     * </p>
+     * <pre>{@code
+     * List<Employee> employees = statementUtil.selectInto(
+     *     "SELECT e.*, d.name AS department FROM employees e JOIN departments d ON d.id = e.department_id",
+     *     ResultSetReaders.readMany(),
+     *     ResultSetMappers.byLabel(
+     *         ResultSetMappers.object( Employee::new, ResultTypes.Integer, ResultTypes.String, ResultTypes.String ),
+     *         "id", "name", "department"
+     *     )
+     * );
+     * }</pre>
+     *
+     * @param mapper A mapper reading {@code labels.length} columns.
+     * @param labels The labels of the columns to read, in the order {@code mapper} reads them.
+     * @param <T>    The type of the mapped rows.
+     * @return An {@link ResultSetMapper} reading the labeled columns with {@code mapper}.
+     * @throws IllegalArgumentException (on initialization) if there is no column with one of the labels.
+     */
+    public static <T> ResultSetMapper<T> byLabel(ResultSetMapper<T> mapper, String... labels)
+    {
+        return new LabeledResultSetMapper<>( mapper, labels );
+    }
+
+
     @Deprecated
     public static <T> ResultSetMapper<T> objectViaConstructor(
             Class<T> type,
@@ -273,85 +369,75 @@ public abstract class ResultSetMappers
 
     private static class MapResultSetViaConstructor<T> implements ResultSetMapper<T>
     {
-        private final Constructor<T> constructor;
-        private final ResultType<?>[] resultTypes;
+        // (ResultSet,ColumnIndex)Object
+        private final MethodHandle rowFactory;
 
         public MapResultSetViaConstructor(Class<T> type, ResultType<?>[] resultTypes)
         {
-            this.resultTypes = resultTypes;
-            Class<?>[] argsTypes = new Class<?>[resultTypes == null ? 0 : resultTypes.length];
-            for (int i = 0; i < argsTypes.length; i++)
-                argsTypes[i] = resultTypes[i].getResultType();
-            constructor = Utils.findConstructor( type, argsTypes );
+            if (resultTypes == null)
+                resultTypes = new ResultType<?>[0];
+            this.rowFactory = MappingHandles.rowFactory(
+                    MappingHandles.constructor( type, resultTypesOf( resultTypes ) ),
+                    resultTypes
+            );
         }
 
         @Override
-        public T map(ResultSet resultSet, ColumnIndex columnIndex ) throws SQLException
+        @SuppressWarnings("unchecked")
+        public T map(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
         {
-            Object[] values = new Object[resultTypes.length];
-
-            for (int i = 0; i < resultTypes.length; i++)
-                values[i] = resultTypes[i].getResult( resultSet, columnIndex );
-
             try
             {
-                return constructor.newInstance( values );
+                return (T) (Object) rowFactory.invokeExact( resultSet, columnIndex );
             }
-            catch (InstantiationException | InvocationTargetException | IllegalAccessException e)
+            catch (Throwable e)
             {
-                throw new RuntimeException( e );
+                throw MappingHandles.rethrow( e );
             }
         }
     }
 
     private static class MapResultSetViaStaticMethod<T> implements ResultSetMapper<T>
     {
-        private final Method factoryMethod;
-        private final ResultType<?>[] resultTypes;
+        // (ResultSet,ColumnIndex)Object
+        private final MethodHandle rowFactory;
 
         public MapResultSetViaStaticMethod(Class<T> type, String methodName, ResultType<?>[] resultTypes)
         {
-            try
-            {
-                this.factoryMethod = type.getMethod(
-                        methodName,
-                        Arrays.stream( resultTypes )
-                                .map( ResultType::getResultType )
-                                .toArray( Class[]::new )
-                );
-            }
-            catch (NoSuchMethodException e)
-            {
-                throw new RuntimeException( e );
-            }
-            this.resultTypes = resultTypes;
+            this.rowFactory = MappingHandles.rowFactory(
+                    MappingHandles.staticMethod( type, methodName, resultTypesOf( resultTypes ) ),
+                    resultTypes
+            );
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public T map(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
         {
-            Object[] values = new Object[resultTypes.length];
-
-            for (int i = 0; i < resultTypes.length; i++)
-                values[i] = resultTypes[i].getResult( resultSet, columnIndex );
-
             try
             {
-                return (T) factoryMethod.invoke( null, values );
+                return (T) (Object) rowFactory.invokeExact( resultSet, columnIndex );
             }
-            catch (IllegalAccessException | InvocationTargetException e)
+            catch (Throwable e)
             {
-                throw new RuntimeException( e );
+                throw MappingHandles.rethrow( e );
             }
         }
     }
 
-    private static class MapResultSetViaReflection<T> implements ResultSetMapper<T>
+    private static Class<?>[] resultTypesOf(ResultType<?>[] resultTypes)
+    {
+        Class<?>[] types = new Class<?>[resultTypes.length];
+        for (int i = 0; i < types.length; i++)
+            types[i] = resultTypes[i].getResultType();
+        return types;
+    }
+
+    private static class MapResultSetViaReflection<T> extends CompiledResultSetMapper<T, MethodHandle>
     {
         private final Class<T> type;
         private final Supplier<T> objectFactory;
         private final ResultType<?>[] resultTypes;
-        private SetFieldViaReflection<T>[] fieldSetters;
 
         public MapResultSetViaReflection(Class<T> type, Supplier<T> objectFactory, ResultType<?>... resultTypes)
         {
@@ -361,123 +447,153 @@ public abstract class ResultSetMappers
         }
 
         @Override
-        public void initialize(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+        String[] shape(ResultColumns columns, ColumnIndex columnIndex) throws SQLException
         {
-            fieldSetters = createFieldSetters( resultSet, columnIndex.copy(), type, resultTypes );
+            String[] columnNames = new String[resultTypes.length];
+            for (int i = 0; i < columnNames.length; i++)
+                columnNames[i] = columns.name( columnIndex.peek() + i );
+            return columnNames;
         }
 
+        /**
+         * Returns a handle of type {@code (Object,ResultSet,ColumnIndex)void}, setting the fields named {@code columnNames}.
+         */
         @Override
-        public T map(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+        MethodHandle compile(String[] columnNames)
+        {
+            return MappingHandles.fieldsInitializer( type, columnNames, resultTypes );
+        }
+
+        @Override
+        T map(MethodHandle fieldsInitializer, ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
         {
             T object = objectFactory.get();
-            // Create a local ColumnIndex starting at the current position
-            // because setFields will advance it.
-            SetFieldViaReflection.setFields( resultSet, columnIndex, object, fieldSetters );
+            try
+            {
+                fieldsInitializer.invokeExact( (Object) object, resultSet, columnIndex );
+            }
+            catch (Throwable e)
+            {
+                throw MappingHandles.rethrow( e );
+            }
             return object;
         }
     }
 
     static class CreateInstanceViaNoArgConstructor<T> implements Supplier<T>
     {
-        private static final Class<?>[] EMPTY_CLASS_ARRAY = new Class[0];
-        private static final Object[] EMPTY_OBJECT_ARRAY = new Object[0];
-        private final Constructor<T> constructor;
+        // ()Object
+        private final MethodHandle constructor;
 
         public CreateInstanceViaNoArgConstructor(Class<T> type)
         {
-            try
-            {
-                constructor = type.getDeclaredConstructor( EMPTY_CLASS_ARRAY );
-                constructor.setAccessible( true );
-            }
-            catch (SecurityException | NoSuchMethodException e)
-            {
-                throw new RuntimeException( e );
-            }
+            constructor = MappingHandles.noArgConstructor( type );
         }
 
+        @SuppressWarnings("unchecked")
         public T get()
         {
             try
             {
-                return constructor.newInstance( EMPTY_OBJECT_ARRAY );
+                return (T) (Object) constructor.invokeExact();
+            }
+            catch (RuntimeException | Error e)
+            {
+                throw e;
             }
-            catch (InstantiationException | IllegalAccessException | InvocationTargetException e)
+            catch (Throwable e)
             {
                 throw new RuntimeException( e );
             }
         }
     }
 
-    static final class SetFieldViaReflection<T>
+
+    /********************************************************************************
+     * <R> IfcResultSetMapper<R> row(RowFunction<R> f)
+     *******************************************************************************/
+
+    /**
+     * Maps a row to an object of type {@code R}, reading columns in order through a {@link Row}.
+     *
+     * @param <R> the type of the mapped object
+     * @see #row(RowFunction)
+     */
+    @FunctionalInterface
+    public interface RowFunction<R>
     {
-        private final Field field;
-        private final ResultType<?> resultType;
+        R map(Row row) throws SQLException;
+    }
 
-        public SetFieldViaReflection(Class<T> clazz, String columnName, ResultType<?> resultType)
+    /**
+     * Reads the columns of the current row in order, advancing the column index with every call.
+     *
+     * <p>Primitive columns are read with a {@link PrimitiveResultType} and returned unboxed.</p>
+     */
+    public static final class Row
+    {
+        private final ResultSet resultSet;
+        private final ColumnIndex columnIndex;
+
+        Row(ResultSet resultSet, ColumnIndex columnIndex)
         {
-            try
-            {
-                this.field = searchField( clazz, columnName );
-                this.field.setAccessible( true );
-                this.resultType = resultType;
-            }
-            catch (SecurityException e)
-            {
-                throw new RuntimeException( e );
-            }
-            catch (NoSuchFieldException e)
-            {
-                throw new RuntimeException( String.format( "class=%s, columnName=%s", clazz.getName(), columnName ), e );
-            }
+            this.resultSet = resultSet;
+            this.columnIndex = columnIndex;
         }
 
-        private Field searchField(Class<T> clazz, String columnName) throws NoSuchFieldException
+        public int getInt(PrimitiveResultType.OfInt resultType) throws SQLException
         {
-            for (Class<?> c = clazz; c != null; c = c.getSuperclass())
-                for (Field f : c.getDeclaredFields())
-                    if (f.getName().equals( columnName ))
-                        return f;
-            throw new NoSuchFieldException( columnName );
+            return resultType.getInt( resultSet, columnIndex );
         }
 
-        public void adapt(T object, ResultSet resultSet, ColumnIndex index) throws SQLException
+        public long getLong(PrimitiveResultType.OfLong resultType) throws SQLException
         {
-            try
-            {
-                field.set( object, resultType.getResult( resultSet, index ) );
-            }
-            catch (IllegalArgumentException | IllegalAccessException e)
-            {
-                throw new RuntimeException( e );
-            }
+            return resultType.getLong( resultSet, columnIndex );
         }
 
-        public static <T> SetFieldViaReflection<T>[] createFieldSetters(ResultSet resultSet, ColumnIndex columnIndex, Class<T> clazz, ResultType<?>... resultTypes) throws SQLException
+        public double getDouble(PrimitiveResultType.OfDouble resultType) throws SQLException
         {
-            SetFieldViaReflection<T>[] adaptors = (SetFieldViaReflection<T>[]) new SetFieldViaReflection[resultTypes.length];
+            return resultType.getDouble( resultSet, columnIndex );
+        }
 
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            ColumnIndex tempIndex = ColumnIndex.create( columnIndex.peek() );
-            for (int i = 0; i < resultTypes.length; i++)
-            {
-                adaptors[i] = new SetFieldViaReflection(
-                        clazz,
-                        metaData.getColumnName( tempIndex.next() ),
-                        resultTypes[i]
-                );
-            }
-            return adaptors;
+        public boolean getBoolean(PrimitiveResultType.OfBoolean resultType) throws SQLException
+        {
+            return resultType.getBoolean( resultSet, columnIndex );
         }
 
-        public static <T> void setFields(ResultSet rs, ColumnIndex columnIndex, T t, SetFieldViaReflection<T>... adaptors) throws SQLException
+        public <T> T get(ResultType<T> resultType) throws SQLException
         {
-            for (int i = 0; i < adaptors.length; i++)
-                if (adaptors[i] != null)
-                    adaptors[i].adapt( t, rs, columnIndex );
+            return resultType.getResult( resultSet, columnIndex );
         }
     }
 
+    /**
+     * Creates an {@link ResultSetMapper} that maps a {@link ResultSet} row to an object of type {@code R}
+     * by passing a {@link Row} to the mapping function.
+     * <p>
+     * Unlike the {@link #object(F1, ResultType) object(...)} family, the function reads columns
+     * itself, so {@code int}, {@code long}, {@code double} and {@code boolean} columns read with a
+     * {@link PrimitiveResultType} are passed to constructors without boxing:
+     * </p>
+     * <pre>{@code
+     * record Employee(int id, String name, double salary) {}
+     *
+     * ResultSetMapper<Employee> mapper = ResultSetMappers.row( row -> new Employee(
+     *     row.getInt( ResultTypes.PrimitiveInt ),
+     *     row.get( ResultTypes.String ),
+     *     row.getDouble( ResultTypes.PrimitiveDouble( 0d ) )
+     * ) );
+     * }</pre>
+     *
+     * @param f   A mapping function reading the columns of a row in order.
+     * @param <R> The type of the object to create.
+     * @return An {@link ResultSetMapper} that maps each {@link ResultSet} row to an object of type {@code R}.
+     */
+    public static <R> ResultSetMapper<R> row(RowFunction<R> f)
+    {
+        return (resultSet, idx) -> f.map( new Row( resultSet, idx ) );
+    }
+
 
     /********************************************************************************
      * <R, T1, ...> IfcResultSetMapper<R> object(F1<R, T1, ...> f1, ResultType<T1> t1, ...)
@@ -501,197 +617,197 @@ public abstract class ResultSetMappers
      * @param <T1> The type of the first column value, as defined by {@code t1}.
      * @return An {@link ResultSetMapper} that maps each {@link ResultSet} row to an object of type {@code R}.
      */
-        public static <R, T1> ResultSetMapper<R> object(F1<R, T1> f1, ResultType<T1> t1) { return (resultSet, idx) -> { return f1.map( t1.getResult(resultSet, idx) ); };}
+        public static <R, T1> ResultSetMapper<R> object(F1<R, T1> f1, ResultType<T1> t1) { return new ObjectMappers.ObjectMapper1<>( f1, t1 ); }
     public @FunctionalInterface interface F2<R, T1, T2> { R map(T1 t1, T2 t2); }
-    public static <R, T1, T2> ResultSetMapper<R> object(F2<R, T1, T2> f2, ResultType<T1> t1, ResultType<T2> t2) { return (resultSet, idx) -> { return f2.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2> ResultSetMapper<R> object(F2<R, T1, T2> f2, ResultType<T1> t1, ResultType<T2> t2) { return new ObjectMappers.ObjectMapper2<>( f2, t1, t2 ); }
     public @FunctionalInterface interface F3<R, T1, T2, T3> { R map(T1 t1, T2 t2, T3 t3); }
-    public static <R, T1, T2, T3> ResultSetMapper<R> object(F3<R, T1, T2, T3> f3, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3) { return (resultSet, idx) -> { return f3.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3> ResultSetMapper<R> object(F3<R, T1, T2, T3> f3, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3) { return new ObjectMappers.ObjectMapper3<>( f3, t1, t2, t3 ); }
     public @FunctionalInterface interface F4<R, T1, T2, T3, T4> { R map(T1 t1, T2 t2, T3 t3, T4 t4); }
-    public static <R, T1, T2, T3, T4> ResultSetMapper<R> object(F4<R, T1, T2, T3, T4> f4, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4) { return (resultSet, idx) -> { return f4.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4> ResultSetMapper<R> object(F4<R, T1, T2, T3, T4> f4, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4) { return new ObjectMappers.ObjectMapper4<>( f4, t1, t2, t3, t4 ); }
     public @FunctionalInterface interface F5<R, T1, T2, T3, T4, T5> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5); }
-    public static <R, T1, T2, T3, T4, T5> ResultSetMapper<R> object(F5<R, T1, T2, T3, T4, T5> f5, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5) { return (resultSet, idx) -> { return f5.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5> ResultSetMapper<R> object(F5<R, T1, T2, T3, T4, T5> f5, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5) { return new ObjectMappers.ObjectMapper5<>( f5, t1, t2, t3, t4, t5 ); }
     public @FunctionalInterface interface F6<R, T1, T2, T3, T4, T5, T6> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6); }
-    public static <R, T1, T2, T3, T4, T5, T6> ResultSetMapper<R> object(F6<R, T1, T2, T3, T4, T5, T6> f6, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6) { return (resultSet, idx) -> { return f6.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6> ResultSetMapper<R> object(F6<R, T1, T2, T3, T4, T5, T6> f6, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6) { return new ObjectMappers.ObjectMapper6<>( f6, t1, t2, t3, t4, t5, t6 ); }
     public @FunctionalInterface interface F7<R, T1, T2, T3, T4, T5, T6, T7> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7> ResultSetMapper<R> object(F7<R, T1, T2, T3, T4, T5, T6, T7> f7, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7) { return (resultSet, idx) -> { return f7.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7> ResultSetMapper<R> object(F7<R, T1, T2, T3, T4, T5, T6, T7> f7, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7) { return new ObjectMappers.ObjectMapper7<>( f7, t1, t2, t3, t4, t5, t6, t7 ); }
     public @FunctionalInterface interface F8<R, T1, T2, T3, T4, T5, T6, T7, T8> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8> ResultSetMapper<R> object(F8<R, T1, T2, T3, T4, T5, T6, T7, T8> f8, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8) { return (resultSet, idx) -> { return f8.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8> ResultSetMapper<R> object(F8<R, T1, T2, T3, T4, T5, T6, T7, T8> f8, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8) { return new ObjectMappers.ObjectMapper8<>( f8, t1, t2, t3, t4, t5, t6, t7, t8 ); }
     public @FunctionalInterface interface F9<R, T1, T2, T3, T4, T5, T6, T7, T8, T9> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9> ResultSetMapper<R> object(F9<R, T1, T2, T3, T4, T5, T6, T7, T8, T9> f9, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9) { return (resultSet, idx) -> { return f9.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9> ResultSetMapper<R> object(F9<R, T1, T2, T3, T4, T5, T6, T7, T8, T9> f9, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9) { return new ObjectMappers.ObjectMapper9<>( f9, t1, t2, t3, t4, t5, t6, t7, t8, t9 ); }
     public @FunctionalInterface interface F10<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> ResultSetMapper<R> object(F10<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> f10, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10) { return (resultSet, idx) -> { return f10.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> ResultSetMapper<R> object(F10<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> f10, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10) { return new ObjectMappers.ObjectMapper10<>( f10, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10 ); }
     public @FunctionalInterface interface F11<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> ResultSetMapper<R> object(F11<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> f11, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11) { return (resultSet, idx) -> { return f11.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> ResultSetMapper<R> object(F11<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> f11, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11) { return new ObjectMappers.ObjectMapper11<>( f11, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11 ); }
     public @FunctionalInterface interface F12<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> ResultSetMapper<R> object(F12<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> f12, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12) { return (resultSet, idx) -> { return f12.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> ResultSetMapper<R> object(F12<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> f12, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12) { return new ObjectMappers.ObjectMapper12<>( f12, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12 ); }
     public @FunctionalInterface interface F13<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> ResultSetMapper<R> object(F13<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> f13, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13) { return (resultSet, idx) -> { return f13.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> ResultSetMapper<R> object(F13<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> f13, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13) { return new ObjectMappers.ObjectMapper13<>( f13, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13 ); }
     public @FunctionalInterface interface F14<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> ResultSetMapper<R> object(F14<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> f14, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14) { return (resultSet, idx) -> { return f14.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> ResultSetMapper<R> object(F14<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> f14, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14) { return new ObjectMappers.ObjectMapper14<>( f14, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14 ); }
     public @FunctionalInterface interface F15<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> ResultSetMapper<R> object(F15<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> f15, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15) { return (resultSet, idx) -> { return f15.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> ResultSetMapper<R> object(F15<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> f15, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15) { return new ObjectMappers.ObjectMapper15<>( f15, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15 ); }
     public @FunctionalInterface interface F16<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> ResultSetMapper<R> object(F16<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> f16, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16) { return (resultSet, idx) -> { return f16.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> ResultSetMapper<R> object(F16<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> f16, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16) { return new ObjectMappers.ObjectMapper16<>( f16, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16 ); }
     public @FunctionalInterface interface F17<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> ResultSetMapper<R> object(F17<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> f17, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17) { return (resultSet, idx) -> { return f17.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> ResultSetMapper<R> object(F17<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> f17, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17) { return new ObjectMappers.ObjectMapper17<>( f17, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17 ); }
     public @FunctionalInterface interface F18<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> ResultSetMapper<R> object(F18<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> f18, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18) { return (resultSet, idx) -> { return f18.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> ResultSetMapper<R> object(F18<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> f18, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18) { return new ObjectMappers.ObjectMapper18<>( f18, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18 ); }
     public @FunctionalInterface interface F19<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> ResultSetMapper<R> object(F19<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> f19, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19) { return (resultSet, idx) -> { return f19.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> ResultSetMapper<R> object(F19<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> f19, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19) { return new ObjectMappers.ObjectMapper19<>( f19, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19 ); }
     public @FunctionalInterface interface F20<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> ResultSetMapper<R> object(F20<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> f20, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20) { return (resultSet, idx) -> { return f20.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> ResultSetMapper<R> object(F20<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> f20, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20) { return new ObjectMappers.ObjectMapper20<>( f20, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20 ); }
     public @FunctionalInterface interface F21<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> ResultSetMapper<R> object(F21<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> f21, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21) { return (resultSet, idx) -> { return f21.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> ResultSetMapper<R> object(F21<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> f21, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21) { return new ObjectMappers.ObjectMapper21<>( f21, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21 ); }
     public @FunctionalInterface interface F22<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> ResultSetMapper<R> object(F22<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> f22, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22) { return (resultSet, idx) -> { return f22.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> ResultSetMapper<R> object(F22<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> f22, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22) { return new ObjectMappers.ObjectMapper22<>( f22, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22 ); }
     public @FunctionalInterface interface F23<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23> ResultSetMapper<R> object(F23<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23> f23, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23) { return (resultSet, idx) -> { return f23.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23> ResultSetMapper<R> object(F23<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23> f23, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23) { return new ObjectMappers.ObjectMapper23<>( f23, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23 ); }
     public @FunctionalInterface interface F24<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24> ResultSetMapper<R> object(F24<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24> f24, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24) { return (resultSet, idx) -> { return f24.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24> ResultSetMapper<R> object(F24<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24> f24, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24) { return new ObjectMappers.ObjectMapper24<>( f24, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24 ); }
     public @FunctionalInterface interface F25<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25> ResultSetMapper<R> object(F25<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25> f25, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25) { return (resultSet, idx) -> { return f25.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25> ResultSetMapper<R> object(F25<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25> f25, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25) { return new ObjectMappers.ObjectMapper25<>( f25, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25 ); }
     public @FunctionalInterface interface F26<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26> ResultSetMapper<R> object(F26<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26> f26, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26) { return (resultSet, idx) -> { return f26.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26> ResultSetMapper<R> object(F26<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26> f26, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26) { return new ObjectMappers.ObjectMapper26<>( f26, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26 ); }
     public @FunctionalInterface interface F27<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27> ResultSetMapper<R> object(F27<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27> f27, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27) { return (resultSet, idx) -> { return f27.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27> ResultSetMapper<R> object(F27<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27> f27, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27) { return new ObjectMappers.ObjectMapper27<>( f27, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27 ); }
     public @FunctionalInterface interface F28<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28> ResultSetMapper<R> object(F28<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28> f28, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28) { return (resultSet, idx) -> { return f28.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28> ResultSetMapper<R> object(F28<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28> f28, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28) { return new ObjectMappers.ObjectMapper28<>( f28, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28 ); }
     public @FunctionalInterface interface F29<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29> ResultSetMapper<R> object(F29<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29> f29, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29) { return (resultSet, idx) -> { return f29.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29> ResultSetMapper<R> object(F29<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29> f29, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29) { return new ObjectMappers.ObjectMapper29<>( f29, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29 ); }
     public @FunctionalInterface interface F30<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30> ResultSetMapper<R> object(F30<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30> f30, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30) { return (resultSet, idx) -> { return f30.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30> ResultSetMapper<R> object(F30<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30> f30, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30) { return new ObjectMappers.ObjectMapper30<>( f30, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30 ); }
     public @FunctionalInterface interface F31<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31> ResultSetMapper<R> object(F31<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31> f31, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31) { return (resultSet, idx) -> { return f31.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31> ResultSetMapper<R> object(F31<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31> f31, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31) { return new ObjectMappers.ObjectMapper31<>( f31, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31 ); }
     public @FunctionalInterface interface F32<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32> ResultSetMapper<R> object(F32<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32> f32, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32) { return (resultSet, idx) -> { return f32.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32> ResultSetMapper<R> object(F32<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32> f32, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32) { return new ObjectMappers.ObjectMapper32<>( f32, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32 ); }
     public @FunctionalInterface interface F33<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33> ResultSetMapper<R> object(F33<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33> f33, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33) { return (resultSet, idx) -> { return f33.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33> ResultSetMapper<R> object(F33<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33> f33, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33) { return new ObjectMappers.ObjectMapper33<>( f33, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33 ); }
     public @FunctionalInterface interface F34<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34> ResultSetMapper<R> object(F34<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34> f34, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34) { return (resultSet, idx) -> { return f34.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34> ResultSetMapper<R> object(F34<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34> f34, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34) { return new ObjectMappers.ObjectMapper34<>( f34, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34 ); }
     public @FunctionalInterface interface F35<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35> ResultSetMapper<R> object(F35<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35> f35, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35) { return (resultSet, idx) -> { return f35.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35> ResultSetMapper<R> object(F35<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35> f35, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35) { return new ObjectMappers.ObjectMapper35<>( f35, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35 ); }
     public @FunctionalInterface interface F36<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36> ResultSetMapper<R> object(F36<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36> f36, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36) { return (resultSet, idx) -> { return f36.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36> ResultSetMapper<R> object(F36<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36> f36, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36) { return new ObjectMappers.ObjectMapper36<>( f36, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36 ); }
     public @FunctionalInterface interface F37<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37> ResultSetMapper<R> object(F37<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37> f37, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37) { return (resultSet, idx) -> { return f37.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37> ResultSetMapper<R> object(F37<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37> f37, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37) { return new ObjectMappers.ObjectMapper37<>( f37, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37 ); }
     public @FunctionalInterface interface F38<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38> ResultSetMapper<R> object(F38<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38> f38, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38) { return (resultSet, idx) -> { return f38.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38> ResultSetMapper<R> object(F38<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38> f38, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38) { return new ObjectMappers.ObjectMapper38<>( f38, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38 ); }
     public @FunctionalInterface interface F39<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39> ResultSetMapper<R> object(F39<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39> f39, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39) { return (resultSet, idx) -> { return f39.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39> ResultSetMapper<R> object(F39<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39> f39, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39) { return new ObjectMappers.ObjectMapper39<>( f39, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39 ); }
     public @FunctionalInterface interface F40<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40> ResultSetMapper<R> object(F40<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40> f40, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40) { return (resultSet, idx) -> { return f40.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40> ResultSetMapper<R> object(F40<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40> f40, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40) { return new ObjectMappers.ObjectMapper40<>( f40, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40 ); }
     public @FunctionalInterface interface F41<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41> ResultSetMapper<R> object(F41<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41> f41, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41) { return (resultSet, idx) -> { return f41.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41> ResultSetMapper<R> object(F41<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41> f41, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41) { return new ObjectMappers.ObjectMapper41<>( f41, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41 ); }
     public @FunctionalInterface interface F42<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42> ResultSetMapper<R> object(F42<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42> f42, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42) { return (resultSet, idx) -> { return f42.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42> ResultSetMapper<R> object(F42<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42> f42, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42) { return new ObjectMappers.ObjectMapper42<>( f42, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42 ); }
     public @FunctionalInterface interface F43<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43> ResultSetMapper<R> object(F43<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43> f43, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43) { return (resultSet, idx) -> { return f43.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43> ResultSetMapper<R> object(F43<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43> f43, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43) { return new ObjectMappers.ObjectMapper43<>( f43, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43 ); }
     public @FunctionalInterface interface F44<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44> ResultSetMapper<R> object(F44<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44> f44, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44) { return (resultSet, idx) -> { return f44.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44> ResultSetMapper<R> object(F44<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44> f44, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44) { return new ObjectMappers.ObjectMapper44<>( f44, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44 ); }
     public @FunctionalInterface interface F45<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45> ResultSetMapper<R> object(F45<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45> f45, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45) { return (resultSet, idx) -> { return f45.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45> ResultSetMapper<R> object(F45<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45> f45, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45) { return new ObjectMappers.ObjectMapper45<>( f45, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45 ); }
     public @FunctionalInterface interface F46<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46> ResultSetMapper<R> object(F46<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46> f46, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46) { return (resultSet, idx) -> { return f46.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46> ResultSetMapper<R> object(F46<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46> f46, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46) { return new ObjectMappers.ObjectMapper46<>( f46, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46 ); }
     public @FunctionalInterface interface F47<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47> ResultSetMapper<R> object(F47<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47> f47, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47) { return (resultSet, idx) -> { return f47.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47> ResultSetMapper<R> object(F47<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47> f47, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47) { return new ObjectMappers.ObjectMapper47<>( f47, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47 ); }
     public @FunctionalInterface interface F48<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48> ResultSetMapper<R> object(F48<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48> f48, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48) { return (resultSet, idx) -> { return f48.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48> ResultSetMapper<R> object(F48<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48> f48, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48) { return new ObjectMappers.ObjectMapper48<>( f48, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48 ); }
     public @FunctionalInterface interface F49<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49> ResultSetMapper<R> object(F49<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49> f49, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49) { return (resultSet, idx) -> { return f49.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49> ResultSetMapper<R> object(F49<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49> f49, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49) { return new ObjectMappers.ObjectMapper49<>( f49, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49 ); }
     public @FunctionalInterface interface F50<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50> ResultSetMapper<R> object(F50<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50> f50, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50) { return (resultSet, idx) -> { return f50.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50> ResultSetMapper<R> object(F50<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50> f50, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50) { return new ObjectMappers.ObjectMapper50<>( f50, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50 ); }
     public @FunctionalInterface interface F51<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51> ResultSetMapper<R> object(F51<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51> f51, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51) { return (resultSet, idx) -> { return f51.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51> ResultSetMapper<R> object(F51<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51> f51, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51) { return new ObjectMappers.ObjectMapper51<>( f51, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51 ); }
     public @FunctionalInterface interface F52<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52> ResultSetMapper<R> object(F52<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52> f52, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52) { return (resultSet, idx) -> { return f52.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52> ResultSetMapper<R> object(F52<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52> f52, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52) { return new ObjectMappers.ObjectMapper52<>( f52, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52 ); }
     public @FunctionalInterface interface F53<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53> ResultSetMapper<R> object(F53<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53> f53, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53) { return (resultSet, idx) -> { return f53.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53> ResultSetMapper<R> object(F53<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53> f53, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53) { return new ObjectMappers.ObjectMapper53<>( f53, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53 ); }
     public @FunctionalInterface interface F54<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54> ResultSetMapper<R> object(F54<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54> f54, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54) { return (resultSet, idx) -> { return f54.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54> ResultSetMapper<R> object(F54<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54> f54, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54) { return new ObjectMappers.ObjectMapper54<>( f54, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54 ); }
     public @FunctionalInterface interface F55<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55> ResultSetMapper<R> object(F55<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55> f55, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55) { return (resultSet, idx) -> { return f55.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55> ResultSetMapper<R> object(F55<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55> f55, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55) { return new ObjectMappers.ObjectMapper55<>( f55, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55 ); }
     public @FunctionalInterface interface F56<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56> ResultSetMapper<R> object(F56<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56> f56, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56) { return (resultSet, idx) -> { return f56.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56> ResultSetMapper<R> object(F56<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56> f56, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56) { return new ObjectMappers.ObjectMapper56<>( f56, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56 ); }
     public @FunctionalInterface interface F57<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57> ResultSetMapper<R> object(F57<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57> f57, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57) { return (resultSet, idx) -> { return f57.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57> ResultSetMapper<R> object(F57<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57> f57, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57) { return new ObjectMappers.ObjectMapper57<>( f57, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57 ); }
     public @FunctionalInterface interface F58<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58> ResultSetMapper<R> object(F58<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58> f58, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58) { return (resultSet, idx) -> { return f58.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58> ResultSetMapper<R> object(F58<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58> f58, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58) { return new ObjectMappers.ObjectMapper58<>( f58, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58 ); }
     public @FunctionalInterface interface F59<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59> ResultSetMapper<R> object(F59<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59> f59, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59) { return (resultSet, idx) -> { return f59.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59> ResultSetMapper<R> object(F59<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59> f59, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59) { return new ObjectMappers.ObjectMapper59<>( f59, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59 ); }
     public @FunctionalInterface interface F60<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60> ResultSetMapper<R> object(F60<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60> f60, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60) { return (resultSet, idx) -> { return f60.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60> ResultSetMapper<R> object(F60<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60> f60, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60) { return new ObjectMappers.ObjectMapper60<>( f60, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60 ); }
     public @FunctionalInterface interface F61<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61> ResultSetMapper<R> object(F61<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61> f61, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61) { return (resultSet, idx) -> { return f61.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61> ResultSetMapper<R> object(F61<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61> f61, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61) { return new ObjectMappers.ObjectMapper61<>( f61, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61 ); }
     public @FunctionalInterface interface F62<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62> ResultSetMapper<R> object(F62<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62> f62, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62) { return (resultSet, idx) -> { return f62.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62> ResultSetMapper<R> object(F62<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62> f62, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62) { return new ObjectMappers.ObjectMapper62<>( f62, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62 ); }
     public @FunctionalInterface interface F63<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63> ResultSetMapper<R> object(F63<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63> f63, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63) { return (resultSet, idx) -> { return f63.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63> ResultSetMapper<R> object(F63<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63> f63, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63) { return new ObjectMappers.ObjectMapper63<>( f63, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63 ); }
     public @FunctionalInterface interface F64<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64> ResultSetMapper<R> object(F64<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64> f64, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64) { return (resultSet, idx) -> { return f64.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64> ResultSetMapper<R> object(F64<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64> f64, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64) { return new ObjectMappers.ObjectMapper64<>( f64, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64 ); }
     public @FunctionalInterface interface F65<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65> ResultSetMapper<R> object(F65<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65> f65, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65) { return (resultSet, idx) -> { return f65.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65> ResultSetMapper<R> object(F65<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65> f65, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65) { return new ObjectMappers.ObjectMapper65<>( f65, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65 ); }
     public @FunctionalInterface interface F66<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66> ResultSetMapper<R> object(F66<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66> f66, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66) { return (resultSet, idx) -> { return f66.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66> ResultSetMapper<R> object(F66<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66> f66, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66) { return new ObjectMappers.ObjectMapper66<>( f66, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66 ); }
     public @FunctionalInterface interface F67<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67> ResultSetMapper<R> object(F67<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67> f67, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67) { return (resultSet, idx) -> { return f67.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67> ResultSetMapper<R> object(F67<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67> f67, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67) { return new ObjectMappers.ObjectMapper67<>( f67, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67 ); }
     public @FunctionalInterface interface F68<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68> ResultSetMapper<R> object(F68<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68> f68, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68) { return (resultSet, idx) -> { return f68.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68> ResultSetMapper<R> object(F68<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68> f68, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68) { return new ObjectMappers.ObjectMapper68<>( f68, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68 ); }
     public @FunctionalInterface interface F69<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69> ResultSetMapper<R> object(F69<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69> f69, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69) { return (resultSet, idx) -> { return f69.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69> ResultSetMapper<R> object(F69<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69> f69, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69) { return new ObjectMappers.ObjectMapper69<>( f69, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69 ); }
     public @FunctionalInterface interface F70<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70> ResultSetMapper<R> object(F70<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70> f70, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70) { return (resultSet, idx) -> { return f70.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70> ResultSetMapper<R> object(F70<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70> f70, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70) { return new ObjectMappers.ObjectMapper70<>( f70, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70 ); }
     public @FunctionalInterface interface F71<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71> ResultSetMapper<R> object(F71<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71> f71, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71) { return (resultSet, idx) -> { return f71.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71> ResultSetMapper<R> object(F71<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71> f71, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71) { return new ObjectMappers.ObjectMapper71<>( f71, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71 ); }
     public @FunctionalInterface interface F72<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72> ResultSetMapper<R> object(F72<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72> f72, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72) { return (resultSet, idx) -> { return f72.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72> ResultSetMapper<R> object(F72<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72> f72, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72) { return new ObjectMappers.ObjectMapper72<>( f72, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72 ); }
     public @FunctionalInterface interface F73<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73> ResultSetMapper<R> object(F73<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73> f73, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73) { return (resultSet, idx) -> { return f73.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73> ResultSetMapper<R> object(F73<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73> f73, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73) { return new ObjectMappers.ObjectMapper73<>( f73, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73 ); }
     public @FunctionalInterface interface F74<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74> ResultSetMapper<R> object(F74<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74> f74, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74) { return (resultSet, idx) -> { return f74.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74> ResultSetMapper<R> object(F74<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74> f74, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74) { return new ObjectMappers.ObjectMapper74<>( f74, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74 ); }
     public @FunctionalInterface interface F75<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75> ResultSetMapper<R> object(F75<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75> f75, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75) { return (resultSet, idx) -> { return f75.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75> ResultSetMapper<R> object(F75<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75> f75, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75) { return new ObjectMappers.ObjectMapper75<>( f75, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75 ); }
     public @FunctionalInterface interface F76<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76> ResultSetMapper<R> object(F76<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76> f76, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76) { return (resultSet, idx) -> { return f76.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76> ResultSetMapper<R> object(F76<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76> f76, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76) { return new ObjectMappers.ObjectMapper76<>( f76, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76 ); }
     public @FunctionalInterface interface F77<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77> ResultSetMapper<R> object(F77<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77> f77, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77) { return (resultSet, idx) -> { return f77.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77> ResultSetMapper<R> object(F77<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77> f77, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77) { return new ObjectMappers.ObjectMapper77<>( f77, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77 ); }
     public @FunctionalInterface interface F78<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78> ResultSetMapper<R> object(F78<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78> f78, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78) { return (resultSet, idx) -> { return f78.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78> ResultSetMapper<R> object(F78<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78> f78, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78) { return new ObjectMappers.ObjectMapper78<>( f78, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78 ); }
     public @FunctionalInterface interface F79<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79> ResultSetMapper<R> object(F79<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79> f79, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79) { return (resultSet, idx) -> { return f79.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79> ResultSetMapper<R> object(F79<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79> f79, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79) { return new ObjectMappers.ObjectMapper79<>( f79, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79 ); }
     public @FunctionalInterface interface F80<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80> ResultSetMapper<R> object(F80<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80> f80, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80) { return (resultSet, idx) -> { return f80.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80> ResultSetMapper<R> object(F80<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80> f80, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80) { return new ObjectMappers.ObjectMapper80<>( f80, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80 ); }
     public @FunctionalInterface interface F81<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81> ResultSetMapper<R> object(F81<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81> f81, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81) { return (resultSet, idx) -> { return f81.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81> ResultSetMapper<R> object(F81<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81> f81, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81) { return new ObjectMappers.ObjectMapper81<>( f81, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81 ); }
     public @FunctionalInterface interface F82<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82> ResultSetMapper<R> object(F82<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82> f82, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82) { return (resultSet, idx) -> { return f82.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82> ResultSetMapper<R> object(F82<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82> f82, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82) { return new ObjectMappers.ObjectMapper82<>( f82, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82 ); }
     public @FunctionalInterface interface F83<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83> ResultSetMapper<R> object(F83<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83> f83, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83) { return (resultSet, idx) -> { return f83.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83> ResultSetMapper<R> object(F83<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83> f83, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83) { return new ObjectMappers.ObjectMapper83<>( f83, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83 ); }
     public @FunctionalInterface interface F84<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84> ResultSetMapper<R> object(F84<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84> f84, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84) { return (resultSet, idx) -> { return f84.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84> ResultSetMapper<R> object(F84<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84> f84, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84) { return new ObjectMappers.ObjectMapper84<>( f84, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84 ); }
     public @FunctionalInterface interface F85<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85> ResultSetMapper<R> object(F85<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85> f85, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85) { return (resultSet, idx) -> { return f85.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85> ResultSetMapper<R> object(F85<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85> f85, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85) { return new ObjectMappers.ObjectMapper85<>( f85, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85 ); }
     public @FunctionalInterface interface F86<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85, T86 t86); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86> ResultSetMapper<R> object(F86<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86> f86, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86) { return (resultSet, idx) -> { return f86.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx), t86.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86> ResultSetMapper<R> object(F86<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86> f86, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86) { return new ObjectMappers.ObjectMapper86<>( f86, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85, t86 ); }
     public @FunctionalInterface interface F87<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85, T86 t86, T87 t87); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87> ResultSetMapper<R> object(F87<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87> f87, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87) { return (resultSet, idx) -> { return f87.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx), t86.getResult(resultSet, idx), t87.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87> ResultSetMapper<R> object(F87<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87> f87, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87) { return new ObjectMappers.ObjectMapper87<>( f87, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85, t86, t87 ); }
     public @FunctionalInterface interface F88<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85, T86 t86, T87 t87, T88 t88); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88> ResultSetMapper<R> object(F88<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88> f88, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88) { return (resultSet, idx) -> { return f88.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx), t86.getResult(resultSet, idx), t87.getResult(resultSet, idx), t88.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88> ResultSetMapper<R> object(F88<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88> f88, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88) { return new ObjectMappers.ObjectMapper88<>( f88, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85, t86, t87, t88 ); }
     public @FunctionalInterface interface F89<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85, T86 t86, T87 t87, T88 t88, T89 t89); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89> ResultSetMapper<R> object(F89<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89> f89, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89) { return (resultSet, idx) -> { return f89.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx), t86.getResult(resultSet, idx), t87.getResult(resultSet, idx), t88.getResult(resultSet, idx), t89.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89> ResultSetMapper<R> object(F89<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89> f89, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89) { return new ObjectMappers.ObjectMapper89<>( f89, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85, t86, t87, t88, t89 ); }
     public @FunctionalInterface interface F90<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85, T86 t86, T87 t87, T88 t88, T89 t89, T90 t90); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90> ResultSetMapper<R> object(F90<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90> f90, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90) { return (resultSet, idx) -> { return f90.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx), t86.getResult(resultSet, idx), t87.getResult(resultSet, idx), t88.getResult(resultSet, idx), t89.getResult(resultSet, idx), t90.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90> ResultSetMapper<R> object(F90<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90> f90, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90) { return new ObjectMappers.ObjectMapper90<>( f90, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85, t86, t87, t88, t89, t90 ); }
     public @FunctionalInterface interface F91<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85, T86 t86, T87 t87, T88 t88, T89 t89, T90 t90, T91 t91); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91> ResultSetMapper<R> object(F91<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91> f91, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91) { return (resultSet, idx) -> { return f91.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx), t86.getResult(resultSet, idx), t87.getResult(resultSet, idx), t88.getResult(resultSet, idx), t89.getResult(resultSet, idx), t90.getResult(resultSet, idx), t91.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91> ResultSetMapper<R> object(F91<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91> f91, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91) { return new ObjectMappers.ObjectMapper91<>( f91, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85, t86, t87, t88, t89, t90, t91 ); }
     public @FunctionalInterface interface F92<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85, T86 t86, T87 t87, T88 t88, T89 t89, T90 t90, T91 t91, T92 t92); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92> ResultSetMapper<R> object(F92<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92> f92, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92) { return (resultSet, idx) -> { return f92.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx), t86.getResult(resultSet, idx), t87.getResult(resultSet, idx), t88.getResult(resultSet, idx), t89.getResult(resultSet, idx), t90.getResult(resultSet, idx), t91.getResult(resultSet, idx), t92.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92> ResultSetMapper<R> object(F92<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92> f92, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92) { return new ObjectMappers.ObjectMapper92<>( f92, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85, t86, t87, t88, t89, t90, t91, t92 ); }
     public @FunctionalInterface interface F93<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85, T86 t86, T87 t87, T88 t88, T89 t89, T90 t90, T91 t91, T92 t92, T93 t93); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93> ResultSetMapper<R> object(F93<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93> f93, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93) { return (resultSet, idx) -> { return f93.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx), t86.getResult(resultSet, idx), t87.getResult(resultSet, idx), t88.getResult(resultSet, idx), t89.getResult(resultSet, idx), t90.getResult(resultSet, idx), t91.getResult(resultSet, idx), t92.getResult(resultSet, idx), t93.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93> ResultSetMapper<R> object(F93<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93> f93, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93) { return new ObjectMappers.ObjectMapper93<>( f93, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85, t86, t87, t88, t89, t90, t91, t92, t93 ); }
     public @FunctionalInterface interface F94<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85, T86 t86, T87 t87, T88 t88, T89 t89, T90 t90, T91 t91, T92 t92, T93 t93, T94 t94); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94> ResultSetMapper<R> object(F94<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94> f94, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93, ResultType<T94> t94) { return (resultSet, idx) -> { return f94.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx), t86.getResult(resultSet, idx), t87.getResult(resultSet, idx), t88.getResult(resultSet, idx), t89.getResult(resultSet, idx), t90.getResult(resultSet, idx), t91.getResult(resultSet, idx), t92.getResult(resultSet, idx), t93.getResult(resultSet, idx), t94.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94> ResultSetMapper<R> object(F94<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94> f94, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93, ResultType<T94> t94) { return new ObjectMappers.ObjectMapper94<>( f94, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85, t86, t87, t88, t89, t90, t91, t92, t93, t94 ); }
     public @FunctionalInterface interface F95<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85, T86 t86, T87 t87, T88 t88, T89 t89, T90 t90, T91 t91, T92 t92, T93 t93, T94 t94, T95 t95); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95> ResultSetMapper<R> object(F95<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95> f95, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93, ResultType<T94> t94, ResultType<T95> t95) { return (resultSet, idx) -> { return f95.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx), t86.getResult(resultSet, idx), t87.getResult(resultSet, idx), t88.getResult(resultSet, idx), t89.getResult(resultSet, idx), t90.getResult(resultSet, idx), t91.getResult(resultSet, idx), t92.getResult(resultSet, idx), t93.getResult(resultSet, idx), t94.getResult(resultSet, idx), t95.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95> ResultSetMapper<R> object(F95<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95> f95, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93, ResultType<T94> t94, ResultType<T95> t95) { return new ObjectMappers.ObjectMapper95<>( f95, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85, t86, t87, t88, t89, t90, t91, t92, t93, t94, t95 ); }
     public @FunctionalInterface interface F96<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95, T96> { R map(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16, T17 t17, T18 t18, T19 t19, T20 t20, T21 t21, T22 t22, T23 t23, T24 t24, T25 t25, T26 t26, T27 t27, T28 t28, T29 t29, T30 t30, T31 t31, T32 t32, T33 t33, T34 t34, T35 t35, T36 t36, T37 t37, T38 t38, T39 t39, T40 t40, T41 t41, T42 t42, T43 t43, T44 t44, T45 t45, T46 t46, T47 t47, T48 t48, T49 t49, T50 t50, T51 t51, T52 t52, T53 t53, T54 t54, T55 t55, T56 t56, T57 t57, T58 t58, T59 t59, T60 t60, T61 t61, T62 t62, T63 t63, T64 t64, T65 t65, T66 t66, T67 t67, T68 t68, T69 t69, T70 t70, T71 t71, T72 t72, T73 t73, T74 t74, T75 t75, T76 t76, T77 t77, T78 t78, T79 t79, T80 t80, T81 t81, T82 t82, T83 t83, T84 t84, T85 t85, T86 t86, T87 t87, T88 t88, T89 t89, T90 t90, T91 t91, T92 t92, T93 t93, T94 t94, T95 t95, T96 t96); }
-    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95, T96> ResultSetMapper<R> object(F96<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95, T96> f96, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93, ResultType<T94> t94, ResultType<T95> t95, ResultType<T96> t96) { return (resultSet, idx) -> { return f96.map( t1.getResult(resultSet, idx), t2.getResult(resultSet, idx), t3.getResult(resultSet, idx), t4.getResult(resultSet, idx), t5.getResult(resultSet, idx), t6.getResult(resultSet, idx), t7.getResult(resultSet, idx), t8.getResult(resultSet, idx), t9.getResult(resultSet, idx), t10.getResult(resultSet, idx), t11.getResult(resultSet, idx), t12.getResult(resultSet, idx), t13.getResult(resultSet, idx), t14.getResult(resultSet, idx), t15.getResult(resultSet, idx), t16.getResult(resultSet, idx), t17.getResult(resultSet, idx), t18.getResult(resultSet, idx), t19.getResult(resultSet, idx), t20.getResult(resultSet, idx), t21.getResult(resultSet, idx), t22.getResult(resultSet, idx), t23.getResult(resultSet, idx), t24.getResult(resultSet, idx), t25.getResult(resultSet, idx), t26.getResult(resultSet, idx), t27.getResult(resultSet, idx), t28.getResult(resultSet, idx), t29.getResult(resultSet, idx), t30.getResult(resultSet, idx), t31.getResult(resultSet, idx), t32.getResult(resultSet, idx), t33.getResult(resultSet, idx), t34.getResult(resultSet, idx), t35.getResult(resultSet, idx), t36.getResult(resultSet, idx), t37.getResult(resultSet, idx), t38.getResult(resultSet, idx), t39.getResult(resultSet, idx), t40.getResult(resultSet, idx), t41.getResult(resultSet, idx), t42.getResult(resultSet, idx), t43.getResult(resultSet, idx), t44.getResult(resultSet, idx), t45.getResult(resultSet, idx), t46.getResult(resultSet, idx), t47.getResult(resultSet, idx), t48.getResult(resultSet, idx), t49.getResult(resultSet, idx), t50.getResult(resultSet, idx), t51.getResult(resultSet, idx), t52.getResult(resultSet, idx), t53.getResult(resultSet, idx), t54.getResult(resultSet, idx), t55.getResult(resultSet, idx), t56.getResult(resultSet, idx), t57.getResult(resultSet, idx), t58.getResult(resultSet, idx), t59.getResult(resultSet, idx), t60.getResult(resultSet, idx), t61.getResult(resultSet, idx), t62.getResult(resultSet, idx), t63.getResult(resultSet, idx), t64.getResult(resultSet, idx), t65.getResult(resultSet, idx), t66.getResult(resultSet, idx), t67.getResult(resultSet, idx), t68.getResult(resultSet, idx), t69.getResult(resultSet, idx), t70.getResult(resultSet, idx), t71.getResult(resultSet, idx), t72.getResult(resultSet, idx), t73.getResult(resultSet, idx), t74.getResult(resultSet, idx), t75.getResult(resultSet, idx), t76.getResult(resultSet, idx), t77.getResult(resultSet, idx), t78.getResult(resultSet, idx), t79.getResult(resultSet, idx), t80.getResult(resultSet, idx), t81.getResult(resultSet, idx), t82.getResult(resultSet, idx), t83.getResult(resultSet, idx), t84.getResult(resultSet, idx), t85.getResult(resultSet, idx), t86.getResult(resultSet, idx), t87.getResult(resultSet, idx), t88.getResult(resultSet, idx), t89.getResult(resultSet, idx), t90.getResult(resultSet, idx), t91.getResult(resultSet, idx), t92.getResult(resultSet, idx), t93.getResult(resultSet, idx), t94.getResult(resultSet, idx), t95.getResult(resultSet, idx), t96.getResult(resultSet, idx) ); };}
+    public static <R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95, T96> ResultSetMapper<R> object(F96<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, T23, T24, T25, T26, T27, T28, T29, T30, T31, T32, T33, T34, T35, T36, T37, T38, T39, T40, T41, T42, T43, T44, T45, T46, T47, T48, T49, T50, T51, T52, T53, T54, T55, T56, T57, T58, T59, T60, T61, T62, T63, T64, T65, T66, T67, T68, T69, T70, T71, T72, T73, T74, T75, T76, T77, T78, T79, T80, T81, T82, T83, T84, T85, T86, T87, T88, T89, T90, T91, T92, T93, T94, T95, T96> f96, ResultType<T1> t1, ResultType<T2> t2, ResultType<T3> t3, ResultType<T4> t4, ResultType<T5> t5, ResultType<T6> t6, ResultType<T7> t7, ResultType<T8> t8, ResultType<T9> t9, ResultType<T10> t10, ResultType<T11> t11, ResultType<T12> t12, ResultType<T13> t13, ResultType<T14> t14, ResultType<T15> t15, ResultType<T16> t16, ResultType<T17> t17, ResultType<T18> t18, ResultType<T19> t19, ResultType<T20> t20, ResultType<T21> t21, ResultType<T22> t22, ResultType<T23> t23, ResultType<T24> t24, ResultType<T25> t25, ResultType<T26> t26, ResultType<T27> t27, ResultType<T28> t28, ResultType<T29> t29, ResultType<T30> t30, ResultType<T31> t31, ResultType<T32> t32, ResultType<T33> t33, ResultType<T34> t34, ResultType<T35> t35, ResultType<T36> t36, ResultType<T37> t37, ResultType<T38> t38, ResultType<T39> t39, ResultType<T40> t40, ResultType<T41> t41, ResultType<T42> t42, ResultType<T43> t43, ResultType<T44> t44, ResultType<T45> t45, ResultType<T46> t46, ResultType<T47> t47, ResultType<T48> t48, ResultType<T49> t49, ResultType<T50> t50, ResultType<T51> t51, ResultType<T52> t52, ResultType<T53> t53, ResultType<T54> t54, ResultType<T55> t55, ResultType<T56> t56, ResultType<T57> t57, ResultType<T58> t58, ResultType<T59> t59, ResultType<T60> t60, ResultType<T61> t61, ResultType<T62> t62, ResultType<T63> t63, ResultType<T64> t64, ResultType<T65> t65, ResultType<T66> t66, ResultType<T67> t67, ResultType<T68> t68, ResultType<T69> t69, ResultType<T70> t70, ResultType<T71> t71, ResultType<T72> t72, ResultType<T73> t73, ResultType<T74> t74, ResultType<T75> t75, ResultType<T76> t76, ResultType<T77> t77, ResultType<T78> t78, ResultType<T79> t79, ResultType<T80> t80, ResultType<T81> t81, ResultType<T82> t82, ResultType<T83> t83, ResultType<T84> t84, ResultType<T85> t85, ResultType<T86> t86, ResultType<T87> t87, ResultType<T88> t88, ResultType<T89> t89, ResultType<T90> t90, ResultType<T91> t91, ResultType<T92> t92, ResultType<T93> t93, ResultType<T94> t94, ResultType<T95> t95, ResultType<T96> t96) { return new ObjectMappers.ObjectMapper96<>( f96, t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22, t23, t24, t25, t26, t27, t28, t29, t30, t31, t32, t33, t34, t35, t36, t37, t38, t39, t40, t41, t42, t43, t44, t45, t46, t47, t48, t49, t50, t51, t52, t53, t54, t55, t56, t57, t58, t59, t60, t61, t62, t63, t64, t65, t66, t67, t68, t69, t70, t71, t72, t73, t74, t75, t76, t77, t78, t79, t80, t81, t82, t83, t84, t85, t86, t87, t88, t89, t90, t91, t92, t93, t94, t95, t96 ); }
 
     // @formatter:on
 
@@ -10,6 +10,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -100,6 +101,57 @@ public abstract class ResultSetReaders
         return new ReadManyResultsIntoCollector<>( collector );
     }
 
+    /**
+     * Returns a {@link ResultSetReader} that reads all rows and passes them to the supplied {@link Consumer}
+     * in chunks of {@code chunkSize} mapped rows.  The last chunk may be smaller; no empty chunk is passed.
+     *
+     * <p>The same list instance is passed for every chunk and cleared afterwards,
+     * so at most {@code chunkSize} rows are held in memory.  Consumers retaining
+     * a chunk must copy it.</p>
+     *
+     * @param chunkSize the maximum number of rows per chunk, must be positive.
+     * @param consumer  the {@code Consumer} to accept each chunk.
+     * @param <T>       the type of the mapped row object.
+     * @param <C>       the type of the consumer.
+     * @return a {@code ResultSetReader} that processes rows in chunks, returning the consumer.
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive.
+     */
+    @NotNull
+    public static <T, C extends Consumer<List<T>>> ResultSetReader<T, C> readInChunks(int chunkSize, C consumer)
+    {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException( "chunkSize must be positive: " + chunkSize );
+        return new ReadManyResultsIntoCollector<>( Collector.of(
+                () -> new Chunks<T>( chunkSize, consumer ),
+                Chunks::add,
+                (left, right) -> {
+                    throw new UnsupportedOperationException( "chunks are read sequentially" );
+                },
+                chunks -> {
+                    chunks.flush();
+                    return consumer;
+                }
+        ) );
+    }
+
+    /**
+     * Returns a {@link ResultSetReader} that reads all rows into a {@link ColumnarResult},
+     * storing each column in its own array rather than creating an object per row.
+     *
+     * <p>The reader reads the columns itself using {@code resultTypes}; the {@link ResultSetMapper}
+     * passed along is not called, use {@link ResultSetMappers#none()}.</p>
+     *
+     * @param resultTypes the types of the columns, in the same order as in the query.
+     * @param <T>         the (unused) type of the mapper.
+     * @return a {@code ResultSetReader} that collects rows column by column.
+     * @see ColumnarResult
+     */
+    @NotNull
+    public static <T> ResultSetReader<T, ColumnarResult> readColumnar(ResultType<?>... resultTypes)
+    {
+        return new ReadColumnar<>( resultTypes );
+    }
+
     /**
      * Returns a {@link Collector} that accumulates elements into a {@link Stream}.
      * This is useful when you want to lazily process results or leverage Stream API capabilities.
@@ -200,14 +252,74 @@ class ReadManyResultsIntoCollector<T, A, R> implements ResultSetReader<T, R>
     {
         A container = collector.supplier().get();
         BiConsumer<A, T> accumulator = collector.accumulator();
+        RowColumnIndex rowIndex = new RowColumnIndex( columnIndex );
         while (resultSet.next())
         {
-            accumulator.accept( container, resultMapper.map( resultSet, columnIndex.copy() ) );
+            accumulator.accept( container, resultMapper.map( resultSet, rowIndex.rewind() ) );
         }
         return collector.finisher().apply( container );
     }
 }
 
+/**
+ * Accumulation container of {@link ResultSetReaders#readInChunks(int, Consumer)}.
+ */
+final class Chunks<T>
+{
+    private final int chunkSize;
+    private final Consumer<List<T>> consumer;
+    private final List<T> buffer;
+
+    Chunks(int chunkSize, Consumer<List<T>> consumer)
+    {
+        this.chunkSize = chunkSize;
+        this.consumer = consumer;
+        this.buffer = new ArrayList<>( Math.min( chunkSize, 1024 ) );
+    }
+
+    void add(T row)
+    {
+        buffer.add( row );
+        if (buffer.size() == chunkSize)
+            flush();
+    }
+
+    void flush()
+    {
+        if (buffer.isEmpty())
+            return;
+        consumer.accept( buffer );
+        buffer.clear();
+    }
+}
+
+class ReadColumnar<T> implements ResultSetReader<T, ColumnarResult>
+{
+    private final ResultType<?>[] resultTypes;
+
+    ReadColumnar(ResultType<?>[] resultTypes)
+    {
+        this.resultTypes = resultTypes;
+    }
+
+    @Override
+    public ColumnarResult readResult(ResultSet resultSet, ResultSetMapper<T> resultMapper) throws SQLException
+    {
+        return readResult( resultSet, ColumnIndex.create( 1 ), resultMapper );
+    }
+
+    @Override
+    public ColumnarResult readResult(ResultSet resultSet, ColumnIndex columnIndex, ResultSetMapper<T> resultMapper) throws SQLException
+    {
+        final ColumnarResult.Builder builder = new ColumnarResult.Builder( resultTypes );
+        builder.initialize( resultSet, columnIndex );
+        RowColumnIndex rowIndex = new RowColumnIndex( columnIndex );
+        while (resultSet.next())
+            builder.addRow( resultSet, rowIndex.rewind() );
+        return builder.build();
+    }
+}
+
 class ReadManyResultsIntoConsumer<T, C extends Consumer<T>> implements ResultSetReader<T, C>
 {
     private final C consumer;
@@ -226,9 +338,10 @@ class ReadManyResultsIntoConsumer<T, C extends Consumer<T>> implements ResultSet
     @Override
     public C readResult(ResultSet resultSet, ColumnIndex columnIndex, ResultSetMapper<T> resultMapper) throws SQLException
     {
+        RowColumnIndex rowIndex = new RowColumnIndex( columnIndex );
         while (resultSet.next())
         {
-            consumer.accept( resultMapper.map( resultSet, columnIndex.copy() ) );
+            consumer.accept( resultMapper.map( resultSet, rowIndex.rewind() ) );
         }
         return consumer;
     }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Spliterator} pulling rows from an open {@link ResultSet} on demand.
+ *
+ * <p>Owns the connection, statement and result set of a single query and releases
+ * them when the {@link Stream} built by {@link #open} is closed.</p>
+ *
+ * @see StatementUtil#stream(String, ResultSetMapper, StatementInParameter...)
+ */
+final class ResultSetStream<T> extends Spliterators.AbstractSpliterator<T>
+{
+    private final AbstractStatementUtil statementUtil;
+    private final String sql;
+
+    private Connection connection;
+    private StatementCache.Lease lease;
+    private ResultSet resultSet;
+    private RowColumnIndex columnIndex;
+    private ResultSetMapper<T> resultSetMapper;
+    private boolean closed;
+
+    private ResultSetStream(AbstractStatementUtil statementUtil, String sql)
+    {
+        super( Long.MAX_VALUE, Spliterator.ORDERED );
+        this.statementUtil = statementUtil;
+        this.sql = sql;
+    }
+
+    /**
+     * Executes the query and returns a sequential stream over its mapped rows.
+     * If the query fails, everything acquired so far is released before the exception is thrown.
+     * If {@link AbstractStatementUtil#openConnection(String, String)} returns no connection,
+     * {@link UnsupportedOperationException} is thrown.
+     */
+    static <T> Stream<T> open(
+            AbstractStatementUtil statementUtil,
+            StatementCache statementCache,
+            String sql,
+            ResultSetMapper<T> resultSetMapper,
+            Iterable<StatementInParameter> parameters
+    )
+    {
+        final ResultSetStream<T> spliterator = new ResultSetStream<>( statementUtil, sql );
+        try
+        {
+            spliterator.connection = statementUtil.openConnection( "stream", sql );
+            if (spliterator.connection == null)
+                throw new UnsupportedOperationException( statementUtil.getClass().getName() + " does not support stream, openConnection returned no connection" );
+            spliterator.lease = PreparedStatementUtil.prepareStatement( statementCache, spliterator.connection, sql, null, parameters );
+            spliterator.resultSet = spliterator.lease.statement().executeQuery();
+            spliterator.columnIndex = new RowColumnIndex( 1 );
+            spliterator.resultSetMapper = statementUtil.bind( resultSetMapper, spliterator.lease.sql(), spliterator.resultSet, spliterator.columnIndex );
+        }
+        catch (SQLException | RuntimeException e)
+        {
+            try
+            {
+                spliterator.close();
+            }
+            catch (RuntimeException suppressed)
+            {
+                e.addSuppressed( suppressed );
+            }
+            throw e instanceof SQLException sqlException ? statementUtil.translateOrWrap( "stream", sql, sqlException ) : (RuntimeException) e;
+        }
+        return StreamSupport.stream( spliterator, false ).onClose( spliterator::close );
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action)
+    {
+        if (closed)
+            return false;
+        try
+        {
+            if (!resultSet.next())
+                return false;
+            action.accept( resultSetMapper.map( resultSet, columnIndex.rewind() ) );
+            return true;
+        }
+        catch (SQLException e)
+        {
+            throw statementUtil.translateOrWrap( "stream", sql, e );
+        }
+    }
+
+    /**
+     * Closes result set, statement and connection, in this order.  Idempotent.
+     */
+    void close()
+    {
+        if (closed)
+            return;
+        closed = true;
+
+        SQLException failure = null;
+        try
+        {
+            if (resultSet != null)
+                resultSet.close();
+        }
+        catch (SQLException e)
+        {
+            failure = e;
+        }
+        try
+        {
+            if (lease != null)
+                lease.close();
+        }
+        catch (SQLException e)
+        {
+            failure = addSuppressed( failure, e );
+        }
+        try
+        {
+            if (connection != null)
+                statementUtil.releaseConnection( connection, "stream", sql );
+        }
+        catch (SQLException e)
+        {
+            failure = addSuppressed( failure, e );
+        }
+
+        if (failure != null)
+            throw statementUtil.translateOrWrap( "stream", sql, failure );
+    }
+
+    private static SQLException addSuppressed(SQLException failure, SQLException e)
+    {
+        if (failure == null)
+            return e;
+        failure.addSuppressed( e );
+        return failure;
+    }
+}
@@ -73,6 +73,22 @@ public final class ResultTypes
      * A {@code ResultType} for reading {@link Double} values. Handles {@code DOUBLE} SQL types.
      */
     public final static ResultType<Double> Double = new DoubleResultType();
+    /**
+     * A {@code ResultType} for reading {@code int} values without boxing. {@code NULL} is rejected.
+     */
+    public final static PrimitiveResultType.OfInt PrimitiveInt = new PrimitiveIntResultType( false, 0 );
+    /**
+     * A {@code ResultType} for reading {@code long} values without boxing. {@code NULL} is rejected.
+     */
+    public final static PrimitiveResultType.OfLong PrimitiveLong = new PrimitiveLongResultType( false, 0L );
+    /**
+     * A {@code ResultType} for reading {@code double} values without boxing. {@code NULL} is rejected.
+     */
+    public final static PrimitiveResultType.OfDouble PrimitiveDouble = new PrimitiveDoubleResultType( false, 0d );
+    /**
+     * A {@code ResultType} for reading {@code boolean} values without boxing. {@code NULL} is rejected.
+     */
+    public final static PrimitiveResultType.OfBoolean PrimitiveBoolean = new PrimitiveBooleanResultType( false, false );
     /**
      * A {@code ResultType} for reading {@link BigDecimal} values. Handles {@code DECIMAL}, {@code NUMERIC} SQL types.
      */
@@ -98,6 +114,50 @@ public final class ResultTypes
      */
     public final static ResultType<Object> Object = new ObjectResultType<Object>( Object.class );
 
+    /**
+     * Creates a {@code ResultType} for reading {@code int} values without boxing, returning {@code nullValue} for {@code NULL}.
+     *
+     * @param nullValue the value returned for {@code NULL}.
+     * @return a {@code ResultType} for {@code int} values.
+     */
+    public static PrimitiveResultType.OfInt PrimitiveInt(int nullValue)
+    {
+        return new PrimitiveIntResultType( true, nullValue );
+    }
+
+    /**
+     * Creates a {@code ResultType} for reading {@code long} values without boxing, returning {@code nullValue} for {@code NULL}.
+     *
+     * @param nullValue the value returned for {@code NULL}.
+     * @return a {@code ResultType} for {@code long} values.
+     */
+    public static PrimitiveResultType.OfLong PrimitiveLong(long nullValue)
+    {
+        return new PrimitiveLongResultType( true, nullValue );
+    }
+
+    /**
+     * Creates a {@code ResultType} for reading {@code double} values without boxing, returning {@code nullValue} for {@code NULL}.
+     *
+     * @param nullValue the value returned for {@code NULL}.
+     * @return a {@code ResultType} for {@code double} values.
+     */
+    public static PrimitiveResultType.OfDouble PrimitiveDouble(double nullValue)
+    {
+        return new PrimitiveDoubleResultType( true, nullValue );
+    }
+
+    /**
+     * Creates a {@code ResultType} for reading {@code boolean} values without boxing, returning {@code nullValue} for {@code NULL}.
+     *
+     * @param nullValue the value returned for {@code NULL}.
+     * @return a {@code ResultType} for {@code boolean} values.
+     */
+    public static PrimitiveResultType.OfBoolean PrimitiveBoolean(boolean nullValue)
+    {
+        return new PrimitiveBooleanResultType( true, nullValue );
+    }
+
     /**
      * Creates a {@code ResultType} for reading generic {@link Object} values of a specific type.
      *
@@ -283,6 +343,9 @@ public final class ResultTypes
      * as if they were a single column {@link ResultType}. This is useful for nesting mappers
      * for composite objects.</p>
      *
+     * <p>The mapper is bound once per result set, so the returned {@link ResultType} can be shared
+     * by concurrent queries like the mapper itself.</p>
+     *
      * @param type   the class of the object produced by the mapper
      * @param mapper the mapper to adapt
      * @param <T>    the result type
@@ -291,26 +354,7 @@ public final class ResultTypes
      */
     public static <T> ResultType<T> mapper(Class<T> type, ResultSetMapper<T> mapper)
     {
-        return new ResultType<T>()
-        {
-            @Override
-            public void initialize(ResultSet resultSet, ColumnIndex index) throws SQLException
-            {
-                mapper.initialize( resultSet, index );
-            }
-
-            @Override
-            public T getResult(ResultSet resultSet, ColumnIndex index) throws SQLException
-            {
-                return mapper.map( resultSet, index );
-            }
-
-            @Override
-            public Class<T> getResultType()
-            {
-                return type;
-            }
-        };
+        return new MapperResultType<>( type, mapper );
     }
 
     /**
@@ -324,17 +368,36 @@ public final class ResultTypes
     {
         return resultTypes;
     }
+
+    /**
+     * Returns whether {@code resultType} is one of the boxed {@link PrimitiveResultType}s,
+     * which read {@code NULL} as {@code null}, but as {@code 0} / {@code false} without boxing.
+     */
+    static boolean isBoxed(ResultType<?> resultType)
+    {
+        return resultType == Integer || resultType == Long || resultType == Double || resultType == Boolean;
+    }
 }
 
-final class BooleanResultType implements ResultType<Boolean>
+/**
+ * Reads {@code NULL} as {@code null}, and as {@code false} with {@link #getBoolean(ResultSet, ColumnIndex)}.
+ */
+final class BooleanResultType implements PrimitiveResultType.OfBoolean
 {
+    @Override
+    public boolean getBoolean(ResultSet resultSet, ColumnIndex index) throws SQLException
+    {
+        return resultSet.getBoolean( index.next() );
+    }
+
     @Override
     public final Boolean getResult(ResultSet resultSet, ColumnIndex index) throws SQLException
     {
-        boolean value = resultSet.getBoolean( index.next() );
+        boolean value = getBoolean( resultSet, index );
         return resultSet.wasNull() ? null : value;
     }
 
+    @Override
     public Class<Boolean> getResultType()
     {
         return Boolean.class;
@@ -414,30 +477,50 @@ final class ShortResultType implements ResultType<Short>
     }
 }
 
-final class IntegerResultType implements ResultType<Integer>
+/**
+ * Reads {@code NULL} as {@code null}, and as {@code 0} with {@link #getInt(ResultSet, ColumnIndex)}.
+ */
+final class IntegerResultType implements PrimitiveResultType.OfInt
 {
+    @Override
+    public int getInt(ResultSet resultSet, ColumnIndex index) throws SQLException
+    {
+        return resultSet.getInt( index.next() );
+    }
+
     @Override
     public Integer getResult(ResultSet resultSet, ColumnIndex index) throws SQLException
     {
-        int value = resultSet.getInt( index.next() );
+        int value = getInt( resultSet, index );
         return resultSet.wasNull() ? null : value;
     }
 
+    @Override
     public Class<Integer> getResultType()
     {
         return Integer.class;
     }
 }
 
-final class LongResultType implements ResultType<Long>
+/**
+ * Reads {@code NULL} as {@code null}, and as {@code 0} with {@link #getLong(ResultSet, ColumnIndex)}.
+ */
+final class LongResultType implements PrimitiveResultType.OfLong
 {
+    @Override
+    public long getLong(ResultSet resultSet, ColumnIndex index) throws SQLException
+    {
+        return resultSet.getLong( index.next() );
+    }
+
     @Override
     public Long getResult(ResultSet resultSet, ColumnIndex index) throws SQLException
     {
-        long value = resultSet.getLong( index.next() );
+        long value = getLong( resultSet, index );
         return resultSet.wasNull() ? null : value;
     }
 
+    @Override
     public Class<Long> getResultType()
     {
         return Long.class;
@@ -459,21 +542,135 @@ final class FloatResultType implements ResultType<Float>
     }
 }
 
-final class DoubleResultType implements ResultType<Double>
+/**
+ * Reads {@code NULL} as {@code null}, and as {@code 0} with {@link #getDouble(ResultSet, ColumnIndex)}.
+ */
+final class DoubleResultType implements PrimitiveResultType.OfDouble
 {
+    @Override
+    public double getDouble(ResultSet resultSet, ColumnIndex index) throws SQLException
+    {
+        return resultSet.getDouble( index.next() );
+    }
+
     @Override
     public Double getResult(ResultSet resultSet, ColumnIndex index) throws SQLException
     {
-        double value = resultSet.getDouble( index.next() );
+        double value = getDouble( resultSet, index );
         return resultSet.wasNull() ? null : value;
     }
 
+    @Override
     public Class<Double> getResultType()
     {
         return Double.class;
     }
 }
 
+final class PrimitiveIntResultType implements PrimitiveResultType.OfInt
+{
+    private final boolean nullAllowed;
+    private final int nullValue;
+
+    PrimitiveIntResultType(boolean nullAllowed, int nullValue)
+    {
+        this.nullAllowed = nullAllowed;
+        this.nullValue = nullValue;
+    }
+
+    @Override
+    public int getInt(ResultSet resultSet, ColumnIndex index) throws SQLException
+    {
+        final int column = index.next();
+        final int value = resultSet.getInt( column );
+        if (resultSet.wasNull())
+        {
+            if (!nullAllowed)
+                throw new NullPointerException( "NULL in column " + column + " cannot be read as int" );
+            return nullValue;
+        }
+        return value;
+    }
+}
+
+final class PrimitiveLongResultType implements PrimitiveResultType.OfLong
+{
+    private final boolean nullAllowed;
+    private final long nullValue;
+
+    PrimitiveLongResultType(boolean nullAllowed, long nullValue)
+    {
+        this.nullAllowed = nullAllowed;
+        this.nullValue = nullValue;
+    }
+
+    @Override
+    public long getLong(ResultSet resultSet, ColumnIndex index) throws SQLException
+    {
+        final int column = index.next();
+        final long value = resultSet.getLong( column );
+        if (resultSet.wasNull())
+        {
+            if (!nullAllowed)
+                throw new NullPointerException( "NULL in column " + column + " cannot be read as long" );
+            return nullValue;
+        }
+        return value;
+    }
+}
+
+final class PrimitiveDoubleResultType implements PrimitiveResultType.OfDouble
+{
+    private final boolean nullAllowed;
+    private final double nullValue;
+
+    PrimitiveDoubleResultType(boolean nullAllowed, double nullValue)
+    {
+        this.nullAllowed = nullAllowed;
+        this.nullValue = nullValue;
+    }
+
+    @Override
+    public double getDouble(ResultSet resultSet, ColumnIndex index) throws SQLException
+    {
+        final int column = index.next();
+        final double value = resultSet.getDouble( column );
+        if (resultSet.wasNull())
+        {
+            if (!nullAllowed)
+                throw new NullPointerException( "NULL in column " + column + " cannot be read as double" );
+            return nullValue;
+        }
+        return value;
+    }
+}
+
+final class PrimitiveBooleanResultType implements PrimitiveResultType.OfBoolean
+{
+    private final boolean nullAllowed;
+    private final boolean nullValue;
+
+    PrimitiveBooleanResultType(boolean nullAllowed, boolean nullValue)
+    {
+        this.nullAllowed = nullAllowed;
+        this.nullValue = nullValue;
+    }
+
+    @Override
+    public boolean getBoolean(ResultSet resultSet, ColumnIndex index) throws SQLException
+    {
+        final int column = index.next();
+        final boolean value = resultSet.getBoolean( column );
+        if (resultSet.wasNull())
+        {
+            if (!nullAllowed)
+                throw new NullPointerException( "NULL in column " + column + " cannot be read as boolean" );
+            return nullValue;
+        }
+        return value;
+    }
+}
+
 final class BigDecimalResultType implements ResultType<BigDecimal>
 {
     @Override
@@ -640,10 +837,12 @@ final class BytesResultType implements ResultType<byte[]>
 final class EnumByNameResultType<E extends Enum<E>> implements ResultType<E>
 {
     final Class<E> type;
+    private final EnumLookup.ByName<E> constants;
 
     EnumByNameResultType(Class<E> type)
     {
         this.type = type;
+        this.constants = EnumLookup.byName( type );
     }
 
     @Override
@@ -653,7 +852,16 @@ final class EnumByNameResultType<E extends Enum<E>> implements ResultType<E>
         if (string == null)
             return null;
         else
-            return Enum.valueOf( type, string.trim() );
+            return getEnum( string );
+    }
+
+    private E getEnum(final String name)
+    {
+        E e = constants.get( name );
+        if (e == null)
+            // same exception as Enum.valueOf()
+            throw new IllegalArgumentException( "No enum constant " + type.getCanonicalName() + "." + name.trim() );
+        return e;
     }
 
     public Class<E> getResultType()
@@ -666,10 +874,12 @@ final class EnumByIntKeyResultType<E extends Enum<E> & EnumIntKey>
         implements ResultType<E>
 {
     final Class<E> type;
+    private final EnumLookup.ByIntKey<E> constants;
 
     public EnumByIntKeyResultType(Class<E> type)
     {
         this.type = type;
+        this.constants = EnumLookup.byIntKey( type );
     }
 
     @Override
@@ -684,9 +894,9 @@ final class EnumByIntKeyResultType<E extends Enum<E> & EnumIntKey>
 
     private E getEnum(final int key)
     {
-        for (E t : type.getEnumConstants())
-            if (t.getKey() == key)
-                return t;
+        E e = constants.get( key );
+        if (e != null)
+            return e;
         throw new UnexpectedValueException( String.format(
                 "No %s enum for value %d found", type.getSimpleName(), key ) );
     }
@@ -702,11 +912,13 @@ final class EnumByKeyResultType<K, E extends Enum<E> & EnumKey<K>>
 {
     final Class<E> type;
     final ResultType<K> resultType;
+    private final EnumLookup.ByKey<E> constants;
 
     public EnumByKeyResultType(Class<E> type, ResultType<K> resultType)
     {
         this.type = type;
         this.resultType = resultType;
+        this.constants = EnumLookup.byKey( type );
     }
 
     @Override
@@ -718,9 +930,9 @@ final class EnumByKeyResultType<K, E extends Enum<E> & EnumKey<K>>
 
     private E getEnum(final K key)
     {
-        for (E e : type.getEnumConstants())
-            if (e.getKey().equals( key ))
-                return e;
+        E e = constants.get( key );
+        if (e != null)
+            return e;
         throw new UnexpectedValueException( String.format(
                 "No %s enum for value %s found", type.getSimpleName(), key ) );
     }
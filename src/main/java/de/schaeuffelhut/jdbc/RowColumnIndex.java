@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+/**
+ * A {@link ColumnIndex} reused for all rows of a result set, so the row loops of the
+ * readers do not allocate an index per row.
+ *
+ * <p>{@link #rewind()} moves the index back to the first column of the row. Mappers and
+ * result types must therefore not retain the index passed to them beyond the current row.</p>
+ */
+final class RowColumnIndex implements ColumnIndex {
+    private final int first;
+    private int index;
+
+    /**
+     * @param columnIndex the index of the first column of each row; not modified
+     */
+    RowColumnIndex(ColumnIndex columnIndex) {
+        this( columnIndex.peek() );
+    }
+
+    RowColumnIndex(int first) {
+        this.first = first;
+        this.index = first;
+    }
+
+    /**
+     * Moves back to the first column of the row.
+     *
+     * @return this index
+     */
+    ColumnIndex rewind() {
+        index = first;
+        return this;
+    }
+
+    @Override
+    public int next() {
+        return index++;
+    }
+
+    @Override
+    public int peek() {
+        return index;
+    }
+
+    @Override
+    public ColumnIndex copy() {
+        return ColumnIndex.create( index );
+    }
+}
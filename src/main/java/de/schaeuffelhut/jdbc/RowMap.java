@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A row of {@link ResultSetMappers#map(ResultType...)}, storing only the values of its columns.
+ *
+ * <p>The labels and their positions are held by {@link Keys}, which is computed once per result set
+ * and shared by all of its rows.  Lookups by label go through the shared table, so a row costs one
+ * {@code Object[]} instead of a hash table with an entry per column.</p>
+ *
+ * <p>The map is mutable and permits {@code null} values, like the {@link HashMap} it replaces.
+ * Removing a column leaves a hole in the value array; keys which are not columns are kept in a
+ * {@link HashMap} created on the first such {@link #put(String, Object)}.  Iteration is in column
+ * order, followed by the added keys.</p>
+ *
+ * <p>A row is serialized as a {@link LinkedHashMap} with the same entries in the same order,
+ * so the label table is not serialized with every row.</p>
+ */
+final class RowMap extends AbstractMap<String, Object> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The label table shared by the rows of a result set.
+     */
+    static final class Keys
+    {
+        private final String[] labels;
+        private final int[] slotOfColumn;
+        private final Map<String, Integer> slotOfLabel;
+
+        /**
+         * @param columnLabels the label of each column; for duplicate labels the last column wins, as with {@link Map#put}
+         */
+        Keys(String[] columnLabels)
+        {
+            slotOfLabel = new HashMap<>();
+            slotOfColumn = new int[columnLabels.length];
+            String[] labels = new String[columnLabels.length];
+            for (int column = 0; column < columnLabels.length; column++)
+            {
+                Integer slot = slotOfLabel.get( columnLabels[column] );
+                if (slot == null)
+                {
+                    slot = slotOfLabel.size();
+                    labels[slot] = columnLabels[column];
+                    slotOfLabel.put( columnLabels[column], slot );
+                }
+                slotOfColumn[column] = slot;
+            }
+            this.labels = Arrays.copyOf( labels, slotOfLabel.size() );
+        }
+
+        int size()
+        {
+            return labels.length;
+        }
+
+        /**
+         * Returns the position of the value of {@code column} (0-based) in the value array of a row.
+         */
+        int slot(int column)
+        {
+            return slotOfColumn[column];
+        }
+    }
+
+    private static final Object ABSENT = new Object();
+
+    // not serialized, see writeReplace()
+    private final transient Keys keys;
+    private final transient Object[] values;
+    private transient int present;
+    private transient HashMap<String, Object> added;
+
+    /**
+     * @param values the value of each label of {@code keys}, by slot; owned by the new map
+     */
+    RowMap(Keys keys, Object[] values)
+    {
+        this.keys = keys;
+        this.values = values;
+        this.present = values.length;
+    }
+
+    @Override
+    public int size()
+    {
+        return present + (added == null ? 0 : added.size());
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        Integer slot = keys.slotOfLabel.get( key );
+        if (slot != null)
+            return values[slot] != ABSENT;
+        return added != null && added.containsKey( key );
+    }
+
+    @Override
+    public Object get(Object key)
+    {
+        Integer slot = keys.slotOfLabel.get( key );
+        if (slot != null)
+            return valueOf( values[slot] );
+        return added == null ? null : added.get( key );
+    }
+
+    @Override
+    public Object put(String key, Object value)
+    {
+        Integer slot = keys.slotOfLabel.get( key );
+        if (slot != null)
+        {
+            Object previous = values[slot];
+            values[slot] = value;
+            if (previous == ABSENT)
+                present++;
+            return valueOf( previous );
+        }
+        if (added == null)
+            added = new HashMap<>();
+        return added.put( key, value );
+    }
+
+    @Override
+    public Object remove(Object key)
+    {
+        Integer slot = keys.slotOfLabel.get( key );
+        if (slot != null)
+            return removeSlot( slot );
+        return added == null ? null : added.remove( key );
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill( values, ABSENT );
+        present = 0;
+        added = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet()
+    {
+        return new AbstractSet<>()
+        {
+            @Override
+            public Iterator<Entry<String, Object>> iterator()
+            {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return RowMap.this.size();
+            }
+
+            @Override
+            public void clear()
+            {
+                RowMap.this.clear();
+            }
+        };
+    }
+
+    @Serial
+    private Object writeReplace()
+    {
+        return new LinkedHashMap<>( this );
+    }
+
+    private Object removeSlot(int slot)
+    {
+        Object previous = values[slot];
+        if (previous == ABSENT)
+            return null;
+        values[slot] = ABSENT;
+        present--;
+        return previous;
+    }
+
+    private static Object valueOf(Object value)
+    {
+        return value == ABSENT ? null : value;
+    }
+
+    /**
+     * Iterates the columns in slot order, then the added keys.
+     */
+    private final class EntryIterator implements Iterator<Entry<String, Object>>
+    {
+        private int next = advance( 0 );
+        private int last = -1;
+        private boolean lastAdded;
+        private Iterator<Entry<String, Object>> addedIterator;
+
+        private int advance(int slot)
+        {
+            while (slot < values.length && values[slot] == ABSENT)
+                slot++;
+            return slot;
+        }
+
+        private Iterator<Entry<String, Object>> addedIterator()
+        {
+            if (addedIterator == null)
+                addedIterator = added == null ? Collections.emptyIterator() : added.entrySet().iterator();
+            return addedIterator;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next < values.length || addedIterator().hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next()
+        {
+            if (next < values.length)
+            {
+                lastAdded = false;
+                last = next;
+                next = advance( next + 1 );
+                return new SlotEntry( last );
+            }
+            if (!addedIterator().hasNext())
+                throw new NoSuchElementException();
+            Entry<String, Object> entry = addedIterator.next();
+            lastAdded = true;
+            last = -1;
+            return entry;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (lastAdded)
+                addedIterator.remove();
+            else if (last < 0 || values[last] == ABSENT)
+                throw new IllegalStateException();
+            else
+                removeSlot( last );
+        }
+    }
+
+    /**
+     * An entry writing through to the value array.
+     */
+    private final class SlotEntry implements Entry<String, Object>
+    {
+        private final int slot;
+
+        SlotEntry(int slot)
+        {
+            this.slot = slot;
+        }
+
+        @Override
+        public String getKey()
+        {
+            return keys.labels[slot];
+        }
+
+        @Override
+        public Object getValue()
+        {
+            return valueOf( values[slot] );
+        }
+
+        @Override
+        public Object setValue(Object value)
+        {
+            if (values[slot] == ABSENT)
+                throw new IllegalStateException( "Entry has been removed" );
+            Object previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof Entry<?, ?> entry
+                   && Objects.equals( getKey(), entry.getKey() )
+                   && Objects.equals( getValue(), entry.getValue() );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode( getKey() ) ^ Objects.hashCode( getValue() );
+        }
+
+        @Override
+        public String toString()
+        {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+/**
+ * Minimal lexical helpers for scanning SQL text outside of string literals,
+ * quoted identifiers and comments.
+ */
+final class SqlScanner
+{
+    private SqlScanner()
+    {
+    }
+
+    /**
+     * If a string literal, quoted identifier or comment starts at {@code i},
+     * returns the index just after it, otherwise returns {@code i}.
+     * Unterminated constructs extend to the end of {@code sql}.
+     */
+    static int skipLiteralOrComment(String sql, int i)
+    {
+        final int length = sql.length();
+        final char c = sql.charAt( i );
+        if (c == '\'' || c == '"' || c == '`')
+        {
+            // doubled quote characters are escapes and are consumed as two quoted sections
+            final int end = sql.indexOf( c, i + 1 );
+            return end < 0 ? length : end + 1;
+        }
+        else if (c == '-' && i + 1 < length && sql.charAt( i + 1 ) == '-')
+        {
+            final int end = sql.indexOf( '\n', i + 2 );
+            return end < 0 ? length : end + 1;
+        }
+        else if (c == '/' && i + 1 < length && sql.charAt( i + 1 ) == '*')
+        {
+            final int end = sql.indexOf( "*/", i + 2 );
+            return end < 0 ? length : end + 2;
+        }
+        return i;
+    }
+
+    /**
+     * Returns whether the keyword (upper case) starts at {@code i} as a whole word, ignoring case.
+     */
+    static boolean isKeywordAt(String sql, int i, String keyword)
+    {
+        final int end = i + keyword.length();
+        if (end > sql.length() || !sql.regionMatches( true, i, keyword, 0, keyword.length() ))
+            return false;
+        return (i == 0 || !isIdentifierPart( sql.charAt( i - 1 ) ))
+               && (end == sql.length() || !isIdentifierPart( sql.charAt( end ) ));
+    }
+
+    static boolean isIdentifierPart(char c)
+    {
+        return Character.isLetterOrDigit( c ) || c == '_' || c == '$';
+    }
+
+    /**
+     * Returns the index of the first character at or after {@code i} which is neither
+     * whitespace nor part of a comment.
+     */
+    static int skipWhitespace(String sql, int i)
+    {
+        while (i < sql.length())
+        {
+            if (Character.isWhitespace( sql.charAt( i ) ))
+            {
+                i++;
+                continue;
+            }
+            final char c = sql.charAt( i );
+            if (c != '-' && c != '/')
+                break;
+            final int next = skipLiteralOrComment( sql, i );
+            if (next == i)
+                break;
+            i = next;
+        }
+        return i;
+    }
+}
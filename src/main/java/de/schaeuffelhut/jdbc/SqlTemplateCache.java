@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import de.schaeuffelhut.jdbc.StatementParameter.SqlShape;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide cache of expanded SQL, keyed by the original SQL text and the
+ * {@linkplain StatementParameter#sqlShape() shapes} of its parameters.
+ *
+ * <p>Parameters whose shape is {@link SqlShape#UNCHANGED} do not contribute to the key.
+ * If all parameters are {@code UNCHANGED} the SQL is returned as is, without a cache lookup.
+ * If any parameter reports an unknown shape ({@code null}) the SQL is expanded by calling
+ * {@link StatementParameter#modify(String)} on every parameter and nothing is cached.</p>
+ *
+ * <p>The cache holds at most {@link #MAX_SIZE} entries; it is cleared when full.
+ * Applications execute a limited set of statements, so this only matters for
+ * SQL that is assembled dynamically.</p>
+ */
+final class SqlTemplateCache
+{
+    static final int MAX_SIZE = 4096;
+
+    private static final ConcurrentHashMap<Key, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlTemplateCache()
+    {
+    }
+
+    static String modifySql(String sql, Iterable<? extends StatementParameter> parameters)
+    {
+        List<Object> shapes = null;
+        for (StatementParameter param : parameters)
+        {
+            final Object shape = param.sqlShape();
+            if (shape == null)
+                return modifyUncached( sql, parameters );
+            if (shape == SqlShape.UNCHANGED)
+                continue;
+            if (shapes == null)
+                shapes = new ArrayList<>( 4 );
+            shapes.add( shape );
+        }
+
+        if (shapes == null)
+            return sql;
+
+        final Key key = new Key( sql, shapes );
+        String expanded = CACHE.get( key );
+        if (expanded == null)
+        {
+            expanded = modifyUncached( sql, parameters );
+            if (CACHE.size() >= MAX_SIZE)
+                CACHE.clear();
+            CACHE.put( key, expanded );
+        }
+        return expanded;
+    }
+
+    static String modifyUncached(String sql, Iterable<? extends StatementParameter> parameters)
+    {
+        for (StatementParameter param : parameters)
+            sql = param.modify( sql );
+        return sql;
+    }
+
+    static int size()
+    {
+        return CACHE.size();
+    }
+
+    static void clear()
+    {
+        CACHE.clear();
+    }
+
+    /**
+     * Computes the shape of a parameter type that expands a placeholder into one
+     * replacement per element, like {@link ArrayInParameterType} and {@link CollectionInParameterType}.
+     *
+     * @param template     the expanding parameter type; must implement {@code equals}
+     * @param elementType  the type of the elements, which modifies each replacement
+     * @param values       the elements
+     * @param paddedSize   the number of replacements, at least {@code values.size()}; the last element is repeated
+     *                     in the padding slots, see {@link InListPadding}
+     * @return the shape, or {@code null} if the shape of any element is unknown
+     */
+    static <T> Object expansionShape(Object template, StatementInParameterType<T> elementType, Collection<T> values, int paddedSize)
+    {
+        List<Object> elementShapes = null;
+        int i = 0;
+        for (T value : values)
+        {
+            final Object shape = elementType.sqlShape( value );
+            if (shape == null)
+                return null;
+            if (shape != SqlShape.UNCHANGED && elementShapes == null)
+            {
+                elementShapes = new ArrayList<>( values.size() );
+                for (int j = 0; j < i; j++)
+                    elementShapes.add( SqlShape.UNCHANGED );
+            }
+            if (elementShapes != null)
+                elementShapes.add( shape );
+            i++;
+        }
+        if (elementShapes != null)
+            for (Object last = elementShapes.get( i - 1 ); i < paddedSize; i++)
+                elementShapes.add( last );
+        return new ExpansionShape( template, paddedSize, elementShapes == null ? List.of() : elementShapes );
+    }
+
+    record ExpansionShape(Object template, int size, List<Object> elementShapes)
+    {
+    }
+
+    private record Key(String sql, List<Object> shapes)
+    {
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of idle {@link PreparedStatement}s, scoped to a {@link Connection}.
+ *
+ * <p>Statements are keyed by the final (modified) SQL and the {@link GeneratedKeys} mode.
+ * A statement is removed from the cache while it is in use and returned when its
+ * {@link Lease} is closed, so nested queries on the same connection never share a statement.</p>
+ *
+ * <p>The cache holds its connections strongly, since every cached statement references its connection.
+ * {@link #invalidate(Connection)} closes all cached statements of a connection and must be called when
+ * the connection is released.  As a safety net, statements of a closed connection are dropped on the
+ * next lookup ({@link PreparedStatement#isClosed()}), and the statements of all closed connections are
+ * dropped whenever statements are first cached for another connection.</p>
+ *
+ * @see AbstractStatementUtil#AbstractStatementUtil(int)
+ */
+final class StatementCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger( StatementCache.class );
+
+    private final int maxSize;
+    private final Map<Connection, ConnectionStatements> connections = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    StatementCache(int maxSize)
+    {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException( "maxSize must be positive: " + maxSize );
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Borrows a statement for {@code sql} from {@code statementCache}, or prepares a new one.
+     *
+     * @param statementCache the cache, or {@code null} to always prepare and close statements
+     */
+    static Lease prepare(StatementCache statementCache, Connection connection, String sql, GeneratedKeys generatedKeys) throws SQLException
+    {
+        if (statementCache == null)
+            return new Lease( null, connection, new Key( sql, generatedKeys ), prepareStatement( connection, sql, generatedKeys ) );
+        else
+            return statementCache.borrow( connection, sql, generatedKeys );
+    }
+
+    private static PreparedStatement prepareStatement(Connection connection, String sql, GeneratedKeys generatedKeys) throws SQLException
+    {
+        if (generatedKeys == null)
+            return connection.prepareStatement( sql );
+        else
+            return connection.prepareStatement( sql, generatedKeys.autoGeneratedKey );
+    }
+
+    private Lease borrow(Connection connection, String sql, GeneratedKeys generatedKeys) throws SQLException
+    {
+        final Key key = new Key( sql, generatedKeys );
+        final ConnectionStatements statements = statementsOf( connection );
+
+        PreparedStatement stmt;
+        synchronized (statements)
+        {
+            stmt = statements.remove( key );
+        }
+
+        if (stmt != null && stmt.isClosed())
+        {
+            // the connection was closed (or returned to its pool) and took its statements along
+            invalidate( connection );
+            stmt = null;
+        }
+
+        if (stmt == null)
+        {
+            misses.increment();
+            stmt = prepareStatement( connection, sql, generatedKeys );
+        }
+        else
+        {
+            hits.increment();
+        }
+        return new Lease( this, connection, key, stmt );
+    }
+
+    private void release(Connection connection, Key key, PreparedStatement stmt, boolean batch)
+    {
+        try
+        {
+            if (batch)
+                stmt.clearBatch();
+            stmt.clearParameters();
+            if (stmt.getQueryTimeout() != 0)
+                stmt.setQueryTimeout( 0 );
+            if (stmt.getFetchSize() != 0)
+                stmt.setFetchSize( 0 );
+        }
+        catch (SQLException e)
+        {
+            LOGGER.debug( "discarding statement which could not be reset: {}", key.sql(), e );
+            closeQuietly( stmt );
+            return;
+        }
+
+        final ConnectionStatements statements = statementsOf( connection );
+        final PreparedStatement previous;
+        synchronized (statements)
+        {
+            previous = statements.put( key, stmt );
+        }
+        // a nested use of the same SQL was released first; keep only one of them
+        if (previous != null)
+            closeQuietly( previous );
+    }
+
+    private ConnectionStatements statementsOf(Connection connection)
+    {
+        final List<ConnectionStatements> dropped;
+        final ConnectionStatements statements;
+        synchronized (connections)
+        {
+            final ConnectionStatements existing = connections.get( connection );
+            if (existing != null)
+                return existing;
+            dropped = removeClosedConnections();
+            statements = new ConnectionStatements();
+            connections.put( connection, statements );
+        }
+        for (ConnectionStatements closed : dropped)
+            closeAll( closed );
+        return statements;
+    }
+
+    /**
+     * Removes the statements of connections which were closed without {@link #invalidate(Connection)}.
+     * Must be called holding the lock on {@link #connections}.
+     */
+    private List<ConnectionStatements> removeClosedConnections()
+    {
+        List<ConnectionStatements> dropped = List.of();
+        for (Iterator<Map.Entry<Connection, ConnectionStatements>> it = connections.entrySet().iterator(); it.hasNext(); )
+        {
+            final Map.Entry<Connection, ConnectionStatements> entry = it.next();
+            if (isClosed( entry.getKey() ))
+            {
+                if (dropped.isEmpty())
+                    dropped = new ArrayList<>();
+                dropped.add( entry.getValue() );
+                it.remove();
+            }
+        }
+        return dropped;
+    }
+
+    private static boolean isClosed(Connection connection)
+    {
+        try
+        {
+            return connection.isClosed();
+        }
+        catch (SQLException e)
+        {
+            return true;
+        }
+    }
+
+    /**
+     * Closes and forgets all cached statements of the connection.
+     */
+    void invalidate(Connection connection)
+    {
+        final ConnectionStatements statements;
+        synchronized (connections)
+        {
+            statements = connections.remove( connection );
+        }
+        if (statements != null)
+            closeAll( statements );
+    }
+
+    private static void closeAll(ConnectionStatements statements)
+    {
+        synchronized (statements)
+        {
+            statements.closeAll();
+        }
+    }
+
+    /**
+     * Returns the number of connections with cached statements.
+     */
+    int connections()
+    {
+        synchronized (connections)
+        {
+            return connections.size();
+        }
+    }
+
+    long hits()
+    {
+        return hits.sum();
+    }
+
+    long misses()
+    {
+        return misses.sum();
+    }
+
+    long evictions()
+    {
+        return evictions.sum();
+    }
+
+    private static void closeQuietly(PreparedStatement stmt)
+    {
+        try
+        {
+            stmt.close();
+        }
+        catch (SQLException e)
+        {
+            // ignore
+        }
+    }
+
+    private record Key(String sql, GeneratedKeys generatedKeys)
+    {
+    }
+
+    /**
+     * The idle statements of one connection, least recently used first.
+     * Access must be synchronized on the instance.
+     */
+    private final class ConnectionStatements
+    {
+        private final LinkedHashMap<Key, PreparedStatement> statements = new LinkedHashMap<>( 16, 0.75f, true );
+
+        PreparedStatement remove(Key key)
+        {
+            return statements.remove( key );
+        }
+
+        /**
+         * Caches {@code stmt}, closing the least recently used statements beyond {@link #maxSize}.
+         */
+        PreparedStatement put(Key key, PreparedStatement stmt)
+        {
+            final PreparedStatement previous = statements.put( key, stmt );
+            for (Iterator<PreparedStatement> it = statements.values().iterator(); statements.size() > maxSize; )
+            {
+                evictions.increment();
+                closeQuietly( it.next() );
+                it.remove();
+            }
+            return previous;
+        }
+
+        void closeAll()
+        {
+            for (PreparedStatement stmt : statements.values())
+                closeQuietly( stmt );
+            statements.clear();
+        }
+    }
+
+    /**
+     * A {@link PreparedStatement} borrowed for a single execution.
+     * Closing the lease returns the statement to the cache, or closes it if not cached.
+     */
+    static final class Lease implements AutoCloseable
+    {
+        private final StatementCache statementCache;
+        private final Connection connection;
+        private final Key key;
+        private final PreparedStatement statement;
+        private boolean batch;
+        private Iterable<StatementInParameter> restoredParameters;
+
+        private Lease(StatementCache statementCache, Connection connection, Key key, PreparedStatement statement)
+        {
+            this.statementCache = statementCache;
+            this.connection = connection;
+            this.key = key;
+            this.statement = statement;
+        }
+
+        PreparedStatement statement()
+        {
+            return statement;
+        }
+
+        /**
+         * Returns the SQL the statement was prepared with, after parameter expansion.
+         */
+        String sql()
+        {
+            return key.sql();
+        }
+
+        /**
+         * Marks the statement as used with {@link PreparedStatement#addBatch()},
+         * so its batch is cleared before it is returned to the cache.
+         */
+        void batch()
+        {
+            batch = true;
+        }
+
+        /**
+         * Lets {@code parameters} {@linkplain StatementInParameter#restoreConnection(Connection) restore the connection}
+         * when the lease is closed.
+         */
+        void restoreOnClose(Iterable<StatementInParameter> parameters)
+        {
+            restoredParameters = parameters;
+        }
+
+        @Override
+        public void close() throws SQLException
+        {
+            try
+            {
+                if (statementCache == null)
+                    statement.close();
+                else
+                    statementCache.release( connection, key, statement, batch );
+            }
+            finally
+            {
+                PreparedStatementUtil.restoreConnection( connection, restoredParameters );
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@
  */
 package de.schaeuffelhut.jdbc;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -57,4 +58,34 @@ public interface StatementInParameter extends StatementParameter {
      * @see StatementParameters#String(String)
      */
     int configure(PreparedStatement stmt, int index) throws SQLException;
-}
\ No newline at end of file
+
+    /**
+     * Prepares the connection before the statement is prepared, e.g. by loading the value into
+     * a temporary table the modified SQL refers to.
+     *
+     * <p>Called after {@link StatementParameter#modify(String)} and before
+     * {@link #configure(PreparedStatement, int)}, on the connection the statement is prepared on.
+     * Not called for batches.  The default implementation does nothing.</p>
+     *
+     * @param connection the connection
+     * @throws SQLException if a database access error occurs
+     */
+    default void prepareConnection(Connection connection) throws SQLException
+    {
+    }
+
+    /**
+     * Undoes {@link #prepareConnection(Connection)} after the statement ran, e.g. by deleting
+     * the rows loaded into a temporary table.
+     *
+     * <p>Called when the statement is closed or returned to the statement cache, after its
+     * result set was closed, on the same connection.  Not called if preparing the statement failed
+     * before it was configured.  The default implementation does nothing.</p>
+     *
+     * @param connection the connection
+     * @throws SQLException if a database access error occurs
+     */
+    default void restoreConnection(Connection connection) throws SQLException
+    {
+    }
+}
@@ -5,6 +5,7 @@
  */
 package de.schaeuffelhut.jdbc;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -77,6 +78,50 @@ public interface StatementInParameterType<T>
      */
     String modify(String sql, T value);
 
+    /**
+     * Describes how {@link #modify(String, Object)} changes the SQL for the given value.
+     *
+     * <p>See {@link StatementParameter#sqlShape()}.  Return
+     * {@link StatementParameter.SqlShape#UNCHANGED} if {@code modify} never changes the SQL,
+     * a value capturing everything {@code modify} depends on (e.g. the size of a collection),
+     * or {@code null} if unknown.  The default returns {@code null}.</p>
+     *
+     * @param value the parameter value
+     * @return the shape of the SQL modification, or {@code null} if unknown
+     */
+    default Object sqlShape(T value)
+    {
+        return null;
+    }
+
+    /**
+     * Prepares the connection for the given value before the statement is prepared.
+     *
+     * <p>See {@link StatementInParameter#prepareConnection(Connection)}.  The default
+     * implementation does nothing.</p>
+     *
+     * @param connection the connection the statement is prepared on
+     * @param value      the parameter value
+     * @throws SQLException if a database access error occurs
+     */
+    default void prepareConnection(Connection connection, T value) throws SQLException
+    {
+    }
+
+    /**
+     * Undoes {@link #prepareConnection(Connection, Object)} after the statement ran.
+     *
+     * <p>See {@link StatementInParameter#restoreConnection(Connection)}.  The default
+     * implementation does nothing.</p>
+     *
+     * @param connection the connection the statement was prepared on
+     * @param value      the parameter value
+     * @throws SQLException if a database access error occurs
+     */
+    default void restoreConnection(Connection connection, T value) throws SQLException
+    {
+    }
+
     /**
      * Binds the value to the {@link PreparedStatement} starting at the given index.
      *
@@ -57,6 +57,11 @@ final class IntegerOutParameter implements StatementOutParameter<Integer>
     {
         return sql;
     }
+
+    public Object sqlShape()
+    {
+        return SqlShape.UNCHANGED;
+    }
 }
 
 final class LongOutParameter implements StatementOutParameter<Long>
@@ -77,6 +82,11 @@ final class LongOutParameter implements StatementOutParameter<Long>
     {
         return sql;
     }
+
+    public Object sqlShape()
+    {
+        return SqlShape.UNCHANGED;
+    }
 }
 
 final class StringOutParameter implements StatementOutParameter<String>
@@ -96,6 +106,11 @@ final class StringOutParameter implements StatementOutParameter<String>
     {
         return sql;
     }
+
+    public Object sqlShape()
+    {
+        return SqlShape.UNCHANGED;
+    }
 }
 
 final class UUIDOutParameter implements StatementOutParameter<java.util.UUID>
@@ -116,4 +131,9 @@ final class UUIDOutParameter implements StatementOutParameter<java.util.UUID>
     {
         return sql;
     }
+
+    public Object sqlShape()
+    {
+        return SqlShape.UNCHANGED;
+    }
 }
\ No newline at end of file
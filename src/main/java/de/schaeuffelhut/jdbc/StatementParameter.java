@@ -21,6 +21,10 @@ import java.sql.PreparedStatement;
  * <p>The {@link #modify(String)} method is called <strong>once</strong> per statement,
  * before parameter binding.  It may return the original SQL unchanged.</p>
  *
+ * <p>Implementations may describe the effect of {@link #modify(String)} via
+ * {@link #sqlShape()}.  This allows the expanded SQL to be cached and {@code modify}
+ * to be skipped on subsequent executions.</p>
+ *
  * <p>This interface is extended by:</p>
  * <ul>
  *   <li>{@link StatementInParameter} – for binding input values</li>
@@ -56,4 +60,34 @@ public interface StatementParameter
      * @return the SQL with expanded placeholders
      */
     String modify(String sql);
+
+    /**
+     * Describes how {@link #modify(String)} changes the SQL, independent of the SQL text.
+     *
+     * <p>Two parameters returning {@linkplain Object#equals(Object) equal} shapes must modify
+     * any SQL string in exactly the same way.  Expanded SQL is cached by the original SQL text
+     * and the shapes of its parameters, so {@code modify} is not called when the same statement
+     * is executed again with parameters of the same shape (e.g. lists of the same size).</p>
+     *
+     * <p>Return {@link SqlShape#UNCHANGED} if {@code modify} returns the SQL as is, or
+     * {@code null} if the effect is unknown.  The default returns {@code null}, which
+     * disables caching for statements using this parameter.</p>
+     *
+     * @return the shape of the SQL modification, {@link SqlShape#UNCHANGED} or {@code null}
+     */
+    default Object sqlShape()
+    {
+        return null;
+    }
+
+    /**
+     * Well known values returned by {@link #sqlShape()}.
+     */
+    enum SqlShape
+    {
+        /**
+         * {@link #modify(String)} returns the SQL unchanged.
+         */
+        UNCHANGED
+    }
 }
\ No newline at end of file
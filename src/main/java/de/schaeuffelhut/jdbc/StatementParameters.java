@@ -17,7 +17,13 @@ import java.math.BigDecimal;
 import java.sql.*;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * A collection of built-in {@link StatementInParameterType} implementations and factory methods for creating {@link StatementInParameter} instances.
@@ -427,6 +433,15 @@ public class StatementParameters
         return new QueryTimeoutParameter( value );
     }
 
+    /**
+     * Hints the driver to fetch {@code rows} rows per round trip, see {@link PreparedStatement#setFetchSize(int)}.
+     * Mainly useful with {@link StatementUtil#stream(String, ResultSetMapper, StatementInParameter...)}.
+     */
+    public static StatementInParameter FetchSize(int rows)
+    {
+        return new FetchSizeParameter( rows );
+    }
+
     // Array
 
     public static <T> StatementInParameterType<T[]> Array(StatementInParameterType<T> type, String placeholder)
@@ -449,13 +464,29 @@ public class StatementParameters
         return bindValue( new ArrayInParameterType<>( type, placeholder, placeholderReplacement ), values );
     }
 
-    public static <T> StatementInParameterType<? extends Collection<T>> Collection(StatementInParameterType<T> type, String placeholder)
+    /**
+     * Creates an array parameter type which pads the expanded list, see {@link InListPadding}.
+     */
+    public static <T> StatementInParameterType<T[]> Array(StatementInParameterType<T> type, String placeholder, InListPadding padding)
     {
-        return new CollectionInParameterType<>( type, placeholder );
+        return new ArrayInParameterType<>( type, placeholder, "?", padding );
+    }
+
+    /**
+     * Binds an array, padding the expanded list, see {@link InListPadding}.
+     */
+    public static <T> StatementInParameter Array(StatementInParameterType<T> type, String placeholder, InListPadding padding, T... values)
+    {
+        return bindValue( new ArrayInParameterType<>( type, placeholder, "?", padding ), values );
     }
 
     // Collection
 
+    public static <T> StatementInParameterType<? extends Collection<T>> Collection(StatementInParameterType<T> type, String placeholder)
+    {
+        return new CollectionInParameterType<>( type, placeholder );
+    }
+
     public static <T> StatementInParameter Collection(StatementInParameterType<T> type, String placeholder, java.util.Collection<T> values)
     {
         return bindValue( new CollectionInParameterType<>( type, placeholder ), values );
@@ -471,6 +502,120 @@ public class StatementParameters
         return bindValue( new CollectionInParameterType<>( type, placeholder, placeholderReplacement ), values );
     }
 
+    /**
+     * Creates a collection parameter type which pads the expanded list, see {@link InListPadding}.
+     */
+    public static <T> StatementInParameterType<? extends Collection<T>> Collection(StatementInParameterType<T> type, String placeholder, InListPadding padding)
+    {
+        return new CollectionInParameterType<>( type, placeholder, "?", padding );
+    }
+
+    /**
+     * Binds a collection, padding the expanded list, see {@link InListPadding}.
+     */
+    public static <T> StatementInParameter Collection(StatementInParameterType<T> type, String placeholder, InListPadding padding, Collection<T> values)
+    {
+        return bindValue( new CollectionInParameterType<>( type, placeholder, "?", padding ), values );
+    }
+
+    /**
+     * Creates a collection parameter type which loads collections larger than
+     * {@link TempTable#threshold()} into a temporary table, see {@link TempTable}.
+     */
+    public static <T> StatementInParameterType<? extends Collection<T>> Collection(StatementInParameterType<T> type, String placeholder, TempTable tempTable)
+    {
+        return new TempTableInParameterType<>( type, placeholder, tempTable );
+    }
+
+    /**
+     * Binds a collection, loading it into a temporary table if larger than
+     * {@link TempTable#threshold()}, see {@link TempTable}.
+     */
+    public static <T> StatementInParameter Collection(StatementInParameterType<T> type, String placeholder, TempTable tempTable, Collection<T> values)
+    {
+        return bindValue( new TempTableInParameterType<>( type, placeholder, tempTable ), values );
+    }
+
+    // InArray
+
+    /**
+     * Creates a parameter type binding a collection as a single SQL {@code ARRAY}, for predicates like
+     * {@code id = ANY(@ids)}.
+     *
+     * <p>The SQL text does not depend on the number of elements and the collection is bound with one
+     * {@link PreparedStatement#setArray(int, Array) setArray} call, so large lists neither bloat the
+     * statement nor produce a distinct statement per size.  {@code placeholder} must be written as
+     * {@code = ANY(placeholder)}; it is replaced by {@code ?}.</p>
+     *
+     * <p>The array is created with {@link Connection#createArrayOf(String, Object[])}, which needs the SQL
+     * type of the elements.  It is known for {@link #Boolean}, {@link #Short}, {@link #Integer}, {@link #Long},
+     * {@link #Float}, {@link #Double}, {@link #BigDecimal} and {@link #String}.  For other element types use
+     * {@link #InArray(StatementInParameterType, String, String)} with {@code null} as SQL type:
+     * {@code = ANY(placeholder)} is then expanded to {@code IN (?,?,...)} and each element is bound with
+     * {@code type}, as with {@link #Collection(StatementInParameterType, String)}.</p>
+     *
+     * <p>Whether the driver supports arrays is probed once per class of connection, by creating an empty
+     * array.  If it throws {@link SQLFeatureNotSupportedException}, statements are expanded as if the SQL
+     * type were {@code null}.  The probe needs the connection, so statements of a batch, which share the
+     * SQL of their first parameter set, always bind an array.  The array bound to a statement is not
+     * {@linkplain Array#free() freed} explicitly; drivers release it with the statement or its
+     * connection.</p>
+     *
+     * @param type        the type of the elements
+     * @param placeholder the placeholder of the array in the SQL
+     */
+    public static <T> StatementInParameterType<Collection<T>> InArray(StatementInParameterType<T> type, String placeholder)
+    {
+        return new InArrayInParameterType<>( type, placeholder, arrayElementTypeName( type ) );
+    }
+
+    /**
+     * Binds a collection as a single SQL {@code ARRAY}, see {@link #InArray(StatementInParameterType, String)}.
+     */
+    public static <T> StatementInParameter InArray(StatementInParameterType<T> type, String placeholder, Collection<T> values)
+    {
+        return bindValue( InArray( type, placeholder ), values );
+    }
+
+    /**
+     * Creates a parameter type binding a collection as a single SQL {@code ARRAY} of {@code sqlTypeName},
+     * see {@link #InArray(StatementInParameterType, String)}.
+     *
+     * @param type        the type of the elements, used if {@code sqlTypeName} is {@code null}
+     * @param placeholder the placeholder of the array in the SQL
+     * @param sqlTypeName the SQL type of the elements as passed to {@link Connection#createArrayOf(String, Object[])},
+     *                    or {@code null} to expand the placeholder into one bind marker per element
+     */
+    public static <T> StatementInParameterType<Collection<T>> InArray(StatementInParameterType<T> type, String placeholder, String sqlTypeName)
+    {
+        return new InArrayInParameterType<>( type, placeholder, sqlTypeName );
+    }
+
+    /**
+     * Returns the SQL type of array elements bound by {@code type}, or {@code null} if unknown.
+     */
+    static String arrayElementTypeName(StatementInParameterType<?> type)
+    {
+        if (type == Boolean)
+            return "BOOLEAN";
+        else if (type == Short)
+            return "SMALLINT";
+        else if (type == Integer)
+            return "INTEGER";
+        else if (type == Long)
+            return "BIGINT";
+        else if (type == Float)
+            return "REAL";
+        else if (type == Double)
+            return "DOUBLE";
+        else if (type == BigDecimal)
+            return "DECIMAL";
+        else if (type == String)
+            return "VARCHAR";
+        else
+            return null;
+    }
+
     public static <T> StatementInParameter bindValue(StatementInParameterType<T> type, T value)
     {
         return new BoundValue<>( type, value );
@@ -522,6 +667,12 @@ abstract class AbstractStatementInParameterType<T> implements StatementInParamet
     {
         return sql;
     }
+
+    @Override
+    public Object sqlShape(T value)
+    {
+        return StatementParameter.SqlShape.UNCHANGED;
+    }
 }
 
 final class BooleanInParameterType extends AbstractStatementInParameterType<Boolean>
@@ -798,47 +949,68 @@ final class DateTimeParameterType extends AbstractStatementInParameterType<DateT
     }
 }
 
-record ArrayInParameterType<T>(StatementInParameterType<T> type, String placeholder, String placeholderReplacement) implements StatementInParameterType<T[]>
+record ArrayInParameterType<T>(StatementInParameterType<T> type, String placeholder, String placeholderReplacement, InListPadding padding) implements StatementInParameterType<T[]>
 {
     ArrayInParameterType(StatementInParameterType<T> type, String placeholder)
     {
         this( type, placeholder, "?" );
     }
 
+    ArrayInParameterType(StatementInParameterType<T> type, String placeholder, String placeholderReplacement)
+    {
+        this( type, placeholder, placeholderReplacement, InListPadding.NONE );
+    }
+
     @Override
     public String modify(String sql, T[] values)
     {
         StringBuilder sb = new StringBuilder();
         if (values != null)
         {
-            for (int i = 0; i < values.length; i++)
+            final int paddedSize = padding.pad( values.length );
+            for (int i = 0; i < paddedSize; i++)
             {
                 if (i > 0)
                     sb.append( ',' );
-                sb.append( type.modify( placeholderReplacement, values[i] ) );
+                sb.append( type.modify( placeholderReplacement, values[Math.min( i, values.length - 1 )] ) );
             }
         }
         return sql.replace( placeholder, sb );
     }
 
+    @Override
+    public Object sqlShape(T[] values)
+    {
+        final List<T> list = values == null ? List.of() : Arrays.asList( values );
+        return SqlTemplateCache.expansionShape( this, type, list, padding.pad( list.size() ) );
+    }
+
     @Override
     public int configure(PreparedStatement stmt, int pos, T[] values) throws SQLException
     {
         int posAdvance = 0;
         if (values != null)
-            for (int i = 0; i < values.length; i++)
-                posAdvance += type.configure( stmt, pos + posAdvance, values[i] );
+        {
+            final int paddedSize = padding.pad( values.length );
+            for (int i = 0; i < paddedSize; i++)
+                posAdvance += type.configure( stmt, pos + posAdvance, values[Math.min( i, values.length - 1 )] );
+        }
         return posAdvance;
     }
 }
 
-record CollectionInParameterType<T>(StatementInParameterType<T> type, String placeholder, String placeholderReplacement) implements StatementInParameterType<Collection<T>>
+record CollectionInParameterType<T>(StatementInParameterType<T> type, String placeholder, String placeholderReplacement, InListPadding padding) implements StatementInParameterType<Collection<T>>
 {
     CollectionInParameterType(StatementInParameterType<T> type, String placeholder)
     {
         this( type, placeholder, "?" );
     }
 
+    CollectionInParameterType(StatementInParameterType<T> type, String placeholder, String placeholderReplacement)
+    {
+        this( type, placeholder, placeholderReplacement, InListPadding.NONE );
+    }
+
     @Override
     public String modify(String sql, Collection<T> values)
     {
@@ -846,29 +1018,258 @@ record CollectionInParameterType<T>(StatementInParameterType<T> type, String pla
         if (values != null)
         {
             int i = 0;
+            T last = null;
             for (T value : values)
             {
                 if (i > 0)
                     sb.append( ',' );
                 sb.append( type.modify( placeholderReplacement, value ) );
+                last = value;
                 i++;
             }
+            for (final int paddedSize = padding.pad( i ); i < paddedSize; i++)
+                sb.append( ',' ).append( type.modify( placeholderReplacement, last ) );
         }
         return sql.replace( placeholder, sb );
     }
 
+    @Override
+    public Object sqlShape(Collection<T> values)
+    {
+        final Collection<T> collection = values == null ? List.of() : values;
+        return SqlTemplateCache.expansionShape( this, type, collection, padding.pad( collection.size() ) );
+    }
+
     @Override
     public int configure(PreparedStatement stmt, int pos, Collection<T> values) throws SQLException
     {
         int posAdvance = 0;
         if (values != null)
+        {
+            int i = 0;
+            T last = null;
             for (T value : values)
+            {
                 posAdvance += type.configure( stmt, pos + posAdvance, value );
+                last = value;
+                i++;
+            }
+            for (final int paddedSize = padding.pad( i ); i < paddedSize; i++)
+                posAdvance += type.configure( stmt, pos + posAdvance, last );
+        }
         return posAdvance;
     }
 }
 
 
+/**
+ * Expands a collection like {@link CollectionInParameterType}, or loads it into a {@link TempTable}
+ * if larger than its threshold.
+ */
+record TempTableInParameterType<T>(StatementInParameterType<T> type, String placeholder, TempTable tempTable) implements StatementInParameterType<Collection<T>>
+{
+    @Override
+    public String modify(String sql, Collection<T> values)
+    {
+        if (isLoaded( values ))
+            return sql.replace( placeholder, "SELECT v FROM " + tempTable.name() );
+        return expansion().modify( sql, values );
+    }
+
+    @Override
+    public Object sqlShape(Collection<T> values)
+    {
+        if (isLoaded( values ))
+            return this;
+        final Collection<T> collection = values == null ? List.of() : values;
+        return SqlTemplateCache.expansionShape( this, type, collection, collection.size() );
+    }
+
+    @Override
+    public void prepareConnection(Connection connection, Collection<T> values) throws SQLException
+    {
+        if (!isLoaded( values ))
+            return;
+
+        try (Statement statement = connection.createStatement())
+        {
+            if (tempTable.createStatement() != null)
+                statement.execute( tempTable.createStatement() );
+            statement.executeUpdate( "DELETE FROM " + tempTable.name() );
+        }
+        PreparedStatementUtil.executeBatch(
+                null,
+                connection,
+                "INSERT INTO " + tempTable.name() + " (v) VALUES (?)",
+                () -> values.stream().map( value -> new StatementInParameter[]{StatementParameters.bindValue( type, value )} ).iterator(),
+                tempTable.batchOptions(),
+                (ResultType<Void>) null
+        );
+    }
+
+    @Override
+    public void restoreConnection(Connection connection, Collection<T> values) throws SQLException
+    {
+        if (!isLoaded( values ))
+            return;
+
+        try (Statement statement = connection.createStatement())
+        {
+            statement.executeUpdate( "DELETE FROM " + tempTable.name() );
+        }
+    }
+
+    @Override
+    public int configure(PreparedStatement stmt, int pos, Collection<T> values) throws SQLException
+    {
+        if (isLoaded( values ))
+            return 0;
+        return expansion().configure( stmt, pos, values );
+    }
+
+    private boolean isLoaded(Collection<T> values)
+    {
+        return values != null && values.size() > tempTable.threshold();
+    }
+
+    private CollectionInParameterType<T> expansion()
+    {
+        return new CollectionInParameterType<>( type, placeholder );
+    }
+}
+
+/**
+ * Binds a collection as a single SQL {@code ARRAY}, or expands it like {@link CollectionInParameterType}
+ * if {@code sqlTypeName} is {@code null}.
+ */
+record InArrayInParameterType<T>(StatementInParameterType<T> type, String placeholder, String sqlTypeName) implements StatementInParameterType<Collection<T>>
+{
+    /**
+     * Whether {@link Connection#createArrayOf(String, Object[])} is supported, by class of connection.
+     */
+    private static final Map<Class<?>, Boolean> ARRAY_SUPPORT = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces each bound {@code InArray} by its expansion if {@code connection} does not support arrays,
+     * see {@link #forConnection(Connection)}.
+     *
+     * @return {@code parameters} if nothing was replaced
+     */
+    static Iterable<StatementInParameter> forConnection(Connection connection, Iterable<StatementInParameter> parameters) throws SQLException
+    {
+        if (!dependOnConnection( parameters ))
+            return parameters;
+
+        boolean replaced = false;
+        final List<StatementInParameter> resolved = new ArrayList<>();
+        for (StatementInParameter parameter : parameters)
+        {
+            StatementInParameter replacement = parameter;
+            if (parameter instanceof BoundValue<?> boundValue && boundValue.parameter() instanceof InArrayInParameterType<?> inArray)
+                replacement = bind( inArray.forConnection( connection ), boundValue );
+            replaced |= replacement != parameter;
+            resolved.add( replacement );
+        }
+        return replaced ? resolved : parameters;
+    }
+
+    private static boolean dependOnConnection(Iterable<StatementInParameter> parameters)
+    {
+        if (parameters != null)
+            for (StatementInParameter parameter : parameters)
+                if (parameter instanceof BoundValue<?> boundValue && boundValue.parameter() instanceof InArrayInParameterType<?> inArray && inArray.dependsOnConnection())
+                    return true;
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> StatementInParameter bind(InArrayInParameterType<T> resolved, BoundValue<?> boundValue)
+    {
+        return resolved == boundValue.parameter()
+                ? boundValue
+                : new BoundValue<>( resolved, (Collection<T>) boundValue.value() );
+    }
+
+    /**
+     * Returns this type if {@code connection} supports arrays, otherwise the type expanding the collection.
+     * Support is probed once per class of connection.
+     */
+    InArrayInParameterType<T> forConnection(Connection connection) throws SQLException
+    {
+        if (sqlTypeName == null || supportsArrays( connection ))
+            return this;
+        return new InArrayInParameterType<>( type, placeholder, null );
+    }
+
+    private boolean supportsArrays(Connection connection) throws SQLException
+    {
+        final Boolean supported = ARRAY_SUPPORT.get( connection.getClass() );
+        if (supported != null)
+            return supported;
+
+        boolean probed;
+        try
+        {
+            connection.createArrayOf( sqlTypeName, new Object[0] ).free();
+            probed = true;
+        }
+        catch (SQLFeatureNotSupportedException | UnsupportedOperationException e)
+        {
+            probed = false;
+        }
+        ARRAY_SUPPORT.put( connection.getClass(), probed );
+        return probed;
+    }
+
+    /**
+     * Returns whether binding needs a connection to decide between an array and the expansion.
+     */
+    boolean dependsOnConnection()
+    {
+        return sqlTypeName != null;
+    }
+
+    @Override
+    public String modify(String sql, Collection<T> values)
+    {
+        if (sqlTypeName != null)
+            return sql.replace( placeholder, "?" );
+
+        final String in = Pattern.compile( "=\\s*ANY\\s*\\(\\s*" + Pattern.quote( placeholder ) + "\\s*\\)", Pattern.CASE_INSENSITIVE )
+                .matcher( sql )
+                .replaceAll( Matcher.quoteReplacement( "IN (" + placeholder + ")" ) );
+        return expansion().modify( in, values );
+    }
+
+    @Override
+    public Object sqlShape(Collection<T> values)
+    {
+        if (sqlTypeName != null)
+            return this;
+        // the template is this type, as modify also rewrites the predicate
+        final Collection<T> collection = values == null ? List.of() : values;
+        return SqlTemplateCache.expansionShape( this, type, collection, collection.size() );
+    }
+
+    @Override
+    public int configure(PreparedStatement stmt, int pos, Collection<T> values) throws SQLException
+    {
+        if (sqlTypeName == null)
+            return expansion().configure( stmt, pos, values );
+
+        if (values == null)
+            stmt.setNull( pos, Types.ARRAY );
+        else
+            stmt.setArray( pos, stmt.getConnection().createArrayOf( sqlTypeName, values.toArray() ) );
+        return 1;
+    }
+
+    private CollectionInParameterType<T> expansion()
+    {
+        return new CollectionInParameterType<>( type, placeholder );
+    }
+}
+
 final class DateTimeInParameterType extends AbstractStatementInParameterType<DateTime>
 {
     @Override
@@ -1018,6 +1419,12 @@ record QueryTimeoutParameter(int timeout) implements StatementInParameter
         return sql;
     }
 
+    @Override
+    public Object sqlShape()
+    {
+        return SqlShape.UNCHANGED;
+    }
+
     @Override
     public int configure(PreparedStatement stmt, int index) throws SQLException
     {
@@ -1025,3 +1432,25 @@ record QueryTimeoutParameter(int timeout) implements StatementInParameter
         return 0;
     }
 }
+
+record FetchSizeParameter(int rows) implements StatementInParameter
+{
+    @Override
+    public String modify(String sql)
+    {
+        return sql;
+    }
+
+    @Override
+    public Object sqlShape()
+    {
+        return SqlShape.UNCHANGED;
+    }
+
+    @Override
+    public int configure(PreparedStatement stmt, int index) throws SQLException
+    {
+        stmt.setFetchSize( rows );
+        return 0;
+    }
+}
@@ -78,6 +78,11 @@ record GeneratedKeyStatementProperty<T>(ResultType<T> resultType) implements Sta
     {
         return sql;
     }
+
+    public Object sqlShape()
+    {
+        return SqlShape.UNCHANGED;
+    }
 }
 
 record GeneratedKeysStatementProperty<T>(ResultType<T> resultType) implements StatementProperty<List<T>>
@@ -96,4 +101,9 @@ record GeneratedKeysStatementProperty<T>(ResultType<T> resultType) implements St
     {
         return sql;
     }
+
+    public Object sqlShape()
+    {
+        return SqlShape.UNCHANGED;
+    }
 }
@@ -8,6 +8,13 @@ package de.schaeuffelhut.jdbc;
 
 import de.schaeuffelhut.jdbc.ResultSetMappers.F1;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
 /**
  * Executes SQL statements and processes {@link java.sql.ResultSet}s.
  *
@@ -54,6 +61,13 @@ import de.schaeuffelhut.jdbc.ResultSetMappers.F1;
  *     <td>Map rows and accumulate into a result (e.g. {@code List}, {@code Set})</td>
  *   </tr>
  *   <tr>
+ *     <td style="border: 1px solid #ccc; padding: 0.5em;">Query + Streaming</td>
+ *     <td style="border: 1px solid #ccc; padding: 0.5em;">
+ *       {@link #stream(String,ResultSetMapper,StatementInParameter...) stream}
+ *     </td>
+ *     <td>Map rows lazily while the caller consumes them</td>
+ *   </tr>
+ *   <tr>
  *     <td style="border: 1px solid #ccc; padding: 0.5em;">Query + Processing</td>
  *     <td style="border: 1px solid #ccc; padding: 0.5em;">
  *       {@link #process(String,ResultSetProcessor,StatementInParameter...) process}
@@ -77,9 +91,10 @@ import de.schaeuffelhut.jdbc.ResultSetMappers.F1;
  *   <tr>
  *     <td style="border: 1px solid #ccc; padding: 0.5em;">Batch</td>
  *     <td style="border: 1px solid #ccc; padding: 0.5em;">
- *       {@link #executeBatch(String,Iterable) executeBatch}
+ *       {@link #executeBatch(String,Iterable) executeBatch},
+ *       {@link #executeBatch(String,Iterable,BatchOptions) executeBatch(..., BatchOptions)}
  *     </td>
- *     <td>Execute multiple parameter sets</td>
+ *     <td>Execute multiple parameter sets, optionally in flushes of bounded size</td>
  *   </tr>
  *   <tr>
  *     <td style="border: 1px solid #ccc; padding: 0.5em;">Callable</td>
@@ -155,6 +170,68 @@ public interface StatementUtil {
             Iterable<StatementInParameter> parameters
     );
 
+    /**
+     * Executes a query and returns a lazily populated {@link Stream} of the rows, mapped
+     * with the supplied mapper.
+     *
+     * <p>Rows are fetched from the database as the stream is consumed, so the result does not
+     * need to fit into memory.  Use {@link StatementParameters#FetchSize(int)} to tell the
+     * driver how many rows to fetch per round trip; some drivers (e.g. PostgreSQL) only
+     * use a cursor if a fetch size is set and auto-commit is off.</p>
+     *
+     * <p>The stream holds the connection, statement and result set until it is closed.
+     * <strong>Always close the stream</strong>, preferably with try-with-resources:</p>
+     * <pre>{@code
+     * try (Stream<User> users = statementUtil.stream(
+     *         "SELECT id, name FROM users",
+     *         ResultSetMappers.object( User::new, ResultTypes.Long, ResultTypes.String ),
+     *         StatementParameters.FetchSize( 1000 ) ))
+     * {
+     *     users.forEach( exporter::write );
+     * }
+     * }</pre>
+     *
+     * @param sql               the SQL query
+     * @param resultSetMapper   maps a row to an object of type {@code T}
+     * @param parameters        input parameters (var-args)
+     * @param <T>               type of a mapped row
+     * @return                  a sequential stream, which must be closed
+     * @throws UnsupportedOperationException if this implementation cannot keep a connection open for the stream
+     */
+    default <T> Stream<T> stream(
+            String sql,
+            ResultSetMapper<T> resultSetMapper,
+            StatementInParameter... parameters
+    )
+    {
+        return stream( sql, resultSetMapper, Arrays.asList( parameters ) );
+    }
+
+    /**
+     * Executes a query and returns a lazily populated {@link Stream} of the rows, mapped
+     * with the supplied mapper.
+     *
+     * <p>The default implementation throws {@link UnsupportedOperationException}; use
+     * {@link #selectInto(String, ResultSetReader, ResultSetMapper, Iterable) selectInto}
+     * with implementations not supporting streams.</p>
+     *
+     * @param sql               the SQL query
+     * @param resultSetMapper   maps a row to an object of type {@code T}
+     * @param parameters        input parameters as an {@link Iterable}
+     * @param <T>               type of a mapped row
+     * @return                  a sequential stream, which must be closed
+     * @throws UnsupportedOperationException if this implementation cannot keep a connection open for the stream
+     * @see #stream(String, ResultSetMapper, StatementInParameter...)
+     */
+    default <T> Stream<T> stream(
+            String sql,
+            ResultSetMapper<T> resultSetMapper,
+            Iterable<StatementInParameter> parameters
+    )
+    {
+        throw new UnsupportedOperationException( getClass().getName() + " does not support stream" );
+    }
+
     // -----------------------------------------------------------------
     // QUERY + PROCESSING
     // -----------------------------------------------------------------
@@ -191,6 +268,29 @@ public interface StatementUtil {
             Iterable<StatementInParameter> parameters
     );
 
+    // -----------------------------------------------------------------
+    // PREPARED QUERIES
+    // -----------------------------------------------------------------
+
+    /**
+     * Prepares a statement for repeated execution with values of the given types.
+     *
+     * <p>The returned handle binds the values of each execution straight into the
+     * {@link java.sql.PreparedStatement}, skipping the per-call setup of
+     * {@link StatementInParameter}s.  Use it for statements executed very often,
+     * like point lookups.  The default implementation executes the handle with
+     * {@link #selectInto(String, ResultSetReader, ResultSetMapper, Iterable) selectInto} and
+     * {@link #execute(String, Iterable) execute} instead.</p>
+     *
+     * @param sql    the SQL statement
+     * @param types  the type of each parameter, in order
+     * @return       an immutable, thread-safe handle
+     */
+    default PreparedQuery prepare(String sql, StatementInParameterType<?>... types)
+    {
+        return new PreparedQuery( this, null, sql, types );
+    }
+
     // -----------------------------------------------------------------
     // UPDATE / DDL
     // -----------------------------------------------------------------
@@ -290,6 +390,84 @@ public interface StatementUtil {
      */
     <T> T executeBatch(GeneratedKeys generatedKeys, StatementProperty<T> statementProperty, String sql, Iterable<StatementInParameter[]> parameters);
 
+    /**
+     * Executes a batch of parameter sets for the same SQL statement, flushing the JDBC batch
+     * every {@link BatchOptions#flushSize()} rows.
+     *
+     * <p>{@code parameters} is iterated exactly once and may be unbounded, e.g. {@code stream::iterator};
+     * only one flush worth of parameter sets is held in memory.  The SQL is expanded using the first
+     * parameter set.  Update counts are summed up across flushes.</p>
+     *
+     * <p>The default implementation calls {@link #executeBatch(String, Iterable)} once per flush,
+     * expanding the SQL per flush, and ignores {@link BatchOptions#rowsPerStatement()}.</p>
+     *
+     * @param sql         the SQL statement
+     * @param parameters  batch parameter sets
+     * @param options     flush size
+     * @return            aggregated row and update counts
+     */
+    default BatchResult<Void> executeBatch(String sql, Iterable<StatementInParameter[]> parameters, BatchOptions options)
+    {
+        return executeBatchPerFlush( null, sql, parameters, options );
+    }
+
+    /**
+     * Executes a batch INSERT like {@link #executeBatch(String, Iterable, BatchOptions)} and
+     * collects the generated keys of all flushes.
+     *
+     * <p>The default implementation calls {@link #executeBatch(GeneratedKeys, StatementProperty, String, Iterable)}
+     * once per flush, which does not report update counts; all rows are treated as
+     * {@link java.sql.Statement#SUCCESS_NO_INFO}, so {@link BatchResult#updateCount()} is {@code 0}.</p>
+     *
+     * @param generatedKeyType  maps each generated key
+     * @param sql               the INSERT statement
+     * @param parameters        batch parameter sets
+     * @param options           flush size
+     * @param <K>               key type
+     * @return                  aggregated row and update counts and the generated keys
+     */
+    default <K> BatchResult<K> executeBatch(ResultType<K> generatedKeyType, String sql, Iterable<StatementInParameter[]> parameters, BatchOptions options)
+    {
+        Objects.requireNonNull( generatedKeyType, "generatedKeyType" );
+        return executeBatchPerFlush( generatedKeyType, sql, parameters, options );
+    }
+
+    /**
+     * Executes one batch of at most {@link BatchOptions#flushSize()} parameter sets at a time,
+     * for the default implementations of the {@link BatchOptions} variants of {@code executeBatch}.
+     */
+    private <K> BatchResult<K> executeBatchPerFlush(ResultType<K> generatedKeyType, String sql, Iterable<StatementInParameter[]> parameters, BatchOptions options)
+    {
+        final List<K> keys = new ArrayList<>();
+        final List<StatementInParameter[]> flush = new ArrayList<>();
+        long rows = 0;
+        long updateCount = 0;
+        int flushes = 0;
+
+        for (Iterator<StatementInParameter[]> it = parameters.iterator(); it.hasNext(); )
+        {
+            flush.add( it.next() );
+            if (flush.size() < options.flushSize() && it.hasNext())
+                continue;
+
+            if (generatedKeyType == null)
+            {
+                for (int count : executeBatch( sql, flush ))
+                    if (count > 0)
+                        updateCount += count;
+            }
+            else
+            {
+                // update counts are not available here, like rows reported as SUCCESS_NO_INFO they do not count
+                keys.addAll( executeBatch( GeneratedKeys.REPORT, StatementProperties.GENERATED_KEYS( generatedKeyType ), sql, flush ) );
+            }
+            rows += flush.size();
+            flushes++;
+            flush.clear();
+        }
+        return new BatchResult<>( rows, updateCount, flushes, keys );
+    }
+
     // -----------------------------------------------------------------
     // STORED PROCEDURES (EXPERIMENTAL)
     // -----------------------------------------------------------------
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import java.util.Objects;
+
+/**
+ * Loads large collections into a temporary table instead of expanding them into bind markers.
+ *
+ * <p>A {@link StatementParameters#Collection(StatementInParameterType, String, TempTable) Collection}
+ * parameter with more than {@code threshold} elements replaces its placeholder by
+ * {@code SELECT v FROM name}, so {@code id IN (@ids)} becomes {@code id IN (SELECT v FROM name)}.
+ * Before the statement is prepared, the table is created if it does not exist, emptied and filled
+ * with the elements by a batch insert.  After the statement ran, the rows are deleted again.
+ * Smaller collections are expanded as usual.</p>
+ *
+ * <p>This avoids the bind marker limits of drivers and the poor plans some databases choose for
+ * huge {@code IN} lists.  The table lives in the session of the connection; parameters of the same
+ * statement must use different tables.</p>
+ *
+ * <p><strong>Transactions:</strong> the rows are inserted and deleted within the transaction of the
+ * caller.  The create statement must not commit that transaction either.  The default create
+ * statement of {@link #of(String, String)} is written for H2 and relies on its {@code TRANSACTIONAL}
+ * temporary tables; other databases need their own statement, passed to
+ * {@link #withCreateStatement(String)}.  If no statement creates the table without committing, create
+ * the table once up front and pass {@code null} instead.</p>
+ *
+ * <pre>{@code
+ * StatementInParameterType<? extends Collection<Long>> ids = StatementParameters.Collection(
+ *         StatementParameters.Long, "@ids", TempTable.of( "tmp_ids", "BIGINT" ) );
+ * }</pre>
+ *
+ * @param name            the name of the table, with a single column {@code v}
+ * @param createStatement creates the table unless it exists, without committing the current
+ *                        transaction; {@code null} if the table is created up front
+ * @param threshold       the largest collection which is expanded instead
+ * @param batchOptions    controls the batch insert
+ */
+public record TempTable(String name, String createStatement, int threshold, BatchOptions batchOptions)
+{
+    /**
+     * Collections with more elements than this are loaded into the table by default.
+     */
+    public static final int DEFAULT_THRESHOLD = 1000;
+
+    public TempTable
+    {
+        Objects.requireNonNull( name, "name" );
+        Objects.requireNonNull( batchOptions, "batchOptions" );
+        if (threshold < 0)
+            throw new IllegalArgumentException( "threshold must not be negative: " + threshold );
+    }
+
+    /**
+     * Creates a table with a single column {@code v} of {@code columnType}, using H2's
+     * {@code CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS ... TRANSACTIONAL}, which does not commit
+     * the current transaction.  Use {@link #withCreateStatement(String)} for other databases.
+     *
+     * @param name       the name of the table
+     * @param columnType the SQL type of the elements, e.g. {@code BIGINT}
+     * @return the temp table
+     */
+    public static TempTable of(String name, String columnType)
+    {
+        return new TempTable(
+                name,
+                "CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS " + name + " (v " + columnType + ") TRANSACTIONAL",
+                DEFAULT_THRESHOLD,
+                BatchOptions.DEFAULT
+        );
+    }
+
+    public TempTable withCreateStatement(String createStatement)
+    {
+        return new TempTable( name, createStatement, threshold, batchOptions );
+    }
+
+    public TempTable withThreshold(int threshold)
+    {
+        return new TempTable( name, createStatement, threshold, batchOptions );
+    }
+
+    public TempTable withBatchOptions(BatchOptions batchOptions)
+    {
+        return new TempTable( name, createStatement, threshold, batchOptions );
+    }
+}
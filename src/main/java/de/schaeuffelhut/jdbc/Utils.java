@@ -8,6 +8,7 @@ package de.schaeuffelhut.jdbc;
 
 import java.lang.reflect.Constructor;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 class Utils
 {
@@ -35,9 +36,38 @@ class Utils
         };
     }
 
-    // Copy of /de/schaeuffelhut/jdbc/ResultSetUtil.java:174
+    /**
+     * Constructors found by {@link #findConstructor(Class, Class[])}, per class and argument types.
+     */
+    private static final ClassValue<Map<List<Class<?>>, Constructor<?>>> CONSTRUCTORS = new ClassValue<>()
+    {
+        @Override
+        protected Map<List<Class<?>>, Constructor<?>> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns the first public constructor of {@code type} accepting arguments of {@code argTypes},
+     * where a primitive parameter accepts its boxed type.
+     *
+     * <p>The result is cached per class and argument types, as {@link Class#getConstructors()}
+     * copies the constructors on every call.</p>
+     *
+     * @throws NoSuchMethodError if there is no such constructor
+     */
     @SuppressWarnings("unchecked")
     static <T> Constructor<T> findConstructor(Class<T> type, Class<?>[] argTypes)
+    {
+        return (Constructor<T>) CONSTRUCTORS.get( type ).computeIfAbsent(
+                List.of( argTypes ),
+                k -> lookupConstructor( type, argTypes )
+        );
+    }
+
+    // Copy of /de/schaeuffelhut/jdbc/ResultSetUtil.java:174
+    private static Constructor<?> lookupConstructor(Class<?> type, Class<?>[] argTypes)
     {
         Constructor<?>[] constructors = type.getConstructors();
 
@@ -59,7 +89,7 @@ class Utils
                     continue loop;
                 }
             }
-            return (Constructor<T>) constructor;
+            return constructor;
         }
 
         StringBuilder args = new StringBuilder();
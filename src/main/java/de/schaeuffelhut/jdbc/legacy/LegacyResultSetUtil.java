@@ -8,10 +8,16 @@ package de.schaeuffelhut.jdbc.legacy;
 import de.schaeuffelhut.jdbc.ResultSetMappers;
 import de.schaeuffelhut.jdbc.ResultType;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 @Deprecated
@@ -21,6 +27,21 @@ public final class LegacyResultSetUtil
     {
     }
 
+    /**
+     * Handles of type {@code (Object[])Object} for the constructors found by
+     * {@link #findConstructor(Class, Class[])}, per class and argument types.
+     */
+    private static final ClassValue<Constructors> CONSTRUCTORS = new ClassValue<>()
+    {
+        @Override
+        protected Constructors computeValue(Class<?> type)
+        {
+            return new Constructors();
+        }
+    };
+
+    private static final ResultType<?>[] NO_RESULT_TYPES = new ResultType<?>[0];
+
     public static <T> T readObjectByConstructor(
             ResultSet resultSet,
             Class<T> type,
@@ -40,23 +61,114 @@ public final class LegacyResultSetUtil
         }
         else
         {
-            Class<?>[] argsTypes = new Class<?>[resultTypes == null ? 0 : resultTypes.length];
-            for (int i = 0; i < argsTypes.length; i++)
-                argsTypes[i] = resultTypes[i].getResultType();
-
+            Resolved constructor = constructor( type, resultTypes == null ? NO_RESULT_TYPES : resultTypes );
+            checkArguments( constructor.argTypes, values );
+            final Object instance;
             try
             {
-                result = findConstructor( type, argsTypes ).newInstance( values );
+                instance = constructor.handle.invokeExact( values );
             }
-            catch (IllegalArgumentException | InstantiationException | IllegalAccessException |
-                   InvocationTargetException e)
+            catch (Throwable e)
             {
-                throw new RuntimeException( e );
+                throw new RuntimeException( new InvocationTargetException( e ) );
             }
+            result = type.cast( instance );
         }
         return result;
     }
 
+    /**
+     * Rejects values the constructor handle cannot convert to the argument types, like
+     * {@link Constructor#newInstance(Object...)} did, so that any exception thrown by the
+     * handle stems from the constructor itself.
+     */
+    private static void checkArguments(Class<?>[] argTypes, Object[] values)
+    {
+        for (int i = 0; i < argTypes.length; i++)
+        {
+            final boolean valid = values[i] == null
+                    ? !argTypes[i].isPrimitive()
+                    : MethodType.methodType( argTypes[i] ).wrap().returnType().isInstance( values[i] );
+            if (!valid)
+                throw new RuntimeException( new IllegalArgumentException( String.format(
+                        "argument %d: cannot pass %s as %s",
+                        i + 1,
+                        values[i] == null ? "null" : values[i].getClass().getName(),
+                        argTypes[i].getName()
+                ) ) );
+        }
+    }
+
+    /**
+     * Resolves the constructor for the result types, without allocating if they are the ones used last.
+     */
+    private static Resolved constructor(Class<?> type, ResultType<?>[] resultTypes)
+    {
+        final Constructors constructors = CONSTRUCTORS.get( type );
+        final Resolved last = constructors.last;
+        if (last != null && last.matches( resultTypes ))
+            return last;
+
+        final Class<?>[] argTypes = new Class<?>[resultTypes.length];
+        for (int i = 0; i < argTypes.length; i++)
+            argTypes[i] = resultTypes[i].getResultType();
+        final Resolved resolved = new Resolved( resultTypes.clone(), argTypes, constructor( constructors, type, argTypes ) );
+        constructors.last = resolved;
+        return resolved;
+    }
+
+    private static MethodHandle constructor(Constructors constructors, Class<?> type, Class<?>[] argTypes)
+    {
+        return constructors.byArgTypes.computeIfAbsent(
+                List.of( argTypes ),
+                k -> {
+                    try
+                    {
+                        return MethodHandles.lookup()
+                                .unreflectConstructor( findConstructor( type, argTypes ) )
+                                .asFixedArity()
+                                .asSpreader( Object[].class, argTypes.length )
+                                .asType( MethodType.methodType( Object.class, Object[].class ) );
+                    }
+                    catch (IllegalAccessException e)
+                    {
+                        throw new RuntimeException( e );
+                    }
+                }
+        );
+    }
+
+    private static final class Constructors
+    {
+        final Map<List<Class<?>>, MethodHandle> byArgTypes = new ConcurrentHashMap<>();
+        // the constructor resolved last, saves building the key for consecutive rows
+        volatile Resolved last;
+    }
+
+    private static final class Resolved
+    {
+        final ResultType<?>[] resultTypes;
+        final Class<?>[] argTypes;
+        final MethodHandle handle;
+
+        Resolved(ResultType<?>[] resultTypes, Class<?>[] argTypes, MethodHandle handle)
+        {
+            this.resultTypes = resultTypes;
+            this.argTypes = argTypes;
+            this.handle = handle;
+        }
+
+        boolean matches(ResultType<?>[] resultTypes)
+        {
+            if (resultTypes.length != this.resultTypes.length)
+                return false;
+            for (int i = 0; i < resultTypes.length; i++)
+                if (resultTypes[i] != this.resultTypes[i])
+                    return false;
+            return true;
+        }
+    }
+
     private static boolean hasOnlyNullValues(Object[] values)
     {
         for (Object o : values)
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnumLookupTest
+{
+    enum Dense implements EnumIntKey
+    {
+        A( 1 ), B( 2 ), C( 3 ), ALIAS_OF_B( 2 );
+
+        private final int key;
+
+        Dense(int key)
+        {
+            this.key = key;
+        }
+
+        @Override
+        public int getKey()
+        {
+            return key;
+        }
+    }
+
+    enum Sparse implements EnumIntKey
+    {
+        MIN( Integer.MIN_VALUE ), ZERO( 0 ), MAX( Integer.MAX_VALUE );
+
+        private final int key;
+
+        Sparse(int key)
+        {
+            this.key = key;
+        }
+
+        @Override
+        public int getKey()
+        {
+            return key;
+        }
+    }
+
+    enum Coded implements EnumKey<String>
+    {
+        RED( "r" ), GREEN( "g" );
+
+        private final String key;
+
+        Coded(String key)
+        {
+            this.key = key;
+        }
+
+        @Override
+        public String getKey()
+        {
+            return key;
+        }
+    }
+
+    @Test
+    void byName()
+    {
+        EnumLookup.ByName<Coded> lookup = EnumLookup.byName( Coded.class );
+        assertThat( lookup.get( "RED" ) ).isEqualTo( Coded.RED );
+        assertThat( lookup.get( " GREEN  " ) ).isEqualTo( Coded.GREEN );
+        assertThat( lookup.get( "red" ) ).isNull();
+        assertThat( EnumLookup.byName( Coded.class ) ).isSameAs( lookup );
+    }
+
+    @Test
+    void byIntKey_dense()
+    {
+        EnumLookup.ByIntKey<Dense> lookup = EnumLookup.byIntKey( Dense.class );
+        assertThat( lookup.get( 1 ) ).isEqualTo( Dense.A );
+        assertThat( lookup.get( 2 ) ).isEqualTo( Dense.B );
+        assertThat( lookup.get( 3 ) ).isEqualTo( Dense.C );
+        assertThat( lookup.get( 0 ) ).isNull();
+        assertThat( lookup.get( 4 ) ).isNull();
+        assertThat( lookup.get( Integer.MIN_VALUE ) ).isNull();
+    }
+
+    @Test
+    void byIntKey_sparse()
+    {
+        EnumLookup.ByIntKey<Sparse> lookup = EnumLookup.byIntKey( Sparse.class );
+        assertThat( lookup.get( Integer.MIN_VALUE ) ).isEqualTo( Sparse.MIN );
+        assertThat( lookup.get( 0 ) ).isEqualTo( Sparse.ZERO );
+        assertThat( lookup.get( Integer.MAX_VALUE ) ).isEqualTo( Sparse.MAX );
+        assertThat( lookup.get( 1 ) ).isNull();
+    }
+
+    @Test
+    void byKey()
+    {
+        EnumLookup.ByKey<Coded> lookup = EnumLookup.byKey( Coded.class );
+        assertThat( lookup.get( "r" ) ).isEqualTo( Coded.RED );
+        assertThat( lookup.get( "g" ) ).isEqualTo( Coded.GREEN );
+        assertThat( lookup.get( "b" ) ).isNull();
+    }
+}
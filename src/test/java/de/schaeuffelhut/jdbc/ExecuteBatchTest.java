@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecuteBatchTest
+{
+    private final StatementUtil statementUtil = new H2StatementUtil();
+
+    @BeforeEach
+    void setUp()
+    {
+        statementUtil.execute(
+                """
+                CREATE TABLE employees_batch (
+                    id   INT AUTO_INCREMENT PRIMARY KEY,
+                    name VARCHAR(255)
+                )
+                """
+        );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        statementUtil.execute( "DROP TABLE employees_batch" );
+    }
+
+    private static Stream<StatementInParameter[]> names(int count)
+    {
+        return IntStream.rangeClosed( 1, count )
+                .mapToObj( i -> new StatementInParameter[]{StatementParameters.String( "Employee " + i )} );
+    }
+
+    private int countEmployees()
+    {
+        return statementUtil.selectInto(
+                "SELECT COUNT(*) FROM employees_batch",
+                ResultSetReaders.readOne(),
+                ResultSetMappers.scalar( ResultTypes.Integer )
+        );
+    }
+
+    @Test
+    void flushesEveryNRowsFromStream()
+    {
+        Stream<StatementInParameter[]> rows = names( 25 );
+
+        BatchResult<Void> result = statementUtil.executeBatch(
+                "INSERT INTO employees_batch (name) VALUES (?)",
+                rows::iterator,
+                BatchOptions.flushEvery( 10 )
+        );
+
+        assertThat( result.rows() ).isEqualTo( 25 );
+        assertThat( result.updateCount() ).isEqualTo( 25 );
+        assertThat( result.flushes() ).isEqualTo( 3 );
+        assertThat( result.generatedKeys() ).isEmpty();
+        assertThat( countEmployees() ).isEqualTo( 25 );
+    }
+
+    @Test
+    void collectsGeneratedKeysOfAllFlushes()
+    {
+        BatchResult<Integer> result = statementUtil.executeBatch(
+                ResultTypes.Integer,
+                "INSERT INTO employees_batch (name) VALUES (?)",
+                names( 5 ).toList(),
+                BatchOptions.flushEvery( 2 )
+        );
+
+        assertThat( result.flushes() ).isEqualTo( 3 );
+        assertThat( result.generatedKeys() ).containsExactly( 1, 2, 3, 4, 5 );
+    }
+
+    @Test
+    void rewritesToMultiRowValues()
+    {
+        BatchResult<Integer> result = statementUtil.executeBatch(
+                ResultTypes.Integer,
+                "INSERT INTO employees_batch (name) VALUES (?)",
+                names( 23 ).toList(),
+                BatchOptions.flushEvery( 10 ).withRowsPerStatement( 5 )
+        );
+
+        // 4 statements of 5 rows in 2 flushes, then 1 statement of 3 rows
+        assertThat( result.flushes() ).isEqualTo( 3 );
+        assertThat( result.rows() ).isEqualTo( 23 );
+        assertThat( result.updateCount() ).isEqualTo( 23 );
+        assertThat( result.generatedKeys() ).hasSize( 23 ).startsWith( 1, 2 ).endsWith( 23 );
+        assertThat( statementUtil.selectInto(
+                "SELECT name FROM employees_batch WHERE id = 23",
+                ResultSetReaders.readOne(),
+                ResultSetMappers.scalar( ResultTypes.String )
+        ) ).isEqualTo( "Employee 23" );
+    }
+
+    @Test
+    void multiRowValuesParsing()
+    {
+        MultiRowValues values = MultiRowValues.parse( "INSERT INTO t (a, b) VALUES (?, f(?, ')')) -- done" );
+        assertThat( values ).isNotNull();
+        assertThat( values.sql( 2 ) ).isEqualTo( "INSERT INTO t (a, b) VALUES (?, f(?, ')')), (?, f(?, ')')) -- done" );
+
+        assertThat( MultiRowValues.parse( "INSERT INTO t (a) SELECT ? FROM dual" ) ).isNull();
+        assertThat( MultiRowValues.parse( "INSERT INTO t (a) VALUES (?), (?)" ) ).isNull();
+        assertThat( MultiRowValues.parse( "UPDATE t SET a = ?" ) ).isNull();
+    }
+
+    @Test
+    void emptyBatch()
+    {
+        BatchResult<Void> result = statementUtil.executeBatch(
+                "INSERT INTO employees_batch (name) VALUES (?)",
+                List.of(),
+                BatchOptions.DEFAULT
+        );
+
+        assertThat( result ).isEqualTo( new BatchResult<Void>( 0, 0, 0, List.of() ) );
+    }
+
+    @Test
+    void rejectsNonPositiveFlushSize()
+    {
+        assertThatThrownBy( () -> BatchOptions.flushEvery( 0 ) )
+                .isInstanceOf( IllegalArgumentException.class );
+    }
+}
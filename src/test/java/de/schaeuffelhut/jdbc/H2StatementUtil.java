@@ -16,6 +16,15 @@ public class H2StatementUtil extends AbstractStatementUtil
     private static final String USER = "sa";
     private static final String PASSWORD = "";
 
+    public H2StatementUtil()
+    {
+    }
+
+    public H2StatementUtil(int statementCacheSize, int metaDataCacheSize)
+    {
+        super( statementCacheSize, metaDataCacheSize );
+    }
+
     public static Connection getConnection() throws SQLException
     {
         return DriverManager.getConnection( JDBC_URL, USER, PASSWORD );
@@ -38,6 +47,12 @@ public class H2StatementUtil extends AbstractStatementUtil
         }
     }
 
+    @Override
+    protected Connection openConnection(String task, String sql) throws SQLException
+    {
+        return getConnection();
+    }
+
     @Override
     protected RuntimeException translate(String task, String sql, SQLException e)
     {
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InArrayTest
+{
+    private static final String SQL = "SELECT name FROM employees_ia WHERE id = ANY(@ids) ORDER BY id";
+
+    private final H2StatementUtil statementUtil = new H2StatementUtil();
+
+    @BeforeEach
+    void setUp()
+    {
+        statementUtil.execute( "CREATE TABLE employees_ia (id INT PRIMARY KEY, name VARCHAR(255))" );
+        statementUtil.execute( "INSERT INTO employees_ia VALUES (1, 'Alice'), (2, 'Bob'), (3, 'Carol')" );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        statementUtil.execute( "DROP TABLE employees_ia" );
+    }
+
+    private List<String> names(StatementInParameter ids)
+    {
+        return statementUtil.selectInto( SQL, ResultSetReaders.readMany(), ResultSetMappers.scalar( ResultTypes.String ), ids );
+    }
+
+    @Test
+    void bindsOneArray()
+    {
+        StatementInParameter ids = StatementParameters.InArray( StatementParameters.Integer, "@ids", List.of( 3, 1 ) );
+
+        assertThat( PreparedStatementUtil.modifySql( SQL, List.of( ids ) ) )
+                .isEqualTo( "SELECT name FROM employees_ia WHERE id = ANY(?) ORDER BY id" );
+        assertThat( names( ids ) ).containsExactly( "Alice", "Carol" );
+        assertThat( names( StatementParameters.InArray( StatementParameters.Integer, "@ids", List.of() ) ) ).isEmpty();
+    }
+
+    @Test
+    void expandsWithoutSqlType()
+    {
+        StatementInParameter ids = StatementParameters.bindValue(
+                StatementParameters.InArray( StatementParameters.Integer, "@ids", (String) null ),
+                List.of( 3, 1 )
+        );
+
+        assertThat( PreparedStatementUtil.modifySql( SQL, List.of( ids ) ) )
+                .isEqualTo( "SELECT name FROM employees_ia WHERE id IN (?,?) ORDER BY id" );
+        assertThat( names( ids ) ).containsExactly( "Alice", "Carol" );
+    }
+
+    @Test
+    void expandsIfDriverLacksArrays() throws SQLException
+    {
+        try (Connection connection = H2StatementUtil.getConnection())
+        {
+            Connection withoutArrays = (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals( "createArrayOf" ))
+                            throw new SQLFeatureNotSupportedException( "createArrayOf" );
+                        try
+                        {
+                            return method.invoke( connection, args );
+                        }
+                        catch (InvocationTargetException e)
+                        {
+                            throw e.getCause();
+                        }
+                    }
+            );
+            StatementUtil withoutArraysUtil = AbstractStatementUtil.createStatementUtilFor( () -> withoutArrays );
+
+            assertThat( withoutArraysUtil.selectInto( SQL, ResultSetReaders.readMany(), ResultSetMappers.scalar( ResultTypes.String ),
+                    StatementParameters.InArray( StatementParameters.Integer, "@ids", List.of( 3, 1 ) ) ) )
+                    .containsExactly( "Alice", "Carol" );
+            assertThat( withoutArraysUtil.prepare( SQL, StatementParameters.InArray( StatementParameters.Integer, "@ids" ) )
+                    .select( ResultSetReaders.readMany(), ResultSetMappers.scalar( ResultTypes.String ) )
+                    .query( List.of( 3, 1 ) ) )
+                    .containsExactly( "Alice", "Carol" );
+        }
+    }
+}
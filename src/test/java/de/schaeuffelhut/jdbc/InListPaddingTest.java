@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InListPaddingTest
+{
+    private final H2StatementUtil statementUtil = new H2StatementUtil();
+
+    @BeforeEach
+    void setUp()
+    {
+        statementUtil.execute( "CREATE TABLE employees_ilp (id INT PRIMARY KEY, name VARCHAR(255))" );
+        statementUtil.execute( "INSERT INTO employees_ilp VALUES (1, 'Alice'), (2, 'Bob'), (3, 'Carol')" );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        statementUtil.execute( "DROP TABLE employees_ilp" );
+    }
+
+    @Test
+    void powersOfTwo()
+    {
+        InListPadding padding = InListPadding.powersOfTwo();
+
+        assertThat( List.of( 0, 1, 2, 3, 4, 5, 9, 1000 ) )
+                .map( padding::pad )
+                .containsExactly( 0, 1, 2, 4, 4, 8, 16, 1024 );
+    }
+
+    @Test
+    void ladder()
+    {
+        InListPadding padding = InListPadding.ladder( 1, 10, 50 );
+
+        assertThat( List.of( 0, 1, 2, 10, 11, 50, 51, 149 ) )
+                .map( padding::pad )
+                .containsExactly( 0, 1, 10, 10, 50, 50, 100, 150 );
+        assertThat( padding ).isEqualTo( InListPadding.ladder( 1, 10, 50 ) );
+        assertThatThrownBy( () -> InListPadding.ladder( 10, 5 ) )
+                .isInstanceOf( IllegalArgumentException.class );
+    }
+
+    @Test
+    void paddingSlotsRepeatTheLastValue()
+    {
+        List<String> names = statementUtil.selectInto(
+                "SELECT name FROM employees_ilp WHERE id IN (@ids) ORDER BY id",
+                ResultSetReaders.readMany(),
+                ResultSetMappers.scalar( ResultTypes.String ),
+                StatementParameters.Collection( StatementParameters.Integer, "@ids", InListPadding.ladder( 8 ), List.of( 3, 1, 2 ) )
+        );
+
+        assertThat( names ).containsExactly( "Alice", "Bob", "Carol" );
+    }
+}
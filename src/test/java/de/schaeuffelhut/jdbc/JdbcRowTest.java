@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uses the mapper and binder generated by {@code jdbc-util-processor}.
+ */
+class JdbcRowTest
+{
+    enum Department
+    {
+        SALES, ENGINEERING
+    }
+
+    @JdbcRow
+    record Employee(long id, String name, Integer age, Department department)
+    {
+    }
+
+    @BeforeAll
+    static void setUpBeforeClass()
+    {
+        new H2StatementUtil().execute(
+                """
+                CREATE TABLE employees_jdbc_row (
+                    id         BIGINT PRIMARY KEY,
+                    name       VARCHAR(255),
+                    age        INT,
+                    department VARCHAR(32)
+                )
+                """
+        );
+    }
+
+    @AfterAll
+    static void tearDownAfterClass()
+    {
+        new H2StatementUtil().execute( "DROP TABLE employees_jdbc_row" );
+    }
+
+    private final StatementUtil statementUtil = new H2StatementUtil();
+
+    @Test
+    void bindsAndMapsInComponentOrder()
+    {
+        List<Employee> employees = List.of(
+                new Employee( 1, "Alice", 42, Department.ENGINEERING ),
+                new Employee( 2, "Bob", null, Department.SALES )
+        );
+        for (Employee employee : employees)
+            statementUtil.execute(
+                    "INSERT INTO employees_jdbc_row (id, name, age, department) VALUES (?, ?, ?, ?)",
+                    JdbcRowTest_EmployeeJdbcRow.parameters( employee )
+            );
+
+        List<Employee> read = statementUtil.selectInto(
+                "SELECT id, name, age, department FROM employees_jdbc_row ORDER BY id",
+                ResultSetReaders.readMany(),
+                JdbcRowTest_EmployeeJdbcRow.MAPPER
+        );
+
+        assertThat( read ).isEqualTo( employees );
+    }
+}
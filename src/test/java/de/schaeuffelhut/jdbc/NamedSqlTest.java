@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NamedSqlTest
+{
+    private static final String SQL = "SELECT name FROM employees_ns WHERE (name = :name OR alias = :name) AND age >= :min_age ORDER BY id";
+
+    private final H2StatementUtil statementUtil = new H2StatementUtil();
+
+    @BeforeEach
+    void setUp()
+    {
+        statementUtil.execute( "CREATE TABLE employees_ns (id INT PRIMARY KEY, name VARCHAR(255), alias VARCHAR(255), age INT)" );
+        statementUtil.execute( "INSERT INTO employees_ns VALUES (1, 'Alice', 'Al', 30), (2, 'Bob', 'Alice', 40), (3, 'Carol', 'Alice', 20)" );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        statementUtil.execute( "DROP TABLE employees_ns" );
+    }
+
+    @Test
+    void compilesOncePerSql()
+    {
+        NamedSql sql = NamedSql.of( SQL );
+
+        assertThat( sql.sql() ).isEqualTo( "SELECT name FROM employees_ns WHERE (name = ? OR alias = ?) AND age >= ? ORDER BY id" );
+        assertThat( sql.names() ).containsExactly( "name", "min_age" );
+        assertThat( sql.markersOf( "name" ) ).containsExactly( 1, 2 );
+        assertThat( NamedSql.of( SQL ) ).isSameAs( sql );
+    }
+
+    @Test
+    void ignoresLiteralsCommentsAndCasts()
+    {
+        NamedSql sql = NamedSql.of( "SELECT ':a', \":b\", c::text /* :d */ FROM t -- :e\nWHERE f = :f" );
+
+        assertThat( sql.sql() ).isEqualTo( "SELECT ':a', \":b\", c::text /* :d */ FROM t -- :e\nWHERE f = ?" );
+        assertThat( sql.names() ).containsExactly( "f" );
+    }
+
+    @Test
+    void bindsFromMap()
+    {
+        NamedSql sql = NamedSql.of( SQL );
+
+        List<String> names = statementUtil.selectInto(
+                sql.sql(),
+                ResultSetReaders.readMany(),
+                ResultSetMappers.scalar( ResultTypes.String ),
+                sql.parameters( Map.of(
+                        "name", StatementParameters.String( "Alice" ),
+                        "min_age", StatementParameters.Integer( 25 )
+                ) )
+        );
+
+        assertThat( names ).containsExactly( "Alice", "Bob" );
+        assertThatThrownBy( () -> sql.parameters( Map.of( "name", StatementParameters.String( "Alice" ) ) ) )
+                .isInstanceOf( IllegalArgumentException.class )
+                .hasMessageStartingWith( "no value for parameter :min_age" );
+    }
+
+    @Test
+    void rejectsParametersModifyingTheSql()
+    {
+        NamedSql sql = NamedSql.of( SQL );
+
+        assertThatThrownBy( () -> sql.parameters( Map.of(
+                "name", StatementParameters.InArray( StatementParameters.String, "@names", List.of( "Alice" ) ),
+                "min_age", StatementParameters.Integer( 25 )
+        ) ) )
+                .isInstanceOf( IllegalArgumentException.class )
+                .hasMessageStartingWith( "parameter :name modifies the SQL" );
+    }
+
+    record Filter(String name, int minAge)
+    {
+    }
+
+    @Test
+    void bindsFromRecord()
+    {
+        NamedSql sql = NamedSql.of( SQL );
+
+        List<String> names = statementUtil.selectInto(
+                sql.sql(),
+                ResultSetReaders.readMany(),
+                ResultSetMappers.scalar( ResultTypes.String ),
+                sql.parameters( new Filter( "Alice", 10 ) )
+        );
+
+        assertThat( names ).containsExactly( "Alice", "Bob", "Carol" );
+    }
+}
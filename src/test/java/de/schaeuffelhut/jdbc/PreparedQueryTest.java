@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PreparedQueryTest
+{
+    private final H2StatementUtil statementUtil = new H2StatementUtil( 16, 16 );
+
+    @BeforeEach
+    void setUp()
+    {
+        statementUtil.execute( "CREATE TABLE employees_pq (id BIGINT PRIMARY KEY, name VARCHAR(255), age INT)" );
+        statementUtil.execute( "INSERT INTO employees_pq VALUES (1, 'Alice', 30), (2, 'Bob', 40), (3, 'Carol', 50)" );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        statementUtil.execute( "DROP TABLE employees_pq" );
+    }
+
+    @Test
+    void queryBindsValuesOfEachExecution()
+    {
+        PreparedQuery.Select<String, Optional<String>> nameById = statementUtil
+                .prepare( "SELECT name FROM employees_pq WHERE id = ?", StatementParameters.Long )
+                .select( ResultSetReaders.readOptional(), ResultSetMappers.scalar( ResultTypes.String ) );
+
+        assertThat( nameById.query( 1L ) ).contains( "Alice" );
+        assertThat( nameById.query( (Object) 2L ) ).contains( "Bob" );
+        assertThat( nameById.query( 4L ) ).isEmpty();
+    }
+
+    @Test
+    void primitiveOverloadFallsBackForOtherTypes()
+    {
+        PreparedQuery.Select<String, List<String>> namesByAge = statementUtil
+                .prepare( "SELECT name FROM employees_pq WHERE age >= ? ORDER BY id", StatementParameters.Object )
+                .select( ResultSetReaders.readMany(), ResultSetMappers.scalar( ResultTypes.String ) );
+
+        assertThat( namesByAge.query( 40 ) ).containsExactly( "Bob", "Carol" );
+    }
+
+    @Test
+    void queryExpandsSqlPerExecution()
+    {
+        PreparedQuery.Select<String, List<String>> namesByIds = statementUtil
+                .prepare( "SELECT name FROM employees_pq WHERE id IN (@ids) ORDER BY id", StatementParameters.Collection( StatementParameters.Long, "@ids" ) )
+                .select( ResultSetReaders.readMany(), ResultSetMappers.scalar( ResultTypes.String ) );
+
+        assertThat( namesByIds.query( List.of( 1L, 3L ) ) ).containsExactly( "Alice", "Carol" );
+        assertThat( namesByIds.query( List.of( 2L ) ) ).containsExactly( "Bob" );
+    }
+
+    @Test
+    void update()
+    {
+        PreparedQuery rename = statementUtil.prepare(
+                "UPDATE employees_pq SET name = ? WHERE id = ?",
+                StatementParameters.String,
+                StatementParameters.Long
+        );
+        PreparedQuery delete = statementUtil.prepare( "DELETE FROM employees_pq WHERE id = ?", StatementParameters.Long );
+
+        assertThat( rename.update( "Alicia", 1L ) ).isEqualTo( 1 );
+        assertThat( delete.update( 2L ) ).isEqualTo( 1 );
+        assertThat( delete.update( 2L ) ).isZero();
+
+        assertThat( statementUtil.selectInto(
+                "SELECT name FROM employees_pq ORDER BY id",
+                ResultSetReaders.readMany(),
+                ResultSetMappers.scalar( ResultTypes.String )
+        ) ).containsExactly( "Alicia", "Carol" );
+    }
+
+    @Test
+    void rejectsWrongNumberOfValues()
+    {
+        PreparedQuery delete = statementUtil.prepare( "DELETE FROM employees_pq WHERE id = ?", StatementParameters.Long );
+
+        assertThatThrownBy( () -> delete.update( 1L, 2L ) )
+                .isInstanceOf( IllegalArgumentException.class )
+                .hasMessage( "expected 1 values, got 2" );
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultColumnsCacheTest
+{
+    private final H2StatementUtil statementUtil = new H2StatementUtil( 0, 16 );
+
+    @BeforeEach
+    void setUp()
+    {
+        statementUtil.execute( "CREATE TABLE employees_rcc (id INT PRIMARY KEY, name VARCHAR(255))" );
+        statementUtil.execute( "INSERT INTO employees_rcc VALUES (1, 'Alice')" );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        statementUtil.execute( "DROP TABLE employees_rcc" );
+    }
+
+    private Map<String, Object> selectAll()
+    {
+        return statementUtil.selectInto(
+                "SELECT * FROM employees_rcc",
+                ResultSetReaders.readOne(),
+                ResultSetMappers.map( ResultTypes.Integer, ResultTypes.String )
+        );
+    }
+
+    @Test
+    void reusesMetaDataUntilInvalidated()
+    {
+        assertThat( selectAll() ).isEqualTo( Map.of( "ID", 1, "NAME", "Alice" ) );
+
+        // the labels of the first execution are reused, although the schema changed
+        statementUtil.execute( "ALTER TABLE employees_rcc ALTER COLUMN name RENAME TO full_name" );
+        assertThat( selectAll() ).isEqualTo( Map.of( "ID", 1, "NAME", "Alice" ) );
+
+        statementUtil.invalidateResultSetMetaData();
+        assertThat( selectAll() ).isEqualTo( Map.of( "ID", 1, "FULL_NAME", "Alice" ) );
+    }
+}
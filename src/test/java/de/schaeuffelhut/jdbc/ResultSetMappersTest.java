@@ -11,6 +11,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 class ResultSetMappersTest
 {
@@ -157,4 +159,228 @@ class ResultSetMappersTest
                 .hasFieldOrPropertyWithValue( "ID", 2 )
                 .hasFieldOrPropertyWithValue( "NAME", "Bob" );
     }
-}
\ No newline at end of file
+
+    public record Employee_object_via_constructor(int id, String name)
+    {
+        public static Employee_object_via_constructor of(Integer id, String name)
+        {
+            return new Employee_object_via_constructor( id, name );
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void object_via_constructor()
+    {
+        var objects = statementUtil.selectInto(
+                """
+                SELECT id, name FROM employees ORDER BY id
+                """,
+                ResultSetReaders.readMany(),
+                ResultSetMappers.objectViaConstructor(
+                        Employee_object_via_constructor.class,
+                        ResultTypes.Integer,
+                        ResultTypes.String
+                )
+        );
+
+        assertThat( objects ).containsExactly(
+                new Employee_object_via_constructor( 1, "Alice" ),
+                new Employee_object_via_constructor( 2, "Bob" )
+        );
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void object_via_static_method()
+    {
+        var object = statementUtil.selectInto(
+                """
+                SELECT id, name FROM employees WHERE id = 2
+                """,
+                ResultSetReaders.readOne(),
+                ResultSetMappers.objectViaStaticMethod(
+                        Employee_object_via_constructor.class,
+                        "of",
+                        ResultTypes.Integer,
+                        ResultTypes.String
+                )
+        );
+
+        assertThat( object ).isEqualTo( new Employee_object_via_constructor( 2, "Bob" ) );
+    }
+
+    @Test
+    void object_via_reflection_reused()
+    {
+        ResultSetMapper<Employee_object_via_method_reference> mapper = ResultSetMappers.objectViaReflection(
+                Employee_object_via_method_reference.class,
+                ResultTypes.String,
+                ResultTypes.Integer
+        );
+
+        for (int id = 1; id <= 2; id++)
+        {
+            var object = statementUtil.selectInto(
+                    "SELECT name, id FROM employees WHERE id = ?",
+                    ResultSetReaders.readOne(),
+                    mapper,
+                    StatementParameters.Integer( id )
+            );
+
+            assertThat( object )
+                    .hasFieldOrPropertyWithValue( "ID", id )
+                    .hasFieldOrPropertyWithValue( "NAME", id == 1 ? "Alice" : "Bob" );
+        }
+    }
+
+    @Test
+    void record()
+    {
+        record Employee(String name, int id, Long missing) { }
+        var objects = statementUtil.selectInto(
+                """
+                SELECT id, 'ignored' AS other, CAST(NULL AS BIGINT) AS missing, name FROM employees ORDER BY id
+                """,
+                ResultSetReaders.readMany(),
+                ResultSetMappers.record( Employee.class )
+        );
+
+        assertThat( objects ).containsExactly(
+                new Employee( "Alice", 1, null ),
+                new Employee( "Bob", 2, null )
+        );
+    }
+
+    @Test
+    void record_binds_snake_case_labels()
+    {
+        record Employee(int employeeId, String employeeName) { }
+        var object = statementUtil.selectInto(
+                """
+                SELECT id AS employee_id, name AS employee_name FROM employees WHERE id = 2
+                """,
+                ResultSetReaders.readOne(),
+                ResultSetMappers.record( Employee.class )
+        );
+
+        assertThat( object ).isEqualTo( new Employee( 2, "Bob" ) );
+    }
+
+    @Test
+    void record_without_column_for_component()
+    {
+        record Employee(int id, String email) { }
+
+        assertThatThrownBy( () -> statementUtil.selectInto(
+                """
+                SELECT id, name FROM employees WHERE id = 2
+                """,
+                ResultSetReaders.readOne(),
+                ResultSetMappers.record( Employee.class )
+        ) ).hasStackTraceContaining( "no column for component email" );
+    }
+
+    @Test
+    void by_label()
+    {
+        record Employee(int id, String name) { }
+        var objects = statementUtil.selectInto(
+                """
+                SELECT name, 'ignored' AS other, id FROM employees ORDER BY id
+                """,
+                ResultSetReaders.readMany(),
+                ResultSetMappers.byLabel(
+                        ResultSetMappers.object( Employee::new, ResultTypes.Integer, ResultTypes.String ),
+                        "Id", "NAME"
+                )
+        );
+
+        assertThat( objects ).containsExactly(
+                new Employee( 1, "Alice" ),
+                new Employee( 2, "Bob" )
+        );
+    }
+
+    @Test
+    void by_label_map()
+    {
+        var object = statementUtil.selectInto(
+                """
+                SELECT name, 'ignored' AS other, id FROM employees WHERE id = 1
+                """,
+                ResultSetReaders.readOne(),
+                ResultSetMappers.byLabel(
+                        ResultSetMappers.map( ResultTypes.Integer, ResultTypes.String ),
+                        "id", "name"
+                )
+        );
+
+        assertThat( object ).containsExactly( entry( "ID", 1 ), entry( "NAME", "Alice" ) );
+    }
+
+    @Test
+    void by_label_record()
+    {
+        record Employee(int id, String name) { }
+        var objects = statementUtil.selectInto(
+                """
+                SELECT name, 'ignored' AS other, id FROM employees ORDER BY id
+                """,
+                ResultSetReaders.readMany(),
+                ResultSetMappers.byLabel( ResultSetMappers.record( Employee.class ), "id", "name" )
+        );
+
+        assertThat( objects ).containsExactly(
+                new Employee( 1, "Alice" ),
+                new Employee( 2, "Bob" )
+        );
+    }
+
+    @Test
+    void by_label_without_column()
+    {
+        assertThatThrownBy( () -> statementUtil.selectInto(
+                """
+                SELECT id, name FROM employees WHERE id = 2
+                """,
+                ResultSetReaders.readOne(),
+                ResultSetMappers.byLabel( ResultSetMappers.scalar( ResultTypes.String ), "email" )
+        ) ).hasStackTraceContaining( "no column labeled email" );
+    }
+
+    @Test
+    void row_with_primitives()
+    {
+        record Employee(int id, String name, long count, double ratio, boolean even) { }
+        Employee object = statementUtil.selectInto(
+                """
+                SELECT id, name, CAST(NULL AS BIGINT), id / 4.0, MOD(id, 2) = 0 FROM employees WHERE id = 2
+                """,
+                ResultSetReaders.readOne(),
+                ResultSetMappers.row( row -> new Employee(
+                        row.getInt( ResultTypes.PrimitiveInt ),
+                        row.get( ResultTypes.String ),
+                        row.getLong( ResultTypes.PrimitiveLong( -1L ) ),
+                        row.getDouble( ResultTypes.PrimitiveDouble ),
+                        row.getBoolean( ResultTypes.PrimitiveBoolean )
+                ) )
+        );
+
+        assertThat( object ).isEqualTo( new Employee( 2, "Bob", -1L, 0.5, true ) );
+    }
+
+    @Test
+    void primitive_rejects_null()
+    {
+        assertThatThrownBy( () -> statementUtil.selectInto(
+                """
+                SELECT CAST(NULL AS INT)
+                """,
+                ResultSetReaders.readOne(),
+                ResultSetMappers.scalar( ResultTypes.PrimitiveInt )
+        ) )
+                .isInstanceOf( NullPointerException.class )
+                .hasMessageContaining( "column 1" );
+    }
+}
@@ -250,4 +250,80 @@ class ResultSetReadersTest
                         new Employees( 2, "Bob" )
                 );
     }
-}
\ No newline at end of file
+
+    @Test
+    void selectInto_readInChunks()
+    {
+        class ChunkConsumer<T> implements Consumer<List<T>>
+        {
+            List<List<T>> chunks = new ArrayList<>();
+            Set<List<T>> buffers = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+            @Override
+            public void accept(List<T> chunk)
+            {
+                chunks.add( List.copyOf( chunk ) );
+                buffers.add( chunk );
+            }
+        }
+        ChunkConsumer<Employees> consumer = statementUtil.selectInto(
+                """
+                SELECT id, name FROM employees
+                UNION ALL
+                SELECT id + 2, name FROM employees
+                UNION ALL
+                SELECT 5, 'Eve'
+                ORDER BY 1
+                """,
+                ResultSetReaders.readInChunks( 2, new ChunkConsumer<>() ),
+                ResultSetMappers.object( Employees::new, ResultTypes.Integer, ResultTypes.String )
+        );
+        assertThat( consumer.chunks ).containsExactly(
+                List.of( new Employees( 1, "Alice" ), new Employees( 2, "Bob" ) ),
+                List.of( new Employees( 3, "Alice" ), new Employees( 4, "Bob" ) ),
+                List.of( new Employees( 5, "Eve" ) )
+        );
+        assertThat( consumer.buffers ).hasSize( 1 );
+    }
+
+    @Test
+    void selectInto_readColumnar()
+    {
+        ColumnarResult result = statementUtil.selectInto(
+                """
+                SELECT id, CASE WHEN id = 1 THEN NULL ELSE id * 10 END, id / 2.0, name
+                FROM employees
+                ORDER BY id
+                """,
+                ResultSetReaders.readColumnar( ResultTypes.Integer, ResultTypes.Long, ResultTypes.PrimitiveDouble, ResultTypes.String ),
+                ResultSetMappers.none()
+        );
+
+        assertThat( result.rowCount() ).isEqualTo( 2 );
+        assertThat( result.columnCount() ).isEqualTo( 4 );
+        assertThat( result.ints( 0 ) ).containsExactly( 1, 2 );
+        assertThat( result.longs( 1 ) ).containsExactly( 0L, 20L );
+        assertThat( result.isNull( 1, 0 ) ).isTrue();
+        assertThat( result.isNull( 1, 1 ) ).isFalse();
+        assertThat( result.doubles( 2 ) ).containsExactly( 0.5, 1.0 );
+        assertThat( result.objects( 3 ) ).containsExactly( "Alice", "Bob" );
+    }
+
+    @Test
+    void selectInto_readColumnar_substitutesNull()
+    {
+        ColumnarResult result = statementUtil.selectInto(
+                """
+                SELECT CASE WHEN id = 1 THEN NULL ELSE id * 10 END
+                FROM employees
+                ORDER BY id
+                """,
+                ResultSetReaders.readColumnar( ResultTypes.PrimitiveLong( -1L ) ),
+                ResultSetMappers.none()
+        );
+
+        assertThat( result.longs( 0 ) ).containsExactly( -1L, 20L );
+        assertThat( result.isNull( 0, 0 ) ).isTrue();
+        assertThat( result.isNull( 0, 1 ) ).isFalse();
+    }
+}
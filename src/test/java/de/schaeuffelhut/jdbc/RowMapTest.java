@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowMapTest
+{
+    private final RowMap.Keys keys = new RowMap.Keys( new String[]{"ID", "NAME", "ID", "AGE"} );
+
+    private RowMap row(Object... columnValues)
+    {
+        Object[] values = new Object[keys.size()];
+        for (int column = 0; column < columnValues.length; column++)
+            values[keys.slot( column )] = columnValues[column];
+        return new RowMap( keys, values );
+    }
+
+    private static Map<String, Object> hashMap(Object... keysAndValues)
+    {
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2)
+            map.put( (String) keysAndValues[i], keysAndValues[i + 1] );
+        return map;
+    }
+
+    @Test
+    void equalsHashMapWithSameEntries()
+    {
+        RowMap row = row( 1, null, 2, 42 );
+
+        // the last of duplicate labels wins, as with HashMap.put
+        Map<String, Object> expected = hashMap( "ID", 2, "NAME", null, "AGE", 42 );
+        assertThat( row ).isEqualTo( expected ).hasSameHashCodeAs( expected );
+        assertThat( expected ).isEqualTo( row );
+        assertThat( row ).containsKey( "NAME" ).doesNotContainKey( "name" );
+        assertThat( row.keySet() ).containsExactly( "ID", "NAME", "AGE" );
+    }
+
+    @Test
+    void isMutable()
+    {
+        RowMap row = row( 1, "Alice", 1, 42 );
+
+        assertThat( row.put( "NAME", "Bob" ) ).isEqualTo( "Alice" );
+        assertThat( row.remove( "AGE" ) ).isEqualTo( 42 );
+        assertThat( row.put( "DEPARTMENT", "SALES" ) ).isNull();
+        assertThat( row ).isEqualTo( hashMap( "ID", 1, "NAME", "Bob", "DEPARTMENT", "SALES" ) );
+
+        assertThat( row.put( "AGE", 43 ) ).isNull();
+        assertThat( row ).hasSize( 4 ).containsEntry( "AGE", 43 );
+
+        row.clear();
+        assertThat( row ).isEmpty();
+    }
+
+    @Test
+    void entriesWriteThrough()
+    {
+        RowMap row = row( 1, "Alice", 1, 42 );
+        row.put( "DEPARTMENT", "SALES" );
+
+        for (Iterator<Map.Entry<String, Object>> iterator = row.entrySet().iterator(); iterator.hasNext(); )
+        {
+            Map.Entry<String, Object> entry = iterator.next();
+            if (entry.getKey().equals( "NAME" ) || entry.getKey().equals( "DEPARTMENT" ))
+                iterator.remove();
+            else
+                entry.setValue( 0 );
+        }
+
+        assertThat( row ).isEqualTo( hashMap( "ID", 0, "AGE", 0 ) );
+    }
+
+    @Test
+    void serializesAsLinkedHashMap() throws IOException, ClassNotFoundException
+    {
+        RowMap row = row( 1, "Alice", 1, 42 );
+        row.put( "DEPARTMENT", "SALES" );
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream( bytes ))
+        {
+            out.writeObject( row );
+        }
+        Object copy;
+        try (ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ))
+        {
+            copy = in.readObject();
+        }
+
+        assertThat( copy ).isInstanceOf( LinkedHashMap.class ).isEqualTo( row );
+        assertThat( ((Map<?, ?>) copy).keySet() ).containsExactly( "ID", "NAME", "AGE", "DEPARTMENT" );
+    }
+}
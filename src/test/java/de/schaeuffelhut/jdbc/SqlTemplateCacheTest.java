@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static de.schaeuffelhut.jdbc.Utils.asIterable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlTemplateCacheTest
+{
+    @BeforeEach
+    void clearCache()
+    {
+        SqlTemplateCache.clear();
+    }
+
+    @Test
+    void fixedArityParametersLeaveSqlUntouched()
+    {
+        String sql = "SELECT * FROM employees WHERE id = ? AND name = ?";
+
+        String modified = PreparedStatementUtil.modifySql( sql, asIterable( new StatementInParameter[]{
+                StatementParameters.Integer( 1 ),
+                StatementParameters.String( "Alice" )
+        } ) );
+
+        assertThat( modified ).isSameAs( sql );
+        assertThat( SqlTemplateCache.size() ).isZero();
+    }
+
+    @Test
+    void expandedSqlIsCachedBySize()
+    {
+        String sql = "SELECT * FROM employees WHERE id IN (@ids) AND name = ?";
+
+        String first = PreparedStatementUtil.modifySql( sql, List.of(
+                StatementParameters.Collection( StatementParameters.Integer, "@ids", List.of( 1, 2, 3 ) ),
+                StatementParameters.String( "Alice" )
+        ) );
+        String second = PreparedStatementUtil.modifySql( sql, List.of(
+                StatementParameters.Collection( StatementParameters.Integer, "@ids", List.of( 4, 5, 6 ) ),
+                StatementParameters.String( "Bob" )
+        ) );
+        String third = PreparedStatementUtil.modifySql( sql, List.of(
+                StatementParameters.Collection( StatementParameters.Integer, "@ids", List.of( 7 ) ),
+                StatementParameters.String( "Bob" )
+        ) );
+
+        assertThat( first ).isEqualTo( "SELECT * FROM employees WHERE id IN (?,?,?) AND name = ?" );
+        assertThat( second ).isSameAs( first );
+        assertThat( third ).isEqualTo( "SELECT * FROM employees WHERE id IN (?) AND name = ?" );
+        assertThat( SqlTemplateCache.size() ).isEqualTo( 2 );
+    }
+
+    @Test
+    void nestedArraysAreDistinguishedByElementShapes()
+    {
+        StatementInParameterType<Integer[]> subArray = StatementParameters.Array( StatementParameters.Integer, "@subarray" );
+        String sql = "SELECT @array";
+
+        String a = PreparedStatementUtil.modifySql( sql, List.of(
+                StatementParameters.Array( subArray, "@array", "@subarray", new Integer[]{1, 2}, new Integer[]{3} )
+        ) );
+        String b = PreparedStatementUtil.modifySql( sql, List.of(
+                StatementParameters.Array( subArray, "@array", "@subarray", new Integer[]{1}, new Integer[]{2, 3} )
+        ) );
+
+        assertThat( a ).isEqualTo( "SELECT ?,?,?" );
+        assertThat( b ).isEqualTo( "SELECT ?,?,?" );
+        assertThat( SqlTemplateCache.size() ).isEqualTo( 2 );
+    }
+
+    @Test
+    void paddedListsShareOneTemplatePerBucket()
+    {
+        String sql = "SELECT * FROM employees WHERE id IN (@ids)";
+        InListPadding padding = InListPadding.powersOfTwo();
+
+        String three = PreparedStatementUtil.modifySql( sql, List.of(
+                StatementParameters.Collection( StatementParameters.Integer, "@ids", padding, List.of( 1, 2, 3 ) )
+        ) );
+        String four = PreparedStatementUtil.modifySql( sql, List.of(
+                StatementParameters.Array( StatementParameters.Integer, "@ids", padding, 1, 2, 3, 4 )
+        ) );
+        String five = PreparedStatementUtil.modifySql( sql, List.of(
+                StatementParameters.Collection( StatementParameters.Integer, "@ids", padding, List.of( 1, 2, 3, 4, 5 ) )
+        ) );
+
+        assertThat( three ).isEqualTo( "SELECT * FROM employees WHERE id IN (?,?,?,?)" );
+        assertThat( four ).isEqualTo( three );
+        assertThat( five ).isEqualTo( "SELECT * FROM employees WHERE id IN (?,?,?,?,?,?,?,?)" );
+    }
+
+    @Test
+    void unknownShapeIsNotCached()
+    {
+        StatementInParameter custom = new StatementInParameter()
+        {
+            @Override
+            public String modify(String sql)
+            {
+                return sql.replace( "@table", "employees" );
+            }
+
+            @Override
+            public int configure(java.sql.PreparedStatement stmt, int index)
+            {
+                return 0;
+            }
+        };
+
+        String modified = PreparedStatementUtil.modifySql( "SELECT * FROM @table", List.of( custom ) );
+
+        assertThat( modified ).isEqualTo( "SELECT * FROM employees" );
+        assertThat( SqlTemplateCache.size() ).isZero();
+    }
+}
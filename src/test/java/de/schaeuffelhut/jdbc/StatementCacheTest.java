@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import de.schaeuffelhut.jdbc.AbstractStatementUtil.StatementCacheStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatementCacheTest
+{
+    private final AtomicReference<Connection> connection = new AtomicReference<>();
+    private AbstractStatementUtil statementUtil;
+
+    @BeforeEach
+    void setUp() throws SQLException
+    {
+        connection.set( H2StatementUtil.getConnection() );
+        statementUtil = AbstractStatementUtil.createStatementUtilFor( connection::get, 2 );
+        statementUtil.execute( "CREATE TABLE employees_sc (id INT PRIMARY KEY, name VARCHAR(255))" );
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException
+    {
+        new H2StatementUtil().execute( "DROP TABLE employees_sc" );
+        connection.get().close();
+    }
+
+    private String selectName(int id)
+    {
+        return statementUtil.selectInto(
+                "SELECT name FROM employees_sc WHERE id = ?",
+                ResultSetReaders.readOptional(),
+                ResultSetMappers.scalar( ResultTypes.String ),
+                StatementParameters.Integer( id )
+        ).orElse( null );
+    }
+
+    @Test
+    void reusesStatementForSameSql()
+    {
+        statementUtil.execute( "INSERT INTO employees_sc VALUES (?, ?)", StatementParameters.Integer( 1 ), StatementParameters.String( "Alice" ) );
+        statementUtil.execute( "INSERT INTO employees_sc VALUES (?, ?)", StatementParameters.Integer( 2 ), StatementParameters.String( "Bob" ) );
+
+        assertThat( selectName( 1 ) ).isEqualTo( "Alice" );
+        assertThat( selectName( 2 ) ).isEqualTo( "Bob" );
+
+        // CREATE, INSERT and SELECT were prepared once each
+        assertThat( statementUtil.getStatementCacheStatistics() )
+                .isEqualTo( new StatementCacheStatistics( 2, 3, 1 ) );
+    }
+
+    @Test
+    void reusesBatchStatement()
+    {
+        String sql = "INSERT INTO employees_sc VALUES (?, ?)";
+        statementUtil.executeBatch( sql, List.of(
+                new StatementInParameter[]{StatementParameters.Integer( 1 ), StatementParameters.String( "Alice" )},
+                new StatementInParameter[]{StatementParameters.Integer( 2 ), StatementParameters.String( "Bob" )}
+        ) );
+        statementUtil.executeBatch( sql, List.<StatementInParameter[]>of(
+                new StatementInParameter[]{StatementParameters.Integer( 3 ), StatementParameters.String( "Carol" )}
+        ) );
+
+        assertThat( statementUtil.getStatementCacheStatistics().hits() ).isEqualTo( 1 );
+        assertThat( statementUtil.selectInto(
+                "SELECT COUNT(*) FROM employees_sc",
+                ResultSetReaders.readOne(),
+                ResultSetMappers.scalar( ResultTypes.Integer )
+        ) ).isEqualTo( 3 );
+    }
+
+    @Test
+    void dropsStatementsOfClosedConnection() throws SQLException
+    {
+        statementUtil.execute( "INSERT INTO employees_sc VALUES (?, ?)", StatementParameters.Integer( 1 ), StatementParameters.String( "Alice" ) );
+        assertThat( selectName( 1 ) ).isEqualTo( "Alice" );
+
+        connection.getAndSet( H2StatementUtil.getConnection() ).close();
+
+        assertThat( selectName( 1 ) ).isEqualTo( "Alice" );
+        assertThat( statementUtil.getStatementCacheStatistics().hits() ).isZero();
+    }
+
+    @Test
+    void keepsStatementsCachedAcrossCalls()
+    {
+        statementUtil.execute( "INSERT INTO employees_sc VALUES (?, ?)", StatementParameters.Integer( 1 ), StatementParameters.String( "Alice" ) );
+        assertThat( selectName( 1 ) ).isEqualTo( "Alice" );
+
+        try (Stream<String> names = statementUtil.stream(
+                "SELECT name FROM employees_sc WHERE id = ?",
+                ResultSetMappers.scalar( ResultTypes.String ),
+                StatementParameters.Integer( 1 ) ))
+        {
+            assertThat( names ).containsExactly( "Alice" );
+        }
+        StatementCacheStatistics before = statementUtil.getStatementCacheStatistics();
+
+        assertThat( selectName( 1 ) ).isEqualTo( "Alice" );
+        assertThat( statementUtil.getStatementCacheStatistics().hits() ).isEqualTo( before.hits() + 1 );
+        assertThat( statementUtil.getStatementCacheStatistics().misses() ).isEqualTo( before.misses() );
+    }
+
+    @Test
+    void forgetsConnectionsClosedWithoutInvalidate() throws SQLException
+    {
+        StatementCache statementCache = new StatementCache( 2 );
+        try (Connection other = H2StatementUtil.getConnection())
+        {
+            StatementCache.prepare( statementCache, other, "SELECT 1", null ).close();
+        }
+        assertThat( statementCache.connections() ).isEqualTo( 1 );
+
+        StatementCache.prepare( statementCache, connection.get(), "SELECT 1", null ).close();
+        assertThat( statementCache.connections() ).isEqualTo( 1 );
+
+        statementCache.invalidate( connection.get() );
+        assertThat( statementCache.connections() ).isZero();
+    }
+
+    @Test
+    void rejectsNegativeSize()
+    {
+        assertThatThrownBy( () -> AbstractStatementUtil.createStatementUtilFor( connection::get, -1 ) )
+                .isInstanceOf( IllegalArgumentException.class );
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The default methods of {@link StatementUtil}, as seen by implementations not extending {@link AbstractStatementUtil}.
+ */
+class StatementUtilDefaultsTest
+{
+    private final StatementUtil statementUtil = withDefaults( new H2StatementUtil() );
+
+    /**
+     * Implements the abstract methods by {@code delegate}, leaving the default methods as they are.
+     */
+    private static StatementUtil withDefaults(StatementUtil delegate)
+    {
+        return (StatementUtil) Proxy.newProxyInstance(
+                StatementUtil.class.getClassLoader(),
+                new Class<?>[]{StatementUtil.class},
+                (proxy, method, args) -> method.isDefault()
+                        ? InvocationHandler.invokeDefault( proxy, method, args )
+                        : method.invoke( delegate, args )
+        );
+    }
+
+    @BeforeEach
+    void setUp()
+    {
+        statementUtil.execute( "CREATE TABLE employees_def (id INT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255))" );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        statementUtil.execute( "DROP TABLE employees_def" );
+    }
+
+    private static Stream<StatementInParameter[]> names(int count)
+    {
+        return IntStream.rangeClosed( 1, count )
+                .mapToObj( i -> new StatementInParameter[]{StatementParameters.String( "Employee " + i )} );
+    }
+
+    @Test
+    void executeBatchFlushesPerCall()
+    {
+        Stream<StatementInParameter[]> rows = names( 25 );
+
+        BatchResult<Void> result = statementUtil.executeBatch(
+                "INSERT INTO employees_def (name) VALUES (?)",
+                rows::iterator,
+                BatchOptions.flushEvery( 10 )
+        );
+
+        assertThat( result ).isEqualTo( new BatchResult<>( 25, 25, 3, List.of() ) );
+    }
+
+    @Test
+    void executeBatchCollectsGeneratedKeys()
+    {
+        BatchResult<Integer> result = statementUtil.executeBatch(
+                ResultTypes.Integer,
+                "INSERT INTO employees_def (name) VALUES (?)",
+                names( 5 ).toList(),
+                BatchOptions.flushEvery( 2 )
+        );
+
+        assertThat( result.rows() ).isEqualTo( 5 );
+        assertThat( result.updateCount() ).isZero();
+        assertThat( result.flushes() ).isEqualTo( 3 );
+        assertThat( result.generatedKeys() ).containsExactly( 1, 2, 3, 4, 5 );
+    }
+
+    @Test
+    void streamIsUnsupported()
+    {
+        assertThatThrownBy( () -> statementUtil.stream(
+                "SELECT name FROM employees_def",
+                ResultSetMappers.scalar( ResultTypes.String ) ) )
+                .isInstanceOf( UnsupportedOperationException.class );
+    }
+
+    @Test
+    void prepareExecutesWithBoundValues()
+    {
+        PreparedQuery insert = statementUtil.prepare( "INSERT INTO employees_def (name) VALUES (?)", StatementParameters.String );
+        PreparedQuery.Select<String, Optional<String>> nameById = statementUtil
+                .prepare( "SELECT name FROM employees_def WHERE id = ?", StatementParameters.Integer )
+                .select( ResultSetReaders.readOptional(), ResultSetMappers.scalar( ResultTypes.String ) );
+
+        assertThat( insert.update( "Alice" ) ).isEqualTo( 1 );
+        assertThat( nameById.query( 1 ) ).contains( "Alice" );
+        assertThat( nameById.query( 2 ) ).isEmpty();
+    }
+}
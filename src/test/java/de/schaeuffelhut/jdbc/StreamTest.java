@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamTest
+{
+    @BeforeAll
+    static void setUpBeforeClass()
+    {
+        StatementUtil statementUtil = new H2StatementUtil();
+        statementUtil.execute(
+                """
+                CREATE TABLE employees_stream (
+                    id   INT PRIMARY KEY,
+                    name VARCHAR(255)
+                );
+                INSERT INTO employees_stream (id, name)
+                    SELECT X, 'Employee ' || X FROM SYSTEM_RANGE(1, 1000);
+                """
+        );
+    }
+
+    @AfterAll
+    static void tearDownAfterClass()
+    {
+        new H2StatementUtil().execute( "DROP TABLE employees_stream" );
+    }
+
+    record Employee(int id, String name)
+    {
+    }
+
+    /**
+     * Records the connections it hands out and which of them were released.
+     */
+    static class RecordingStatementUtil extends H2StatementUtil
+    {
+        final List<Connection> opened = new ArrayList<>();
+        final List<Connection> released = new ArrayList<>();
+
+        @Override
+        protected Connection openConnection(String task, String sql) throws SQLException
+        {
+            Connection connection = super.openConnection( task, sql );
+            opened.add( connection );
+            return connection;
+        }
+
+        @Override
+        protected void releaseConnection(Connection connection, String task, String sql) throws SQLException
+        {
+            released.add( connection );
+            super.releaseConnection( connection, task, sql );
+        }
+    }
+
+    private final RecordingStatementUtil statementUtil = new RecordingStatementUtil();
+
+    private Stream<Employee> streamEmployees()
+    {
+        return statementUtil.stream(
+                "SELECT id, name FROM employees_stream ORDER BY id",
+                ResultSetMappers.object( Employee::new, ResultTypes.Integer, ResultTypes.String ),
+                StatementParameters.FetchSize( 100 )
+        );
+    }
+
+    @Test
+    void streamsAllRows()
+    {
+        try (Stream<Employee> employees = streamEmployees())
+        {
+            assertThat( employees.map( Employee::id ).collect( Collectors.toList() ) )
+                    .hasSize( 1000 )
+                    .startsWith( 1, 2, 3 )
+                    .endsWith( 1000 );
+        }
+        assertThat( statementUtil.released ).isEqualTo( statementUtil.opened ).hasSize( 1 );
+    }
+
+    @Test
+    void fetchesRowsOnDemand() throws SQLException
+    {
+        try (Stream<Employee> employees = streamEmployees())
+        {
+            Iterator<Employee> iterator = employees.iterator();
+            assertThat( iterator.next() ).isEqualTo( new Employee( 1, "Employee 1" ) );
+            assertThat( iterator.next() ).isEqualTo( new Employee( 2, "Employee 2" ) );
+
+            // the connection stays open while the stream is being consumed
+            assertThat( statementUtil.released ).isEmpty();
+            assertThat( statementUtil.opened.get( 0 ).isClosed() ).isFalse();
+        }
+        assertThat( statementUtil.opened.get( 0 ).isClosed() ).isTrue();
+    }
+
+    @Test
+    void interleavedStreamsShareOneMapper()
+    {
+        ResultSetMapper<Map<String, Object>> mapper = ResultSetMappers.map( ResultTypes.Integer, ResultTypes.String );
+        try (
+                Stream<Map<String, Object>> byId = statementUtil.stream(
+                        "SELECT id AS employee_id, name AS employee_name FROM employees_stream ORDER BY id",
+                        mapper
+                );
+                Stream<Map<String, Object>> byName = statementUtil.stream(
+                        "SELECT id AS pk, name FROM employees_stream ORDER BY id DESC",
+                        mapper
+                )
+        )
+        {
+            Iterator<Map<String, Object>> first = byId.iterator();
+            Iterator<Map<String, Object>> second = byName.iterator();
+
+            // each stream keeps the labels of its own query, although the second one was opened last
+            assertThat( first.next() ).isEqualTo( Map.of( "EMPLOYEE_ID", 1, "EMPLOYEE_NAME", "Employee 1" ) );
+            assertThat( second.next() ).isEqualTo( Map.of( "PK", 1000, "NAME", "Employee 1000" ) );
+            assertThat( first.next() ).isEqualTo( Map.of( "EMPLOYEE_ID", 2, "EMPLOYEE_NAME", "Employee 2" ) );
+        }
+    }
+
+    record Name(String employeeName)
+    {
+    }
+
+    record NamedEmployee(int id, Name name)
+    {
+    }
+
+    @Test
+    void interleavedStreamsShareOneNestedMapper()
+    {
+        ResultSetMapper<NamedEmployee> mapper = ResultSetMappers.object(
+                NamedEmployee::new,
+                ResultTypes.Integer,
+                ResultTypes.mapper( Name.class, ResultSetMappers.record( Name.class ) )
+        );
+        try (
+                Stream<NamedEmployee> byId = statementUtil.stream(
+                        "SELECT id, name AS employee_name FROM employees_stream ORDER BY id",
+                        mapper
+                );
+                Stream<NamedEmployee> byIdDesc = statementUtil.stream(
+                        "SELECT id, 'n/a' AS title, name AS employee_name FROM employees_stream ORDER BY id DESC",
+                        mapper
+                )
+        )
+        {
+            Iterator<NamedEmployee> first = byId.iterator();
+            Iterator<NamedEmployee> second = byIdDesc.iterator();
+
+            // the nested mapper is bound per result set, although both have a different shape
+            assertThat( first.next() ).isEqualTo( new NamedEmployee( 1, new Name( "Employee 1" ) ) );
+            assertThat( second.next() ).isEqualTo( new NamedEmployee( 1000, new Name( "Employee 1000" ) ) );
+            assertThat( first.next() ).isEqualTo( new NamedEmployee( 2, new Name( "Employee 2" ) ) );
+            assertThat( second.next() ).isEqualTo( new NamedEmployee( 999, new Name( "Employee 999" ) ) );
+        }
+    }
+
+    @Test
+    void rejectsStreamWithoutOpenConnection()
+    {
+        AbstractStatementUtil unsupported = new AbstractStatementUtil()
+        {
+            @Override
+            protected <R, E extends Exception> R execute(Transactional<R, E> transactional, String task, String sql)
+            {
+                return statementUtil.execute( transactional, task, sql );
+            }
+
+            @Override
+            protected RuntimeException translate(String task, String sql, SQLException e)
+            {
+                return new RuntimeException( e );
+            }
+        };
+
+        assertThatThrownBy( () -> unsupported.stream(
+                "SELECT id, name FROM employees_stream",
+                ResultSetMappers.object( Employee::new, ResultTypes.Integer, ResultTypes.String ) ) )
+                .isInstanceOf( UnsupportedOperationException.class )
+                .hasMessageContaining( "openConnection" );
+        assertThat( statementUtil.opened ).isEmpty();
+    }
+
+    @Test
+    void releasesConnectionIfQueryFails()
+    {
+        assertThatThrownBy( () -> statementUtil.stream(
+                "SELECT no_such_column FROM employees_stream",
+                ResultSetMappers.scalar( ResultTypes.Integer )
+        ) ).isInstanceOf( RuntimeException.class );
+
+        assertThat( statementUtil.released ).isEqualTo( statementUtil.opened ).hasSize( 1 );
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TempTableTest
+{
+    private static final String SQL = "SELECT name FROM employees_tt WHERE id IN (@ids) ORDER BY id";
+
+    private final H2StatementUtil statementUtil = new H2StatementUtil( 16, 0 );
+    private final TempTable tempTable = TempTable.of( "tmp_ids", "INT" ).withThreshold( 2 );
+
+    @BeforeEach
+    void setUp()
+    {
+        statementUtil.execute( "CREATE TABLE employees_tt (id INT PRIMARY KEY, name VARCHAR(255))" );
+        statementUtil.execute( "INSERT INTO employees_tt VALUES (1, 'Alice'), (2, 'Bob'), (3, 'Carol'), (4, 'Dave')" );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        statementUtil.execute( "DROP TABLE employees_tt" );
+    }
+
+    private List<String> names(List<Integer> ids)
+    {
+        return statementUtil.selectInto(
+                SQL,
+                ResultSetReaders.readMany(),
+                ResultSetMappers.scalar( ResultTypes.String ),
+                StatementParameters.Collection( StatementParameters.Integer, "@ids", tempTable, ids )
+        );
+    }
+
+    @Test
+    void largeCollectionsAreJoinedAgainstTempTable()
+    {
+        StatementInParameter ids = StatementParameters.Collection( StatementParameters.Integer, "@ids", tempTable, List.of( 4, 1, 3 ) );
+
+        assertThat( PreparedStatementUtil.modifySql( SQL, List.of( ids ) ) )
+                .isEqualTo( "SELECT name FROM employees_tt WHERE id IN (SELECT v FROM tmp_ids) ORDER BY id" );
+        assertThat( names( List.of( 4, 1, 3 ) ) ).containsExactly( "Alice", "Carol", "Dave" );
+    }
+
+    @Test
+    void smallCollectionsAreExpanded()
+    {
+        StatementInParameter ids = StatementParameters.Collection( StatementParameters.Integer, "@ids", tempTable, List.of( 2, 3 ) );
+
+        assertThat( PreparedStatementUtil.modifySql( SQL, List.of( ids ) ) )
+                .isEqualTo( "SELECT name FROM employees_tt WHERE id IN (?,?) ORDER BY id" );
+        assertThat( names( List.of( 2, 3 ) ) ).containsExactly( "Bob", "Carol" );
+    }
+
+    @Test
+    void tableIsEmptiedBeforeLoading()
+    {
+        long sum = statementUtil.execute( connection -> {
+            StatementParameters.Collection( StatementParameters.Integer, "@ids", tempTable, List.of( 1, 2, 3 ) ).prepareConnection( connection );
+            StatementParameters.Collection( StatementParameters.Integer, "@ids", tempTable, List.of( 3, 4, 5 ) ).prepareConnection( connection );
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery( "SELECT SUM(v) FROM tmp_ids" ))
+            {
+                resultSet.next();
+                return resultSet.getLong( 1 );
+            }
+        } );
+
+        assertThat( sum ).isEqualTo( 12 );
+    }
+
+    @Test
+    void loadingKeepsTransactionOpen() throws SQLException
+    {
+        try (Connection connection = H2StatementUtil.getConnection())
+        {
+            connection.setAutoCommit( false );
+            StatementUtil transactional = AbstractStatementUtil.createStatementUtilFor( () -> connection );
+
+            transactional.execute( "DELETE FROM employees_tt WHERE id = 2" );
+            assertThat( transactional.selectInto(
+                    SQL,
+                    ResultSetReaders.readMany(),
+                    ResultSetMappers.scalar( ResultTypes.String ),
+                    StatementParameters.Collection( StatementParameters.Integer, "@ids", tempTable, List.of( 1, 2, 3 ) )
+            ) ).containsExactly( "Alice", "Carol" );
+
+            // the loaded rows are deleted after the query
+            assertThat( transactional.selectInto(
+                    "SELECT COUNT(*) FROM tmp_ids",
+                    ResultSetReaders.readOne(),
+                    ResultSetMappers.scalar( ResultTypes.Integer )
+            ) ).isZero();
+
+            connection.rollback();
+        }
+
+        assertThat( names( List.of( 1, 2, 3 ) ) ).containsExactly( "Alice", "Bob", "Carol" );
+    }
+}
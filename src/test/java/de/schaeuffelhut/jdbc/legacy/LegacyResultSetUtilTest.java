@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 the JdbcUtil authors
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.schaeuffelhut.jdbc.legacy;
+
+import de.schaeuffelhut.jdbc.ColumnIndex;
+import de.schaeuffelhut.jdbc.H2StatementUtil;
+import de.schaeuffelhut.jdbc.ResultType;
+import de.schaeuffelhut.jdbc.ResultTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("deprecation")
+class LegacyResultSetUtilTest
+{
+    public static class Employee
+    {
+        final int id;
+        final String name;
+
+        public Employee(int id, String name)
+        {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    public static class Failing
+    {
+        public Failing(Integer id, String name)
+        {
+            if ("error".equals( name ))
+                throw new Error( name );
+            throw new IllegalStateException( name );
+        }
+    }
+
+    /**
+     * Reads an {@code INTEGER} column, declaring {@code int} as its type.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final ResultType<Integer> PRIMITIVE_INT = new ResultType<>()
+    {
+        @Override
+        public Integer getResult(ResultSet resultSet, ColumnIndex columnIndex) throws SQLException
+        {
+            return ResultTypes.Integer.getResult( resultSet, columnIndex );
+        }
+
+        @Override
+        public Class<Integer> getResultType()
+        {
+            return (Class) int.class;
+        }
+    };
+
+    private Connection connection;
+    private Statement statement;
+
+    @BeforeEach
+    void setUp() throws SQLException
+    {
+        connection = H2StatementUtil.getConnection();
+        statement = connection.createStatement();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException
+    {
+        statement.close();
+        connection.close();
+    }
+
+    private ResultSet query(String sql) throws SQLException
+    {
+        ResultSet resultSet = statement.executeQuery( sql );
+        assertThat( resultSet.next() ).isTrue();
+        return resultSet;
+    }
+
+    @Test
+    void readsObjectByConstructor() throws SQLException
+    {
+        Employee employee = LegacyResultSetUtil.readObjectByConstructor(
+                query( "SELECT 1, 'Alice'" ), Employee.class, PRIMITIVE_INT, ResultTypes.String );
+
+        assertThat( employee.id ).isEqualTo( 1 );
+        assertThat( employee.name ).isEqualTo( "Alice" );
+    }
+
+    @Test
+    void reportsNullForPrimitiveAsIllegalArgument() throws SQLException
+    {
+        ResultSet resultSet = query( "SELECT CAST(NULL AS INT), 'Alice'" );
+
+        assertThatThrownBy( () -> LegacyResultSetUtil.readObjectByConstructor( resultSet, Employee.class, PRIMITIVE_INT, ResultTypes.String ) )
+                .isExactlyInstanceOf( RuntimeException.class )
+                .cause()
+                .isInstanceOf( IllegalArgumentException.class )
+                .hasMessage( "argument 1: cannot pass null as int" );
+    }
+
+    @Test
+    void wrapsExceptionOfConstructor() throws SQLException
+    {
+        ResultSet resultSet = query( "SELECT 1, 'boom'" );
+
+        assertThatThrownBy( () -> LegacyResultSetUtil.readObjectByConstructor( resultSet, Failing.class, ResultTypes.Integer, ResultTypes.String ) )
+                .isExactlyInstanceOf( RuntimeException.class )
+                .hasCauseInstanceOf( InvocationTargetException.class )
+                .rootCause()
+                .isInstanceOf( IllegalStateException.class )
+                .hasMessage( "boom" );
+    }
+
+    @Test
+    void wrapsErrorOfConstructor() throws SQLException
+    {
+        ResultSet resultSet = query( "SELECT 1, 'error'" );
+
+        assertThatThrownBy( () -> LegacyResultSetUtil.readObjectByConstructor( resultSet, Failing.class, ResultTypes.Integer, ResultTypes.String ) )
+                .isExactlyInstanceOf( RuntimeException.class )
+                .hasCauseInstanceOf( InvocationTargetException.class )
+                .rootCause()
+                .isExactlyInstanceOf( Error.class )
+                .hasMessage( "error" );
+    }
+}